@@ -4,12 +4,14 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.elasticsearch.repository.config.EnableElasticsearchRepositories;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 @SpringBootApplication
 @EnableJpaRepositories(basePackages = "com.swayam.bugwise.repository.jpa")
 @EnableElasticsearchRepositories(basePackages = "com.swayam.bugwise.repository.elasticsearch")
 @EnableTransactionManagement
+@EnableScheduling
 public class BugwiseApplication {
 
 	public static void main(String[] args) {
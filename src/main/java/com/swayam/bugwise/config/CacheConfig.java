@@ -0,0 +1,62 @@
+package com.swayam.bugwise.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swayam.bugwise.service.OrganizationService;
+import com.swayam.bugwise.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             StringRedisTemplate stringRedisTemplate,
+                                             ObjectMapper objectMapper,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${bugwise.cache.redis.ttl-minutes:30}") long redisTtlMinutes,
+                                             @Value("${bugwise.cache.local.max-size:1000}") long localMaxSize,
+                                             @Value("${bugwise.cache.local.ttl-seconds:60}") long localTtlSeconds,
+                                             @Value("${bugwise.cache.organization-stats.ttl-seconds:60}") long statsTtlSeconds,
+                                             @Value("${bugwise.cache.descendant-counts.ttl-seconds:300}") long descendantCountTtlSeconds) {
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofMinutes(redisTtlMinutes));
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults)
+                .withCacheConfiguration(OrganizationService.STATS_CACHE,
+                        defaults.entryTtl(Duration.ofSeconds(statsTtlSeconds)))
+                .withCacheConfiguration(UserService.DESCENDANT_COUNT_CACHE,
+                        defaults.entryTtl(Duration.ofSeconds(descendantCountTtlSeconds)))
+                .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoLevelCacheManager(
+                redisCacheManager,
+                stringRedisTemplate,
+                objectMapper,
+                meterRegistry,
+                localMaxSize,
+                Duration.ofSeconds(localTtlSeconds));
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
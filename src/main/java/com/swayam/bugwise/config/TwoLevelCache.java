@@ -0,0 +1,169 @@
+package com.swayam.bugwise.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * A size-bounded Caffeine cache (L1) in front of a Redis cache (L2). Local entries are keyed by
+ * the string form of the cache key, the same form Redis uses, so remote invalidations can find them.
+ */
+public class TwoLevelCache implements Cache {
+    private final String name;
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local;
+    private final BiConsumer<String, Object> invalidationPublisher;
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter localEvictions;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter remoteEvictions;
+    private final Counter remoteInvalidations;
+
+    public TwoLevelCache(String name,
+                         Cache remote,
+                         long localMaxSize,
+                         Duration localTtl,
+                         BiConsumer<String, Object> invalidationPublisher,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+
+        this.localHits = gets(meterRegistry, "l1", "hit");
+        this.localMisses = gets(meterRegistry, "l1", "miss");
+        this.remoteHits = gets(meterRegistry, "l2", "hit");
+        this.remoteMisses = gets(meterRegistry, "l2", "miss");
+        this.localEvictions = evictions(meterRegistry, "l1");
+        this.remoteEvictions = evictions(meterRegistry, "l2");
+        this.remoteInvalidations = Counter.builder("bugwise.cache.invalidations")
+                .description("L1 entries dropped because another node changed them")
+                .tag("cache", name)
+                .register(meterRegistry);
+
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .evictionListener((String key, ValueWrapper value, RemovalCause cause) -> localEvictions.increment())
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = key.toString();
+        ValueWrapper cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            localHits.increment();
+            return cached;
+        }
+        localMisses.increment();
+
+        ValueWrapper value = remote.get(key);
+        if (value == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        local.put(localKey, value);
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(key.toString(), new SimpleValueWrapper(value));
+        invalidationPublisher.accept(name, key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(key.toString());
+        remoteEvictions.increment();
+        invalidationPublisher.accept(name, key);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        remoteEvictions.increment();
+        invalidationPublisher.accept(name, null);
+    }
+
+    void evictLocal(String key) {
+        local.invalidate(key);
+        remoteInvalidations.increment();
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+        remoteInvalidations.increment();
+    }
+
+    private Counter gets(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("bugwise.cache.gets")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter evictions(MeterRegistry meterRegistry, String tier) {
+        return Counter.builder("bugwise.cache.evictions")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+}
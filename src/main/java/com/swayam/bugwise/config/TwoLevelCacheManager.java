@@ -0,0 +1,101 @@
+package com.swayam.bugwise.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Hands out {@link TwoLevelCache}s and keeps the L1 tier of every node coherent: each put, evict
+ * or clear is broadcast on {@link #INVALIDATION_CHANNEL}, and the other nodes drop their local copy.
+ * A lost message is bounded by the L1 time-to-live.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+    public static final String INVALIDATION_CHANNEL = "bugwise:cache:invalidation";
+
+    record InvalidationMessage(String nodeId, String cacheName, String key) {
+    }
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisCacheManager redisCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                StringRedisTemplate redisTemplate,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                long localMaxSize,
+                                Duration localTtl) {
+        this.redisCacheManager = redisCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> new TwoLevelCache(
+                cacheName,
+                redisCacheManager.getCache(cacheName),
+                localMaxSize,
+                localTtl,
+                this::publishInvalidation,
+                meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private void publishInvalidation(String cacheName, Object key) {
+        try {
+            String payload = objectMapper.writeValueAsString(
+                    new InvalidationMessage(nodeId, cacheName, key != null ? key.toString() : null));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, payload);
+        } catch (Exception e) {
+            log.warn("Failed to publish cache invalidation for {}::{}", cacheName, key, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            InvalidationMessage invalidation = objectMapper.readValue(message.getBody(), InvalidationMessage.class);
+            if (nodeId.equals(invalidation.nodeId())) {
+                return;
+            }
+            TwoLevelCache cache = caches.get(invalidation.cacheName());
+            if (cache == null) {
+                return;
+            }
+            if (invalidation.key() == null) {
+                cache.clearLocal();
+            } else {
+                cache.evictLocal(invalidation.key());
+            }
+        } catch (Exception e) {
+            log.warn("Ignoring malformed cache invalidation message", e);
+        }
+    }
+}
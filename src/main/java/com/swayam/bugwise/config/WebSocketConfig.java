@@ -1,9 +1,15 @@
 package com.swayam.bugwise.config;
 
+import com.swayam.bugwise.security.ProjectSubscriptionInterceptor;
 import com.swayam.bugwise.security.WebSocketAuthInterceptor;
+import com.swayam.bugwise.service.ProjectStatsStreamService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
@@ -16,6 +22,7 @@ import org.springframework.web.socket.config.annotation.WebSocketTransportRegist
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final WebSocketAuthInterceptor webSocketAuthInterceptor;
+    private final ProjectSubscriptionInterceptor projectSubscriptionInterceptor;
     private final Environment environment;
 
     @Override
@@ -34,7 +41,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(webSocketAuthInterceptor);
+        registration.interceptors(webSocketAuthInterceptor, projectSubscriptionInterceptor);
     }
 
     @Override
@@ -44,4 +51,13 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registration.setSendTimeLimit(20000);
     }
 
+    @Bean
+    public RedisMessageListenerContainer projectStatsListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       ProjectStatsStreamService projectStatsStreamService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(projectStatsStreamService, new ChannelTopic(ProjectStatsStreamService.STATS_CHANNEL));
+        return container;
+    }
+
 }
\ No newline at end of file
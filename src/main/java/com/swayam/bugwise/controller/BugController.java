@@ -3,7 +3,11 @@ package com.swayam.bugwise.controller;
 import com.swayam.bugwise.dto.*;
 import com.swayam.bugwise.enums.BugSeverity;
 import com.swayam.bugwise.enums.BugStatus;
+import com.swayam.bugwise.enums.BugType;
 import com.swayam.bugwise.service.AIAnalysisService;
+import com.swayam.bugwise.service.BugBulkService;
+import com.swayam.bugwise.service.BugPatchService;
+import com.swayam.bugwise.service.BugSearchService;
 import com.swayam.bugwise.service.BugService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -11,12 +15,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/bugs")
@@ -25,6 +33,9 @@ import java.util.List;
 public class BugController {
     private final BugService bugService;
     private final AIAnalysisService aiAnalysisService;
+    private final BugSearchService bugSearchService;
+    private final BugBulkService bugBulkService;
+    private final BugPatchService bugPatchService;
 
     @PostMapping
     @PreAuthorize("hasAnyRole('TESTER', 'DEVELOPER', 'PROJECT_MANAGER')")
@@ -40,6 +51,13 @@ public class BugController {
         return ResponseEntity.ok().build();
     }
 
+    @PatchMapping(value = "/{bugId}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    @PreAuthorize("hasAnyRole('DEVELOPER', 'PROJECT_MANAGER')")
+    public ResponseEntity<Void> patchBug(@PathVariable String bugId, @RequestBody Map<String, Object> patch, Authentication authentication) {
+        bugPatchService.patchBug(bugId, patch, authentication.getName());
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/{bugId}")
     public ResponseEntity<BugDTO> getBug(@PathVariable String bugId) {
         return ResponseEntity.ok(bugService.getBug(bugId));
@@ -51,6 +69,12 @@ public class BugController {
         return ResponseEntity.ok(bugService.updateBugStatus(bugId, status, authentication.getName()));
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('PROJECT_MANAGER')")
+    public ResponseEntity<BulkBugUpdateResponseDTO> updateBugs(@Valid @RequestBody BulkBugUpdateRequestDTO request, Authentication authentication) {
+        return ResponseEntity.ok(bugBulkService.updateBugs(request, authentication.getName()));
+    }
+
     @GetMapping("/project/{projectId}/search")
     public ResponseEntity<Page<BugDTO>> searchBugsInProject(
             @PathVariable String projectId,
@@ -59,7 +83,66 @@ public class BugController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(bugService.searchBugsInProject(projectId, searchTerm, status, pageable));
+        return ResponseEntity.ok(bugSearchService.searchPage(projectId, searchTerm, status, pageable));
+    }
+
+    @GetMapping("/project/{projectId}/search/hits")
+    public ResponseEntity<BugSearchPageDTO> searchBugHitsInProject(
+            @PathVariable String projectId,
+            @RequestParam(required = false) String searchTerm,
+            @RequestParam(required = false) List<BugStatus> status,
+            @RequestParam(required = false) List<BugSeverity> severity,
+            @RequestParam(defaultValue = BugSearchService.SORT_RELEVANCE) String sort,
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(bugSearchService.search(
+                projectId, searchTerm, status, severity, sort, direction, cursor, size));
+    }
+
+    @GetMapping("/project/{projectId}/suggest")
+    public ResponseEntity<List<TitleSuggestionDTO>> suggestBugTitles(
+            @PathVariable String projectId,
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "8") int size) {
+        return ResponseEntity.ok(bugSearchService.suggestTitles(projectId, prefix, size));
+    }
+
+    @GetMapping("/project/{projectId}/duplicates")
+    public ResponseEntity<List<DuplicateCandidateDTO>> findDuplicateCandidates(
+            @PathVariable String projectId,
+            @RequestParam String title,
+            @RequestParam(required = false) String description) {
+        return ResponseEntity.ok(bugService.findDuplicateCandidates(projectId, title, description));
+    }
+
+    @GetMapping("/project/{projectId}/facets")
+    public ResponseEntity<FacetedSearchDTO> getBugFacets(
+            @PathVariable String projectId,
+            @RequestParam(required = false) String searchTerm,
+            @RequestParam(required = false) List<BugStatus> status,
+            @RequestParam(required = false) List<BugSeverity> severity,
+            @RequestParam(required = false) List<BugType> bugType,
+            @RequestParam(required = false) List<String> assignee,
+            @RequestParam(required = false) List<String> organization,
+            @RequestParam(defaultValue = "20") int size) {
+        Map<String, List<String>> selections = new HashMap<>();
+        if (status != null) {
+            selections.put("status", status.stream().map(Enum::name).toList());
+        }
+        if (severity != null) {
+            selections.put("severity", severity.stream().map(Enum::name).toList());
+        }
+        if (bugType != null) {
+            selections.put("bugType", bugType.stream().map(Enum::name).toList());
+        }
+        if (assignee != null) {
+            selections.put("assignee", assignee);
+        }
+        if (organization != null) {
+            selections.put("organization", organization);
+        }
+        return ResponseEntity.ok(bugSearchService.facetedSearch(projectId, searchTerm, selections, size));
     }
 
     @GetMapping("/project/{projectId}/assigned")
@@ -100,6 +183,22 @@ public class BugController {
         return ResponseEntity.ok(bugService.getBugsForUser(authentication.getName(), pageable));
     }
 
+    @GetMapping("/my-bugs/latest/cursor")
+    public ResponseEntity<CursorPageDTO<BugDTO>> getMyBugsByCursor(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") int size) {
+        return ResponseEntity.ok(bugService.getBugsForUser(authentication.getName(), cursor, size));
+    }
+
+    @GetMapping("/project/{projectId}/bugs")
+    public ResponseEntity<CursorPageDTO<BugDTO>> getProjectBugs(
+            @PathVariable String projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(bugService.getBugsInProject(projectId, cursor, size));
+    }
+
     @GetMapping("/my-bugs/assigned")
     public ResponseEntity<Page<BugDTO>> getMyAssignedBugs(
             Authentication authentication,
@@ -109,6 +208,11 @@ public class BugController {
         return ResponseEntity.ok(bugService.getAssignedBugsForDeveloper(authentication.getName(), pageable));
     }
 
+    @GetMapping("/my-bugs/work")
+    public ResponseEntity<MyWorkDTO> getMyWork(Authentication authentication) {
+        return ResponseEntity.ok(bugService.getMyWork(authentication.getName()));
+    }
+
     @GetMapping("/my-bugs/statistics")
     public ResponseEntity<List<BugStatisticsDTO>> getMyBugStatistics(Authentication authentication) {
         return ResponseEntity.ok(bugService.getBugStatisticsForUser(authentication.getName()));
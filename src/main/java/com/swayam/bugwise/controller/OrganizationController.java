@@ -2,16 +2,31 @@ package com.swayam.bugwise.controller;
 
 import com.swayam.bugwise.dto.*;
 import com.swayam.bugwise.entity.User;
+import com.swayam.bugwise.enums.BugFileFormat;
 import com.swayam.bugwise.repository.jpa.UserRepository;
+import com.swayam.bugwise.service.BugExportService;
+import com.swayam.bugwise.service.BugImportService;
+import com.swayam.bugwise.service.BurndownService;
 import com.swayam.bugwise.service.OrganizationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -23,6 +38,9 @@ import java.util.Set;
 public class OrganizationController {
     private final OrganizationService organizationService;
     private final UserRepository userRepository;
+    private final BugExportService bugExportService;
+    private final BugImportService bugImportService;
+    private final BurndownService burndownService;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -41,6 +59,47 @@ public class OrganizationController {
         return ResponseEntity.ok(organizationService.getOrganization(organizationId, user));
     }
 
+    @GetMapping("/{organizationId}/bugs/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportBugs(
+            @PathVariable String organizationId,
+            @RequestParam(defaultValue = "CSV") BugFileFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            Authentication authentication) {
+        bugExportService.validateExportAccess(organizationId, authentication.getName());
+
+        String extension = format == BugFileFormat.CSV ? "csv" : "ndjson";
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format == BugFileFormat.CSV
+                        ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : new MediaType("application", "x-ndjson", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"bugs-" + organizationId + "." + extension + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(bugExportService.exportOrganizationBugs(organizationId, format, gzip));
+    }
+
+    @PostMapping(value = "/{organizationId}/bugs/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BugImportJobDTO> importBugs(
+            @PathVariable String organizationId,
+            @RequestParam(defaultValue = "CSV") BugFileFormat format,
+            @RequestParam("file") MultipartFile file,
+            Authentication authentication) {
+        BugImportJobDTO job = bugImportService.startImport(organizationId, format, file, authentication.getName());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @GetMapping("/{organizationId}/bugs/import/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BugImportJobDTO> getImportJob(
+            @PathVariable String organizationId,
+            @PathVariable String jobId) {
+        return ResponseEntity.ok(bugImportService.getImportJob(organizationId, jobId));
+    }
+
     @GetMapping("/my-organizations")
     public ResponseEntity<List<OrganizationDTO>> getMyOrganizations(Authentication authentication) {
         List<OrganizationDTO> organizations = organizationService.getOrganizationsForUser(authentication.getName());
@@ -97,7 +156,22 @@ public class OrganizationController {
 
     @GetMapping("/stats")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<OrganizationStatsDTO>> getOrganizationStats() {
-        return ResponseEntity.ok(organizationService.getOrganizationStats());
+    public ResponseEntity<Page<OrganizationStatsDTO>> getOrganizationStats(
+            @PageableDefault(size = 50, sort = "name") Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean includeBugCounts) {
+        return ResponseEntity.ok(organizationService.getOrganizationStats(pageable, includeBugCounts));
+    }
+
+    @GetMapping("/{organizationId}/burndown")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<BurndownPointDTO>> getOrganizationBurndown(
+            @PathVariable String organizationId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication authentication) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(364);
+        return ResponseEntity.ok(burndownService.getOrganizationBurndown(organizationId, start, end,
+                authentication.getName()));
     }
-}
\ No newline at end of file
+}
@@ -2,16 +2,21 @@ package com.swayam.bugwise.controller;
 
 import com.swayam.bugwise.dto.*;
 import com.swayam.bugwise.entity.Project;
+import com.swayam.bugwise.service.BugAnalyticsService;
+import com.swayam.bugwise.service.BurndownService;
+import com.swayam.bugwise.service.DeveloperWorkloadService;
 import com.swayam.bugwise.service.ProjectService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
@@ -20,6 +25,9 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class ProjectController {
     private final ProjectService projectService;
+    private final BugAnalyticsService bugAnalyticsService;
+    private final BurndownService burndownService;
+    private final DeveloperWorkloadService developerWorkloadService;
 
     @PostMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_MANAGER')")
@@ -91,4 +99,35 @@ public class ProjectController {
         List<ProjectStatsDTO> stats = projectService.getProjectStats(authentication.getName());
         return ResponseEntity.ok(stats);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{projectId}/analytics")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_MANAGER')")
+    public ResponseEntity<BugAnalyticsDTO> getProjectAnalytics(
+            @PathVariable String projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication authentication) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return ResponseEntity.ok(bugAnalyticsService.getProjectAnalytics(projectId, start, end, authentication.getName()));
+    }
+
+    @GetMapping("/{projectId}/burndown")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_MANAGER')")
+    public ResponseEntity<List<BurndownPointDTO>> getProjectBurndown(
+            @PathVariable String projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication authentication) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(364);
+        return ResponseEntity.ok(burndownService.getProjectBurndown(projectId, start, end, authentication.getName()));
+    }
+
+    @GetMapping("/{projectId}/workload")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_MANAGER')")
+    public ResponseEntity<List<DeveloperWorkloadDTO>> getTeamWorkload(@PathVariable String projectId,
+                                                                      Authentication authentication) {
+        return ResponseEntity.ok(developerWorkloadService.getTeamWorkload(projectId, authentication.getName()));
+    }
+}
@@ -0,0 +1,22 @@
+package com.swayam.bugwise.controller;
+
+import com.swayam.bugwise.dto.ProjectStatsUpdateDTO;
+import com.swayam.bugwise.service.ProjectStatsStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+@Controller
+@RequiredArgsConstructor
+public class ProjectStatsStreamController {
+    private final ProjectStatsStreamService projectStatsStreamService;
+
+    /**
+     * Replies once with the current counts; live changes follow on {@code /topic/project.{id}.stats}.
+     */
+    @SubscribeMapping("/project.{projectId}.stats")
+    public ProjectStatsUpdateDTO subscribeToProjectStats(@DestinationVariable String projectId) {
+        return projectStatsStreamService.snapshot(projectId);
+    }
+}
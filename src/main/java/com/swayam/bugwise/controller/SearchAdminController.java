@@ -0,0 +1,47 @@
+package com.swayam.bugwise.controller;
+
+import com.swayam.bugwise.dto.DriftReportDTO;
+import com.swayam.bugwise.dto.ReindexJobDTO;
+import com.swayam.bugwise.service.BugReindexService;
+import com.swayam.bugwise.service.SearchDriftService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/admin/search")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class SearchAdminController {
+    private final BugReindexService bugReindexService;
+    private final SearchDriftService searchDriftService;
+
+    @PostMapping("/reindex")
+    public ResponseEntity<ReindexJobDTO> startReindex() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(bugReindexService.startReindex());
+    }
+
+    @PostMapping("/reindex/{jobId}/resume")
+    public ResponseEntity<ReindexJobDTO> resumeReindex(@PathVariable String jobId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(bugReindexService.resumeReindex(jobId));
+    }
+
+    @GetMapping("/reindex/{jobId}")
+    public ResponseEntity<ReindexJobDTO> getReindexJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(bugReindexService.getReindexJob(jobId));
+    }
+
+    @PostMapping("/drift/check")
+    public ResponseEntity<DriftReportDTO> checkDrift() {
+        return ResponseEntity.ok(searchDriftService.checkAndRepair());
+    }
+
+    @PostMapping("/migrate/assignees")
+    public ResponseEntity<Map<String, Long>> migrateAssignees() {
+        return ResponseEntity.ok(Map.of("requeued", searchDriftService.requeueLegacyAssigneeDocuments()));
+    }
+}
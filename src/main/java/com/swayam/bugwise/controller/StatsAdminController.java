@@ -0,0 +1,24 @@
+package com.swayam.bugwise.controller;
+
+import com.swayam.bugwise.service.BugCounterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/admin/stats")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class StatsAdminController {
+    private final BugCounterService bugCounterService;
+
+    @PostMapping("/counters/repair")
+    public ResponseEntity<Map<String, Integer>> repairCounters() {
+        return ResponseEntity.ok(Map.of("projects", bugCounterService.repairAll()));
+    }
+}
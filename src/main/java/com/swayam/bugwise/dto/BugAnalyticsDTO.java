@@ -0,0 +1,24 @@
+package com.swayam.bugwise.dto;
+
+import com.swayam.bugwise.enums.BugStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BugAnalyticsDTO {
+    private String projectId;
+    private LocalDate from;
+    private LocalDate to;
+    private long resolvedCount;
+    private long reopenedCount;
+    private double reopenRate;
+    private double mttrHours;
+    private StatusDurationDTO resolutionTime;
+    private Map<BugStatus, StatusDurationDTO> timeInStatus;
+}
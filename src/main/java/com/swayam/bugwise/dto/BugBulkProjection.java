@@ -0,0 +1,23 @@
+package com.swayam.bugwise.dto;
+
+import com.swayam.bugwise.enums.BugSeverity;
+import com.swayam.bugwise.enums.BugStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row per bug and assigned developer, carrying only what a bulk update needs to validate
+ * and notify.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BugBulkProjection {
+    private String id;
+    private String projectId;
+    private BugStatus status;
+    private BugSeverity severity;
+    private String projectManagerEmail;
+    private String developerEmail;
+}
@@ -37,4 +37,5 @@ public class BugDTO implements Serializable {
     private LocalDateTime updatedAt;
     private Integer actualTimeHours;
     private Integer expectedTimeHours;
+    private String duplicateOfId;
 }
@@ -0,0 +1,49 @@
+package com.swayam.bugwise.dto;
+
+import com.swayam.bugwise.enums.BugSeverity;
+import com.swayam.bugwise.enums.BugStatus;
+import com.swayam.bugwise.enums.BugType;
+import com.swayam.bugwise.enums.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BugDetailsProjection {
+    private String id;
+    private String title;
+    private String description;
+    private BugStatus status;
+    private BugType bugType;
+    private BugSeverity severity;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Integer actualTimeHours;
+    private Integer expectedTimeHours;
+
+    private String projectId;
+    private String projectName;
+    private String projectDescription;
+
+    private String organizationId;
+    private String organizationName;
+
+    private String projectManagerId;
+    private String projectManagerEmail;
+
+    private String reportedById;
+    private UserRole reportedByRole;
+    private String reportedByEmail;
+    private String reportedByFirstName;
+    private String reportedByLastName;
+
+    private String developerId;
+    private UserRole developerRole;
+    private String developerEmail;
+    private String developerFirstName;
+    private String developerLastName;
+}
@@ -0,0 +1,25 @@
+package com.swayam.bugwise.dto;
+
+import com.swayam.bugwise.enums.ImportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BugImportJobDTO {
+    private String id;
+    private String organizationId;
+    private ImportJobStatus status;
+    private long processed;
+    private long imported;
+    private long failed;
+    private List<String> errors;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String errorMessage;
+}
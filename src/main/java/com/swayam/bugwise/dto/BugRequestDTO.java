@@ -3,6 +3,7 @@ package com.swayam.bugwise.dto;
 import com.swayam.bugwise.enums.BugSeverity;
 import com.swayam.bugwise.enums.BugType;
 import com.swayam.bugwise.enums.DeveloperType;
+import com.swayam.bugwise.enums.DuplicatePolicy;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
@@ -26,4 +27,5 @@ public class BugRequestDTO {
     private BugType bugType;
     private Integer expectedTimeHours;
     private Integer actualTimeHours;
+    private DuplicatePolicy duplicatePolicy;
 }
@@ -0,0 +1,17 @@
+package com.swayam.bugwise.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BugSearchHitDTO {
+    private BugDTO bug;
+    private Float score;
+    private Map<String, List<String>> highlights;
+}
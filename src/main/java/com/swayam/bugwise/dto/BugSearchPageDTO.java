@@ -0,0 +1,19 @@
+package com.swayam.bugwise.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BugSearchPageDTO {
+    private List<BugSearchHitDTO> hits;
+    private long totalHits;
+    private boolean totalHitsExact;
+    private String nextCursor;
+    private boolean hasNext;
+    private String servedBy;
+}
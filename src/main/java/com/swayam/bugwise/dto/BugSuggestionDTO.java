@@ -6,22 +6,25 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Set;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class BugSuggestionDTO {
+public class BugSuggestionDTO implements Serializable {
     private String bugId;
     private BugType suggestedBugType;
     private String suggestedSeverity;
     private Set<DeveloperType> requiredDeveloperTypes;
     private int estimatedTimeHours;
     private List<DeveloperSuggestionDTO> suggestedDevelopers;
+    // True when a stage timed out or failed and its default was used instead.
+    private boolean partial;
 
     @Data
-    public static class DeveloperSuggestionDTO {
+    public static class DeveloperSuggestionDTO implements Serializable {
         private String userId;
         private String email;
         private DeveloperType developerType;
@@ -0,0 +1,14 @@
+package com.swayam.bugwise.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkBugResultDTO {
+    private String bugId;
+    private boolean success;
+    private String error;
+}
@@ -0,0 +1,18 @@
+package com.swayam.bugwise.dto;
+
+import com.swayam.bugwise.enums.BugStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkBugUpdateRequestDTO {
+    @NotEmpty(message = "At least one bug ID is required")
+    @Size(max = 500, message = "At most 500 bugs can be updated at once")
+    private List<String> bugIds;
+
+    private BugStatus status;
+    private List<String> developerEmails;
+}
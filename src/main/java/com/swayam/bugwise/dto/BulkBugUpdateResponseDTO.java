@@ -0,0 +1,16 @@
+package com.swayam.bugwise.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkBugUpdateResponseDTO {
+    private int updated;
+    private int failed;
+    private List<BulkBugResultDTO> results;
+}
@@ -0,0 +1,24 @@
+package com.swayam.bugwise.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BurndownPointDTO {
+    private LocalDate day;
+    private Long newCount;
+    private Long openCount;
+    private Long inProgressCount;
+    private Long resolvedCount;
+    private Long closedCount;
+    private Long reopenedCount;
+    private Long openCritical;
+    private Long openHigh;
+    private Long openMedium;
+    private Long openLow;
+}
@@ -0,0 +1,22 @@
+package com.swayam.bugwise.dto;
+
+import com.swayam.bugwise.enums.BugSeverity;
+import com.swayam.bugwise.enums.DeveloperType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeveloperWorkloadDTO {
+    private String developerId;
+    private String email;
+    private String firstName;
+    private String lastName;
+    private DeveloperType developerType;
+    private long openBugs;
+    private Map<BugSeverity, Long> openBugsBySeverity;
+}
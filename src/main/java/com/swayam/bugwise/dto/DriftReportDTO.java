@@ -0,0 +1,16 @@
+package com.swayam.bugwise.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DriftReportDTO {
+    private long projectsChecked;
+    private long mismatchedProjects;
+    private long mismatchedBuckets;
+    private long mismatchedDocuments;
+    private long durationMillis;
+}
@@ -0,0 +1,17 @@
+package com.swayam.bugwise.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetedSearchDTO {
+    private List<BugSearchHitDTO> hits;
+    private long totalHits;
+    private Map<String, List<FacetBucketDTO>> facets;
+}
@@ -0,0 +1,15 @@
+package com.swayam.bugwise.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MyWorkDTO {
+    private long totalOpen;
+    private List<ProjectWorkDTO> projects;
+}
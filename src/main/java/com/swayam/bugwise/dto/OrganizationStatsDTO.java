@@ -1,11 +1,22 @@
 package com.swayam.bugwise.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
 
 @Data
-public class OrganizationStatsDTO {
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationStatsDTO implements Serializable {
     private String organizationId;
     private String organizationName;
-    private int projectCount;
-    private int memberCount;
-}
\ No newline at end of file
+    private long projectCount;
+    private long memberCount;
+    private Long bugCount;
+
+    public OrganizationStatsDTO(String organizationId, String organizationName, long projectCount, long memberCount) {
+        this(organizationId, organizationName, projectCount, memberCount, null);
+    }
+}
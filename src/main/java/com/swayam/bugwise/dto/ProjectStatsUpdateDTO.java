@@ -0,0 +1,20 @@
+package com.swayam.bugwise.dto;
+
+import com.swayam.bugwise.enums.BugStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Message on {@code /topic/project.{id}.stats} and reply to {@code /app/project.{id}.stats}:
+ * the project's absolute bug counts per status.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStatsUpdateDTO {
+    private String projectId;
+    private Map<BugStatus, Long> counts;
+}
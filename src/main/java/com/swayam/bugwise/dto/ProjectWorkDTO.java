@@ -0,0 +1,19 @@
+package com.swayam.bugwise.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectWorkDTO {
+    private String projectId;
+    private String projectName;
+    private long openCount;
+    private Map<String, Long> openBySeverity;
+    private List<BugDTO> bugs;
+}
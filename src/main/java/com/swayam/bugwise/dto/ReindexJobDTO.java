@@ -0,0 +1,23 @@
+package com.swayam.bugwise.dto;
+
+import com.swayam.bugwise.enums.ReindexJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReindexJobDTO {
+    private String id;
+    private String targetIndex;
+    private ReindexJobStatus status;
+    private String lastBugId;
+    private long indexedCount;
+    private double documentsPerSecond;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String errorMessage;
+}
@@ -0,0 +1,14 @@
+package com.swayam.bugwise.dto;
+
+import com.swayam.bugwise.enums.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoleCountDTO {
+    private UserRole role;
+    private Long count;
+}
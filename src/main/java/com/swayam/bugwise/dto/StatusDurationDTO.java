@@ -0,0 +1,15 @@
+package com.swayam.bugwise.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusDurationDTO {
+    private long samples;
+    private double p50Hours;
+    private double p90Hours;
+    private double p99Hours;
+}
@@ -0,0 +1,15 @@
+package com.swayam.bugwise.dto;
+
+import com.swayam.bugwise.enums.BugStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TitleSuggestionDTO {
+    private String id;
+    private String title;
+    private BugStatus status;
+}
@@ -35,4 +35,8 @@ public abstract class BaseEntity implements Serializable {
 
     @LastModifiedBy
     private String modifiedBy;
+
+    @Version
+    @Column(columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long version;
 }
\ No newline at end of file
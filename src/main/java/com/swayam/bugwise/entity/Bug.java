@@ -20,7 +20,10 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "bugs")
+@Table(name = "bugs", indexes = {
+        @Index(name = "idx_bugs_project_created_id", columnList = "project_id, created_at, id"),
+        @Index(name = "idx_bugs_created_id", columnList = "created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -49,7 +52,8 @@ public class Bug extends BaseEntity {
     @JoinTable(
             name = "bug_developers",
             joinColumns = @JoinColumn(name = "bug_id"),
-            inverseJoinColumns = @JoinColumn(name = "developer_id")
+            inverseJoinColumns = @JoinColumn(name = "developer_id"),
+            indexes = @Index(name = "idx_bug_developers_developer", columnList = "developer_id")
     )
     @JsonManagedReference("bug-assigned-developers")
     private Set<User> assignedDeveloper = new HashSet<>();
@@ -72,6 +76,9 @@ public class Bug extends BaseEntity {
     @Column(name = "actual_time_hours")
     private Integer actualTimeHours;
 
+    @Column(name = "duplicate_of_id", columnDefinition = "VARCHAR(36)")
+    private String duplicateOfId;
+
 //    @ElementCollection
 //    @CollectionTable(name = "bug_required_developer_types", joinColumns = @JoinColumn(name = "bug_id"))
 //    @Column(name = "developer_type")
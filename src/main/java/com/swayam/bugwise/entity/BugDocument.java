@@ -10,10 +10,13 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
 import org.springframework.data.elasticsearch.annotations.DateFormat;
 import org.springframework.data.elasticsearch.annotations.ValueConverter;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Document(indexName = "bugs", createIndex = true)
@@ -22,9 +25,13 @@ import java.util.List;
 @NoArgsConstructor
 public class BugDocument {
     @Id
+    @Field(type = FieldType.Keyword)
     private String id;
 
-    @Field(type = FieldType.Text, analyzer = "english")
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, analyzer = "english"),
+            otherFields = @InnerField(suffix = "suggest", type = FieldType.Search_As_You_Type)
+    )
     private String title;
 
     @Field(type = FieldType.Text, analyzer = "english")
@@ -42,11 +49,11 @@ public class BugDocument {
     @Field(type = FieldType.Text)
     private String projectName;
 
-    @Field(type = FieldType.Keyword)
-    private String assignedDeveloperId;
+    @Field(name = "assignedDeveloperId", type = FieldType.Keyword)
+    private List<String> assignedDeveloperIds = new ArrayList<>();
 
-    @Field(type = FieldType.Text)
-    private String assignedDeveloperEmail;
+    @Field(name = "assignedDeveloperEmail", type = FieldType.Text)
+    private List<String> assignedDeveloperEmails = new ArrayList<>();
 
     @Field(type = FieldType.Keyword)
     private String reportedById;
@@ -69,6 +76,9 @@ public class BugDocument {
     @Field(type = FieldType.Integer)
     private Integer actualTimeHours;
 
+    @Field(type = FieldType.Integer)
+    private Integer fingerprint;
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -0,0 +1,48 @@
+package com.swayam.bugwise.entity;
+
+import com.swayam.bugwise.enums.ImportJobStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "bug_import_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+public class BugImportJob extends BaseEntity {
+    @Column(nullable = false, columnDefinition = "VARCHAR(36)")
+    private String organizationId;
+
+    @Column(nullable = false)
+    private String importedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportJobStatus status = ImportJobStatus.RUNNING;
+
+    private long processedCount;
+
+    private long importedCount;
+
+    private long failedCount;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "bug_import_job_errors", joinColumns = @JoinColumn(name = "job_id"))
+    @OrderColumn(name = "position")
+    @Column(name = "message", length = 1000)
+    private List<String> errors = new ArrayList<>();
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    @Column(length = 1000)
+    private String errorMessage;
+}
@@ -0,0 +1,29 @@
+package com.swayam.bugwise.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "bug_index_outbox")
+public class BugIndexOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 36)
+    private String bugId;
+
+    @Column(nullable = false)
+    private LocalDateTime enqueuedAt;
+
+    public BugIndexOutbox(String bugId) {
+        this.bugId = bugId;
+        this.enqueuedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,55 @@
+package com.swayam.bugwise.entity;
+
+import com.swayam.bugwise.enums.BugStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only log of bug status transitions. {@code fromStatus} is null for the entry written
+ * when a bug is created.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "bug_status_history", indexes = {
+        @Index(name = "idx_bug_status_history_bug", columnList = "bug_id, changed_at"),
+        @Index(name = "idx_bug_status_history_changed", columnList = "changed_at")
+})
+public class BugStatusHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "bug_id", nullable = false, length = 36)
+    private String bugId;
+
+    @Column(name = "project_id", nullable = false, length = 36)
+    private String projectId;
+
+    @Enumerated(EnumType.ORDINAL)
+    @Column(name = "from_status")
+    private BugStatus fromStatus;
+
+    @Enumerated(EnumType.ORDINAL)
+    @Column(name = "to_status", nullable = false)
+    private BugStatus toStatus;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    @Column(name = "changed_by")
+    private String changedBy;
+
+    public BugStatusHistory(String bugId, String projectId, BugStatus fromStatus, BugStatus toStatus, String changedBy) {
+        this.bugId = bugId;
+        this.projectId = projectId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.changedAt = LocalDateTime.now();
+        this.changedBy = changedBy;
+    }
+}
@@ -0,0 +1,49 @@
+package com.swayam.bugwise.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Status analytics of one project for one day, computed once the day is over. Histograms are
+ * stored as JSON so that any range of days can be merged without touching the history table.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "bug_status_rollups")
+@IdClass(BugStatusRollup.Key.class)
+public class BugStatusRollup {
+
+    @Id
+    @Column(name = "project_id", columnDefinition = "VARCHAR(36)")
+    private String projectId;
+
+    @Id
+    private LocalDate day;
+
+    private long resolvedCount;
+
+    private long reopenedCount;
+
+    private long resolutionSecondsSum;
+
+    @Column(columnDefinition = "TEXT")
+    private String resolutionHistogram;
+
+    @Column(columnDefinition = "TEXT")
+    private String timeInStatusHistograms;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String projectId;
+        private LocalDate day;
+    }
+}
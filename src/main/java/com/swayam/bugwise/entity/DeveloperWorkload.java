@@ -0,0 +1,42 @@
+package com.swayam.bugwise.entity;
+
+import com.swayam.bugwise.enums.BugSeverity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Number of unresolved bugs assigned to a developer, per severity. Recomputed for the affected
+ * developers by {@link com.swayam.bugwise.service.DeveloperWorkloadService} after every change to
+ * assignments, status or severity.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "developer_workloads")
+@IdClass(DeveloperWorkload.Key.class)
+public class DeveloperWorkload {
+
+    @Id
+    @Column(name = "developer_id", columnDefinition = "VARCHAR(36)")
+    private String developerId;
+
+    @Id
+    @Enumerated(EnumType.ORDINAL)
+    private BugSeverity severity;
+
+    @Column(name = "open_bugs", nullable = false)
+    private long openBugs;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String developerId;
+        private BugSeverity severity;
+    }
+}
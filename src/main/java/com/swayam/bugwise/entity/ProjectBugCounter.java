@@ -0,0 +1,48 @@
+package com.swayam.bugwise.entity;
+
+import com.swayam.bugwise.enums.BugSeverity;
+import com.swayam.bugwise.enums.BugStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Number of bugs of a project in one status and severity. Rows are only written through
+ * {@link com.swayam.bugwise.repository.jpa.ProjectBugCounterRepository#addToCount}, inside the
+ * transaction that changes the bugs.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "project_bug_counters")
+@IdClass(ProjectBugCounter.Key.class)
+public class ProjectBugCounter {
+
+    @Id
+    @Column(name = "project_id", columnDefinition = "VARCHAR(36)")
+    private String projectId;
+
+    @Id
+    @Enumerated(EnumType.ORDINAL)
+    private BugStatus status;
+
+    @Id
+    @Enumerated(EnumType.ORDINAL)
+    private BugSeverity severity;
+
+    @Column(name = "bug_count", nullable = false)
+    private long bugCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String projectId;
+        private BugStatus status;
+        private BugSeverity severity;
+    }
+}
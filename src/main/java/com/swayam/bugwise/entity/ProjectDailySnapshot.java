@@ -0,0 +1,53 @@
+package com.swayam.bugwise.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Bug counts of one project at the end of one day, used for burndown charts. Written by
+ * {@link com.swayam.bugwise.service.BurndownService}; rewritten only when history before it changes.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "project_daily_snapshots", indexes = {
+        @Index(name = "idx_project_daily_snapshots_day", columnList = "day")
+})
+@IdClass(ProjectDailySnapshot.Key.class)
+public class ProjectDailySnapshot {
+
+    @Id
+    @Column(name = "project_id", columnDefinition = "VARCHAR(36)")
+    private String projectId;
+
+    @Id
+    private LocalDate day;
+
+    private long newCount;
+    private long openCount;
+    private long inProgressCount;
+    private long resolvedCount;
+    private long closedCount;
+    private long reopenedCount;
+
+    private long openCritical;
+    private long openHigh;
+    private long openMedium;
+    private long openLow;
+
+    public ProjectDailySnapshot(String projectId, LocalDate day) {
+        this.projectId = projectId;
+        this.day = day;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private String projectId;
+        private LocalDate day;
+    }
+}
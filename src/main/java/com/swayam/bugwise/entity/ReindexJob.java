@@ -0,0 +1,36 @@
+package com.swayam.bugwise.entity;
+
+import com.swayam.bugwise.enums.ReindexJobStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "search_reindex_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReindexJob extends BaseEntity {
+    @Column(nullable = false)
+    private String targetIndex;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReindexJobStatus status = ReindexJobStatus.RUNNING;
+
+    @Column(columnDefinition = "VARCHAR(36)")
+    private String lastBugId;
+
+    private long indexedCount;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    @Column(length = 1000)
+    private String errorMessage;
+}
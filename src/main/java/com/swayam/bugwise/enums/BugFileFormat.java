@@ -0,0 +1,6 @@
+package com.swayam.bugwise.enums;
+
+public enum BugFileFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,7 @@
+package com.swayam.bugwise.enums;
+
+public enum ImportJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -6,5 +6,6 @@ public enum NotificationType {
     BUG_STATUS_CHANGED,
     BUG_ASSIGNED,
     COMMENT_ADDED,
-    PROJECT_ASSIGNED
+    PROJECT_ASSIGNED,
+    BUG_IMPORT_COMPLETED
 }
@@ -3,6 +3,7 @@ package com.swayam.bugwise.exception;
 import com.swayam.bugwise.dto.ExceptionResponseDTO;
 import com.swayam.bugwise.dto.ValidationErrorResponseDTO;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.security.core.AuthenticationException;
@@ -51,6 +52,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(exceptionResponseDTO);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ExceptionResponseDTO> handleConflictException(ConflictException ex) {
+        ExceptionResponseDTO exceptionResponseDTO = new ExceptionResponseDTO(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(exceptionResponseDTO);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ExceptionResponseDTO> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+        ExceptionResponseDTO exceptionResponseDTO = new ExceptionResponseDTO("The resource was modified concurrently, reload and try again.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(exceptionResponseDTO);
+    }
+
     @ExceptionHandler(AuthorizationDeniedException.class)
     public ResponseEntity<ExceptionResponseDTO> handleAuthorizationDeniedException(AuthorizationDeniedException ex) {
         ExceptionResponseDTO exceptionResponseDTO = new ExceptionResponseDTO("You are not authorized to perform this action.");
@@ -0,0 +1,21 @@
+package com.swayam.bugwise.repository.jpa;
+
+import com.swayam.bugwise.entity.BugImportJob;
+import com.swayam.bugwise.enums.ImportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BugImportJobRepository extends JpaRepository<BugImportJob, String> {
+    Optional<BugImportJob> findByIdAndOrganizationId(String id, String organizationId);
+
+    List<BugImportJob> findByStatusAndUpdatedAtBefore(ImportJobStatus status, LocalDateTime cutoff);
+
+    @Transactional
+    void deleteByFinishedAtBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,17 @@
+package com.swayam.bugwise.repository.jpa;
+
+import com.swayam.bugwise.entity.BugIndexOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BugIndexOutboxRepository extends JpaRepository<BugIndexOutbox, Long> {
+
+    @Query(value = "SELECT * FROM bug_index_outbox ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<BugIndexOutbox> lockNextBatch(@Param("limit") int limit);
+}
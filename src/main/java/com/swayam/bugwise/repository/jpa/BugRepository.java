@@ -1,6 +1,7 @@
 package com.swayam.bugwise.repository.jpa;
 
-import com.swayam.bugwise.dto.BugStatisticsDTO;
+import com.swayam.bugwise.dto.BugBulkProjection;
+import com.swayam.bugwise.dto.BugDetailsProjection;
 import com.swayam.bugwise.entity.Bug;
 import com.swayam.bugwise.enums.BugSeverity;
 import com.swayam.bugwise.enums.BugStatus;
@@ -8,10 +9,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -29,11 +33,6 @@ public interface BugRepository extends JpaRepository<Bug, String>, JpaSpecificat
             Pageable pageable
     );
 
-    @Query(value = "SELECT NEW com.swayam.bugwise.dto.BugStatisticsDTO(b.status, COUNT(b)) " +
-            "FROM Bug b WHERE b.project.id = :projectId " +
-            "GROUP BY b.status")
-    List<BugStatisticsDTO> getBugStatisticsByProject(@Param("projectId") String projectId);
-
     @Query("SELECT b FROM Bug b WHERE " +
             "b.project.id = :projectId AND " +
             "(LOWER(b.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
@@ -44,27 +43,46 @@ public interface BugRepository extends JpaRepository<Bug, String>, JpaSpecificat
             Pageable pageable
     );
 
-    @Query(value = "SELECT new com.swayam.bugwise.dto.BugStatisticsDTO(b.status, COUNT(b)) FROM Bug b GROUP BY b.status")
-    List<BugStatisticsDTO> findBugStatistics();
+    @Query(value = "SELECT b.id FROM Bug b " +
+            "WHERE b.project.organization.id IN :organizationIds " +
+            "ORDER BY b.createdAt DESC, b.id DESC",
+            countQuery = "SELECT COUNT(b) FROM Bug b WHERE b.project.organization.id IN :organizationIds")
+    Page<String> findIdsByProjectOrganizationIdIn(@Param("organizationIds") Set<String> organizationIds, Pageable pageable);
 
-    @Query(value = "SELECT new com.swayam.bugwise.dto.BugStatisticsDTO(b.status, COUNT(b)) FROM Bug b WHERE b.project.id IN :projectIds GROUP BY b.status")
-    List<BugStatisticsDTO> findBugStatisticsByProjectIdIn(@Param("projectIds") Set<String> projectIds);
+    @Query(value = "SELECT b.id FROM Bug b " +
+            "WHERE b.project.id IN :projectIds " +
+            "ORDER BY b.createdAt DESC, b.id DESC",
+            countQuery = "SELECT COUNT(b) FROM Bug b WHERE b.project.id IN :projectIds")
+    Page<String> findIdsByProjectIdIn(@Param("projectIds") Set<String> projectIds, Pageable pageable);
 
-    @Query(value = "SELECT DISTINCT b FROM Bug b " +
-            "JOIN FETCH b.project p " +
-            "JOIN FETCH p.organization o " +
-            "LEFT JOIN FETCH p.projectManager pm " +
-            "WHERE p.organization.id IN :organizationIds")
-    Page<Bug> findByProjectOrganizationIdIn(@Param("organizationIds") Set<String> organizationIds, Pageable pageable);
+    @Query(value = "SELECT b.id FROM bugs b JOIN projects p ON p.id = b.project_id " +
+            "WHERE p.organization_id IN (:organizationIds) " +
+            "AND (b.created_at, b.id) < (:createdAt, :afterId) " +
+            "ORDER BY b.created_at DESC, b.id DESC LIMIT :limit", nativeQuery = true)
+    List<String> findIdPageByOrganizationIds(
+            @Param("organizationIds") Set<String> organizationIds,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("afterId") String afterId,
+            @Param("limit") int limit
+    );
+
+    @Query(value = "SELECT b.id FROM bugs b " +
+            "WHERE b.project_id IN (:projectIds) " +
+            "AND (b.created_at, b.id) < (:createdAt, :afterId) " +
+            "ORDER BY b.created_at DESC, b.id DESC LIMIT :limit", nativeQuery = true)
+    List<String> findIdPageByProjectIds(
+            @Param("projectIds") Set<String> projectIds,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("afterId") String afterId,
+            @Param("limit") int limit
+    );
 
-    @Query(value = "SELECT DISTINCT b FROM Bug b " +
+    @Query("SELECT DISTINCT b FROM Bug b " +
             "JOIN FETCH b.project p " +
-            "JOIN FETCH p.organization o " +
+            "LEFT JOIN FETCH p.organization o " +
             "LEFT JOIN FETCH p.projectManager pm " +
-            "WHERE p.id IN :projectIds")
-    Page<Bug> findByProjectIdIn(@Param("projectIds") Set<String> projectIds, Pageable pageable);
-
-    Page<Bug> findByIdIn(List<String> ids, Pageable pageable);
+            "WHERE b.id IN :ids")
+    List<Bug> findAllWithProjectByIdIn(@Param("ids") Collection<String> ids);
 
     @Query("SELECT b FROM Bug b JOIN b.assignedDeveloper ad WHERE b.project.id = :projectId AND ad.id = :developerId")
     Page<Bug> findByProjectIdAndAssignedDeveloperId(
@@ -72,4 +90,85 @@ public interface BugRepository extends JpaRepository<Bug, String>, JpaSpecificat
             @Param("developerId") String developerId,
             Pageable pageable
     );
-}
\ No newline at end of file
+
+    @Query("SELECT DISTINCT b FROM Bug b " +
+            "JOIN FETCH b.project p " +
+            "LEFT JOIN FETCH p.organization " +
+            "LEFT JOIN FETCH b.reportedBy " +
+            "LEFT JOIN FETCH b.assignedDeveloper " +
+            "WHERE b.id IN :ids")
+    List<Bug> findAllForIndexing(@Param("ids") Collection<String> ids);
+
+    @Query(value = "SELECT id FROM bugs WHERE id > :afterId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<String> findIdsAfter(@Param("afterId") String afterId, @Param("limit") int limit);
+
+    @Query("SELECT b.id FROM Bug b WHERE b.updatedAt >= :since")
+    List<String> findIdsUpdatedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT NEW com.swayam.bugwise.dto.BugDetailsProjection(" +
+            "b.id, b.title, b.description, b.status, b.bugType, b.severity, " +
+            "b.createdAt, b.updatedAt, b.actualTimeHours, b.expectedTimeHours, " +
+            "p.id, p.name, p.description, " +
+            "o.id, o.name, " +
+            "pm.id, pm.email, " +
+            "rb.id, rb.role, rb.email, rb.firstName, rb.lastName, " +
+            "ad.id, ad.role, ad.email, ad.firstName, ad.lastName) " +
+            "FROM Bug b " +
+            "JOIN b.project p " +
+            "LEFT JOIN p.organization o " +
+            "LEFT JOIN p.projectManager pm " +
+            "LEFT JOIN b.reportedBy rb " +
+            "LEFT JOIN b.assignedDeveloper ad " +
+            "WHERE b.id = :bugId " +
+            "ORDER BY ad.email")
+    List<BugDetailsProjection> findBugDetailsById(@Param("bugId") String bugId, Pageable pageable);
+
+    @Query("SELECT NEW com.swayam.bugwise.dto.BugBulkProjection(" +
+            "b.id, p.id, b.status, b.severity, pm.email, ad.email) " +
+            "FROM Bug b " +
+            "JOIN b.project p " +
+            "LEFT JOIN p.projectManager pm " +
+            "LEFT JOIN b.assignedDeveloper ad " +
+            "WHERE b.id IN :ids")
+    List<BugBulkProjection> findBulkRowsByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query(value = "SELECT id FROM bugs WHERE id IN (:ids) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<String> lockByIdIn(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("UPDATE Bug b SET b.status = :status, b.version = b.version + 1, " +
+            "b.updatedAt = :updatedAt, b.modifiedBy = :modifiedBy " +
+            "WHERE b.id IN :ids")
+    int updateStatusByIdIn(
+            @Param("ids") Collection<String> ids,
+            @Param("status") BugStatus status,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("modifiedBy") String modifiedBy
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Bug b SET b.status = :newStatus, b.version = b.version + 1, " +
+            "b.updatedAt = :updatedAt, b.modifiedBy = :modifiedBy " +
+            "WHERE b.id = :id AND b.status = :expectedStatus AND b.version = :expectedVersion")
+    int compareAndSetStatus(
+            @Param("id") String id,
+            @Param("expectedStatus") BugStatus expectedStatus,
+            @Param("expectedVersion") Long expectedVersion,
+            @Param("newStatus") BugStatus newStatus,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("modifiedBy") String modifiedBy
+    );
+
+    @Modifying
+    @Query(value = "DELETE FROM bug_developers WHERE bug_id IN (:bugIds)", nativeQuery = true)
+    int deleteAssignmentsByBugIdIn(@Param("bugIds") Collection<String> bugIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO bug_developers (bug_id, developer_id) " +
+            "SELECT b.id, u.id FROM bugs b CROSS JOIN users u " +
+            "WHERE b.id IN (:bugIds) AND u.id IN (:developerIds)", nativeQuery = true)
+    int insertAssignments(
+            @Param("bugIds") Collection<String> bugIds,
+            @Param("developerIds") Collection<String> developerIds
+    );
+}
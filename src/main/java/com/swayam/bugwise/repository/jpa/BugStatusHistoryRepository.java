@@ -0,0 +1,30 @@
+package com.swayam.bugwise.repository.jpa;
+
+import com.swayam.bugwise.entity.BugStatusHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface BugStatusHistoryRepository extends JpaRepository<BugStatusHistory, Long> {
+
+    /**
+     * Records the transition of every listed bug that is not already in {@code toStatus}. Must run
+     * before the status UPDATE it describes.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO bug_status_history (bug_id, project_id, from_status, to_status, changed_at, changed_by) " +
+            "SELECT b.id, b.project_id, b.status, :toStatus, :changedAt, :changedBy FROM bugs b " +
+            "WHERE b.id IN (:bugIds) AND b.status <> :toStatus", nativeQuery = true)
+    int insertTransitions(
+            @Param("bugIds") Collection<String> bugIds,
+            @Param("toStatus") int toStatus,
+            @Param("changedAt") LocalDateTime changedAt,
+            @Param("changedBy") String changedBy
+    );
+}
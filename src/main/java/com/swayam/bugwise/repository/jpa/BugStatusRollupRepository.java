@@ -0,0 +1,27 @@
+package com.swayam.bugwise.repository.jpa;
+
+import com.swayam.bugwise.entity.BugStatusRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface BugStatusRollupRepository extends JpaRepository<BugStatusRollup, BugStatusRollup.Key> {
+
+    List<BugStatusRollup> findByProjectIdAndDayBetween(String projectId, LocalDate from, LocalDate to);
+
+    @Query("SELECT DISTINCT r.day FROM BugStatusRollup r WHERE r.day BETWEEN :from AND :to")
+    List<LocalDate> findRolledUpDays(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT MAX(r.day) FROM BugStatusRollup r")
+    LocalDate findLastRolledUpDay();
+
+    @Modifying
+    @Query("DELETE FROM BugStatusRollup r WHERE r.day = :day")
+    void deleteByDay(@Param("day") LocalDate day);
+}
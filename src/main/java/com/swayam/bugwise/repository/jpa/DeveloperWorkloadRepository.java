@@ -0,0 +1,38 @@
+package com.swayam.bugwise.repository.jpa;
+
+import com.swayam.bugwise.entity.DeveloperWorkload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DeveloperWorkloadRepository extends JpaRepository<DeveloperWorkload, DeveloperWorkload.Key> {
+
+    List<DeveloperWorkload> findByDeveloperIdIn(Collection<String> developerIds);
+
+    @Query(value = "SELECT DISTINCT developer_id FROM bug_developers WHERE bug_id IN (:bugIds)", nativeQuery = true)
+    List<String> findDeveloperIdsByBugIdIn(@Param("bugIds") Collection<String> bugIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM developer_workloads WHERE developer_id IN (:developerIds)", nativeQuery = true)
+    void deleteByDeveloperIdIn(@Param("developerIds") Collection<String> developerIds);
+
+    /**
+     * Counts bugs that are neither resolved nor closed (statuses 3 and 4).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO developer_workloads (developer_id, severity, open_bugs) " +
+            "SELECT bd.developer_id, b.severity, COUNT(*) FROM bug_developers bd JOIN bugs b ON b.id = bd.bug_id " +
+            "WHERE bd.developer_id IN (:developerIds) AND b.status NOT IN (3, 4) AND b.severity IS NOT NULL " +
+            "GROUP BY bd.developer_id, b.severity", nativeQuery = true)
+    void recount(@Param("developerIds") Collection<String> developerIds);
+
+    @Query(value = "SELECT developer_id FROM bug_developers UNION SELECT developer_id FROM developer_workloads",
+            nativeQuery = true)
+    List<String> findAllDeveloperIds();
+}
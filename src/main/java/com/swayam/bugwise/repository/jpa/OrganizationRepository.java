@@ -1,7 +1,10 @@
 package com.swayam.bugwise.repository.jpa;
 
+import com.swayam.bugwise.dto.OrganizationStatsDTO;
 import com.swayam.bugwise.entity.Organization;
 import com.swayam.bugwise.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,4 +18,20 @@ public interface OrganizationRepository extends JpaRepository<Organization, Stri
     List<Organization> findByAdminId(@Param("adminId") String adminId);
 
     List<Organization> findByAdmin(User admin);
-}
\ No newline at end of file
+
+    @Query(value = "SELECT NEW com.swayam.bugwise.dto.OrganizationStatsDTO(o.id, o.name, " +
+            "(SELECT COUNT(p) FROM Project p WHERE p.organization = o), " +
+            "(SELECT COUNT(u) FROM Organization m JOIN m.users u WHERE m = o)) " +
+            "FROM Organization o",
+            countQuery = "SELECT COUNT(o) FROM Organization o")
+    Page<OrganizationStatsDTO> findOrganizationStats(Pageable pageable);
+
+    @Query(value = "SELECT NEW com.swayam.bugwise.dto.OrganizationStatsDTO(o.id, o.name, " +
+            "(SELECT COUNT(p) FROM Project p WHERE p.organization = o), " +
+            "(SELECT COUNT(u) FROM Organization m JOIN m.users u WHERE m = o), " +
+            "(SELECT COALESCE(SUM(c.bugCount), 0) FROM ProjectBugCounter c WHERE c.projectId IN " +
+            "(SELECT p.id FROM Project p WHERE p.organization = o))) " +
+            "FROM Organization o",
+            countQuery = "SELECT COUNT(o) FROM Organization o")
+    Page<OrganizationStatsDTO> findOrganizationStatsWithBugCounts(Pageable pageable);
+}
@@ -0,0 +1,62 @@
+package com.swayam.bugwise.repository.jpa;
+
+import com.swayam.bugwise.dto.BugStatisticsDTO;
+import com.swayam.bugwise.entity.ProjectBugCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProjectBugCounterRepository extends JpaRepository<ProjectBugCounter, ProjectBugCounter.Key> {
+
+    @Query("SELECT NEW com.swayam.bugwise.dto.BugStatisticsDTO(c.status, SUM(c.bugCount)) " +
+            "FROM ProjectBugCounter c WHERE c.projectId = :projectId GROUP BY c.status")
+    List<BugStatisticsDTO> sumByStatusForProject(@Param("projectId") String projectId);
+
+    @Query("SELECT NEW com.swayam.bugwise.dto.BugStatisticsDTO(c.status, SUM(c.bugCount)) " +
+            "FROM ProjectBugCounter c WHERE c.projectId IN :projectIds GROUP BY c.status")
+    List<BugStatisticsDTO> sumByStatusForProjects(@Param("projectIds") Collection<String> projectIds);
+
+    @Query("SELECT NEW com.swayam.bugwise.dto.BugStatisticsDTO(c.status, SUM(c.bugCount)) " +
+            "FROM ProjectBugCounter c GROUP BY c.status")
+    List<BugStatisticsDTO> sumByStatus();
+
+    List<ProjectBugCounter> findByProjectIdIn(Collection<String> projectIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO project_bug_counters (project_id, status, severity, bug_count) " +
+            "VALUES (:projectId, :status, :severity, :delta) " +
+            "ON CONFLICT (project_id, status, severity) " +
+            "DO UPDATE SET bug_count = project_bug_counters.bug_count + EXCLUDED.bug_count", nativeQuery = true)
+    void addToCount(
+            @Param("projectId") String projectId,
+            @Param("status") int status,
+            @Param("severity") int severity,
+            @Param("delta") long delta
+    );
+
+    @Modifying
+    @Query(value = "DELETE FROM project_bug_counters c WHERE c.project_id = :projectId AND NOT EXISTS (" +
+            "SELECT 1 FROM bugs b WHERE b.project_id = c.project_id AND b.status = c.status AND b.severity = c.severity)",
+            nativeQuery = true)
+    int deleteStaleCounters(@Param("projectId") String projectId);
+
+    @Modifying
+    @Query(value = "INSERT INTO project_bug_counters (project_id, status, severity, bug_count) " +
+            "SELECT b.project_id, b.status, b.severity, COUNT(*) FROM bugs b " +
+            "WHERE b.project_id = :projectId AND b.status IS NOT NULL AND b.severity IS NOT NULL " +
+            "GROUP BY b.project_id, b.status, b.severity " +
+            "ON CONFLICT (project_id, status, severity) DO UPDATE SET bug_count = EXCLUDED.bug_count",
+            nativeQuery = true)
+    int recount(@Param("projectId") String projectId);
+
+    @Modifying
+    @Query(value = "DELETE FROM project_bug_counters c " +
+            "WHERE NOT EXISTS (SELECT 1 FROM projects p WHERE p.id = c.project_id)", nativeQuery = true)
+    int deleteOrphans();
+}
@@ -0,0 +1,49 @@
+package com.swayam.bugwise.repository.jpa;
+
+import com.swayam.bugwise.dto.BurndownPointDTO;
+import com.swayam.bugwise.entity.ProjectDailySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ProjectDailySnapshotRepository extends JpaRepository<ProjectDailySnapshot, ProjectDailySnapshot.Key> {
+
+    List<ProjectDailySnapshot> findByDay(LocalDate day);
+
+    @Query("SELECT MIN(s.day) FROM ProjectDailySnapshot s")
+    LocalDate findFirstDay();
+
+    @Query("SELECT MAX(s.day) FROM ProjectDailySnapshot s")
+    LocalDate findLastDay();
+
+    @Modifying
+    @Query("DELETE FROM ProjectDailySnapshot s WHERE s.day = :day")
+    void deleteByDay(@Param("day") LocalDate day);
+
+    @Query("SELECT NEW com.swayam.bugwise.dto.BurndownPointDTO(s.day, s.newCount, s.openCount, s.inProgressCount, " +
+            "s.resolvedCount, s.closedCount, s.reopenedCount, s.openCritical, s.openHigh, s.openMedium, s.openLow) " +
+            "FROM ProjectDailySnapshot s WHERE s.projectId = :projectId AND s.day BETWEEN :from AND :to ORDER BY s.day")
+    List<BurndownPointDTO> findSeriesForProject(
+            @Param("projectId") String projectId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    @Query("SELECT NEW com.swayam.bugwise.dto.BurndownPointDTO(s.day, SUM(s.newCount), SUM(s.openCount), " +
+            "SUM(s.inProgressCount), SUM(s.resolvedCount), SUM(s.closedCount), SUM(s.reopenedCount), " +
+            "SUM(s.openCritical), SUM(s.openHigh), SUM(s.openMedium), SUM(s.openLow)) " +
+            "FROM ProjectDailySnapshot s WHERE s.day BETWEEN :from AND :to AND s.projectId IN " +
+            "(SELECT p.id FROM Project p WHERE p.organization.id = :organizationId) " +
+            "GROUP BY s.day ORDER BY s.day")
+    List<BurndownPointDTO> findSeriesForOrganization(
+            @Param("organizationId") String organizationId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+}
@@ -25,6 +25,9 @@ public interface ProjectRepository extends JpaRepository<Project, String> {
             Pageable pageable
     );
 
+    @Query("SELECT p.id FROM Project p ORDER BY p.id")
+    List<String> findAllIds();
+
     @Query("SELECT COUNT(p) FROM Project p WHERE p.organization.id = :orgId")
     long countProjectsByOrganization(@Param("orgId") String organizationId);
 
@@ -35,4 +38,15 @@ public interface ProjectRepository extends JpaRepository<Project, String> {
             "JOIN b.assignedDeveloper ad " +
             "WHERE ad.id = :developerId")
     List<Project> findByAssignedBugsDeveloperId(@Param("developerId") String developerId);
+
+    /**
+     * Whether the user manages the project, administers its organization, is assigned to it or
+     * is assigned one of its bugs.
+     */
+    @Query("SELECT COUNT(p) > 0 FROM Project p LEFT JOIN p.projectManager pm " +
+            "LEFT JOIN p.organization o LEFT JOIN o.admin a " +
+            "WHERE p.id = :projectId AND (pm.email = :email OR a.email = :email " +
+            "OR EXISTS (SELECT 1 FROM Project m JOIN m.assignedUsers u WHERE m = p AND u.email = :email) " +
+            "OR EXISTS (SELECT 1 FROM Bug b JOIN b.assignedDeveloper d WHERE b.project = p AND d.email = :email))")
+    boolean hasAccess(@Param("projectId") String projectId, @Param("email") String email);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.swayam.bugwise.repository.jpa;
+
+import com.swayam.bugwise.entity.ReindexJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReindexJobRepository extends JpaRepository<ReindexJob, String> {
+}
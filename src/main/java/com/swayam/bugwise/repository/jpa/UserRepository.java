@@ -1,5 +1,6 @@
 package com.swayam.bugwise.repository.jpa;
 
+import com.swayam.bugwise.dto.RoleCountDTO;
 import com.swayam.bugwise.entity.User;
 import com.swayam.bugwise.enums.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -15,6 +17,7 @@ import java.util.Set;
 public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+    boolean existsByEmailAndOrganizationsId(String email, String organizationId);
 
     @Query("SELECT u FROM User u JOIN u.organizations o WHERE " +
             "o.id = :orgId AND u.role = :role AND u.isActive = true")
@@ -33,11 +36,20 @@ public interface UserRepository extends JpaRepository<User, String> {
             @Param("role") UserRole role
     );
 
-    @Query(value = "SELECT COUNT(u) FROM User u JOIN u.assignedBugs b " +
-            "WHERE b.project.id IN :projectIds AND u.role = :role AND u.isActive = true")
-    long countActiveUsersByProjectsAndRole(
-            @Param("projectIds") Set<String> projectIds,
-            @Param("role") UserRole role
+    @Query("SELECT NEW com.swayam.bugwise.dto.RoleCountDTO(u.role, COUNT(DISTINCT u.id)) " +
+            "FROM Organization o JOIN o.users u WHERE o.admin.id = :adminId " +
+            "AND u.role IN :roles AND u.isActive = true GROUP BY u.role")
+    List<RoleCountDTO> countActiveUsersByRoleInAdministeredOrganizations(
+            @Param("adminId") String adminId,
+            @Param("roles") Collection<UserRole> roles
+    );
+
+    @Query("SELECT NEW com.swayam.bugwise.dto.RoleCountDTO(u.role, COUNT(DISTINCT u.id)) " +
+            "FROM Bug b JOIN b.assignedDeveloper u WHERE b.project.projectManager.id = :managerId " +
+            "AND u.role IN :roles AND u.isActive = true GROUP BY u.role")
+    List<RoleCountDTO> countActiveAssigneesByRoleInManagedProjects(
+            @Param("managerId") String managerId,
+            @Param("roles") Collection<UserRole> roles
     );
 
     List<User> findByManagedProjectsIdAndRole(String projectId, UserRole role);
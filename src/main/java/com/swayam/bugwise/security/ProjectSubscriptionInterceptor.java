@@ -0,0 +1,52 @@
+package com.swayam.bugwise.security;
+
+import com.swayam.bugwise.repository.jpa.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.security.Principal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Only lets users with access to a project subscribe to its live stats, both the snapshot on
+ * {@code /app/project.{id}.stats} and the updates on {@code /topic/project.{id}.stats}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectSubscriptionInterceptor implements ChannelInterceptor {
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final Pattern PROJECT_STATS = Pattern.compile("^/(?:app|topic)/project\\.([^/]+)\\.stats$");
+
+    private final ProjectRepository projectRepository;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.SUBSCRIBE.equals(accessor.getCommand()) || accessor.getDestination() == null) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        // The simple broker treats wildcards as patterns, which would match every project's topic.
+        if (destination.startsWith("/topic/") && PATH_MATCHER.isPattern(destination)) {
+            throw new MessagingException("Wildcard subscriptions are not allowed");
+        }
+        Matcher matcher = PROJECT_STATS.matcher(destination);
+        if (matcher.matches()) {
+            Principal user = accessor.getUser();
+            if (user == null || !projectRepository.hasAccess(matcher.group(1), user.getName())) {
+                throw new MessagingException("You do not have access to this project");
+            }
+        }
+        return message;
+    }
+}
@@ -31,20 +31,26 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
 
         if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())) {
             String token = extractToken(accessor);
-            if (token != null) {
-                try {
-                    String username = jwtTokenProvider.extractUsername(token);
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (token == null) {
+                throw new MessagingException("Authentication required");
+            }
+            boolean valid;
+            try {
+                String username = jwtTokenProvider.extractUsername(token);
+                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 
-                    if (jwtTokenProvider.isTokenValid(token, userDetails)) {
-                        Authentication auth = new UsernamePasswordAuthenticationToken(
-                                userDetails, null, userDetails.getAuthorities());
-                        accessor.setUser(auth);
-                        SecurityContextHolder.getContext().setAuthentication(auth);
-                    }
-                } catch (Exception e) {
-                    throw new MessagingException("Authentication failed", e);
+                valid = jwtTokenProvider.isTokenValid(token, userDetails);
+                if (valid) {
+                    Authentication auth = new UsernamePasswordAuthenticationToken(
+                            userDetails, null, userDetails.getAuthorities());
+                    accessor.setUser(auth);
+                    SecurityContextHolder.getContext().setAuthentication(auth);
                 }
+            } catch (Exception e) {
+                throw new MessagingException("Authentication failed", e);
+            }
+            if (!valid) {
+                throw new MessagingException("Authentication failed");
             }
         }
         return message;
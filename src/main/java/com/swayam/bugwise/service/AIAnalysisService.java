@@ -1,19 +1,27 @@
 package com.swayam.bugwise.service;
 
 import co.elastic.clients.elasticsearch._types.SortOptions;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.swayam.bugwise.dto.BugSuggestionDTO;
 import com.swayam.bugwise.entity.Bug;
 import com.swayam.bugwise.entity.BugDocument;
 import com.swayam.bugwise.entity.User;
+import com.swayam.bugwise.enums.BugSeverity;
 import com.swayam.bugwise.enums.BugType;
 import com.swayam.bugwise.enums.DeveloperType;
 import com.swayam.bugwise.enums.UserRole;
 import com.swayam.bugwise.repository.jpa.BugRepository;
 import com.swayam.bugwise.repository.jpa.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.chat.prompt.SystemPromptTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
@@ -21,21 +29,62 @@ import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+/**
+ * Builds bug suggestions from several LLM calls. Calls that do not depend on each other run
+ * concurrently on virtual threads; each one is bounded by a per-call timeout and by the overall
+ * deadline, and falls back to its default when it times out or fails, so a slow model yields a
+ * partial suggestion instead of a slow one.
+ * <p>
+ * With {@code bugwise.ai.single-prompt-triage} enabled, all fields are requested at once as a JSON
+ * object instead, and each field of the reply is validated on its own.
+ */
 @Service
 @Slf4j
 public class AIAnalysisService {
+    private static final String STAGE_TIMER = "bugwise.ai.suggestions.stage";
+    private static final BugType DEFAULT_BUG_TYPE = BugType.OTHER;
+    private static final String DEFAULT_SEVERITY = "MEDIUM";
+    private static final int DEFAULT_TIME_ESTIMATE = 8;
+
     private final ChatClient chatClient;
     private final BugRepository bugRepository;
     private final UserRepository userRepository;
     private final ElasticsearchOperations elasticsearchOperations;
-
-    public AIAnalysisService(ChatClient.Builder chatClientBuilder, BugRepository bugRepository, UserRepository userRepository, ElasticsearchOperations elasticsearchOperations) {
+    private final DeveloperWorkloadService developerWorkloadService;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final long callTimeoutNanos;
+    private final long deadlineNanos;
+    private final boolean singlePromptTriage;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public AIAnalysisService(ChatClient.Builder chatClientBuilder, BugRepository bugRepository, UserRepository userRepository, ElasticsearchOperations elasticsearchOperations, DeveloperWorkloadService developerWorkloadService,
+                             MeterRegistry meterRegistry,
+                             ObjectMapper objectMapper,
+                             @Value("${bugwise.ai.call-timeout-ms:8000}") long callTimeoutMs,
+                             @Value("${bugwise.ai.deadline-ms:15000}") long deadlineMs,
+                             @Value("${bugwise.ai.single-prompt-triage:false}") boolean singlePromptTriage) {
         this.chatClient = chatClientBuilder.build();
         this.bugRepository = bugRepository;
         this.userRepository = userRepository;
         this.elasticsearchOperations = elasticsearchOperations;
+        this.developerWorkloadService = developerWorkloadService;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.callTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(callTimeoutMs);
+        this.deadlineNanos = TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+        this.singlePromptTriage = singlePromptTriage;
     }
 
     private static final String BUG_TYPE_PROMPT = """
@@ -117,25 +166,197 @@ public class AIAnalysisService {
         Respond ONLY with one of the severity levels (CRITICAL, HIGH, MEDIUM, LOW).
         """;
 
-    @Cacheable(value = "bugSuggestions", key = "#bugId")
+    private static final String TRIAGE_PROMPT = """
+        Triage the following bug report.
+        
+        Bug Title: {title}
+        Bug Description: {description}
+        Reported Type: {bugType}
+        Reported Severity: {severity}
+        
+        Available developers and their specializations:
+        {developersList}
+        
+        Similar past bugs and who fixed them:
+        {pastBugsInfo}
+        
+        Guidelines:
+        - Bug type: FRONTEND for UI, layouts and styling; BACKEND for server-side logic and endpoints;
+          INTEGRATION for communication between services; PERFORMANCE for slow responses or high
+          resource usage; SECURITY for vulnerabilities, authentication and authorization; otherwise OTHER.
+        - Severity: CRITICAL for crashes, data loss or blocked usage; HIGH for major broken functionality
+          without workaround; MEDIUM when a workaround exists; LOW for cosmetic issues.
+        - Developer types: FRONTEND or FULL_STACK for UI bugs, BACKEND or FULL_STACK for backend bugs,
+          FULL_STACK for performance and security bugs; include every type a cross-cutting bug needs.
+        - Time: simple UI fixes 2-4 hours, backend 4-8, integrations 8-16, critical security 16+.
+        
+        Respond ONLY with a JSON object, without markdown, containing these fields:
+        - "bugType": one of FRONTEND, BACKEND, INTEGRATION, PERFORMANCE, SECURITY, OTHER
+        - "severity": one of CRITICAL, HIGH, MEDIUM, LOW
+        - "developerTypes": array of BACKEND, FRONTEND, FULL_STACK, OTHER
+        - "estimatedHours": whole number of hours to fix
+        - "developerIds": array of developer IDs from the list above, in order of suitability
+        """;
+
+    @Cacheable(value = "bugSuggestions", key = "#bugId", unless = "#result.partial")
     public BugSuggestionDTO getBugSuggestions(String bugId) {
         Bug bug = bugRepository.findById(bugId)
                 .orElseThrow(() -> new NoSuchElementException("Bug not found"));
 
-        BugType bugType = determineBugTypeWithAI(bug.getTitle(), bug.getDescription());
-        String severity = determineBugSeverityWithAI(bug.getTitle(), bug.getDescription(), bugType);
-        Set<DeveloperType> requiredTypes = determineRequiredDeveloperTypesWithAI(bugType);
-        int estimatedTime = estimateTimeToFixWithAI(bug, bugType);
-        List<User> suggestedDevelopers = getDeveloperSuggestions(bug, requiredTypes);
+        long start = System.nanoTime();
+        long deadline = start + deadlineNanos;
+        AtomicBoolean partial = new AtomicBoolean();
 
-        BugSuggestionDTO suggestion = new BugSuggestionDTO();
+        BugSuggestionDTO suggestion = singlePromptTriage
+                ? triage(bug, deadline, partial)
+                : analyzeSeparately(bug, deadline, partial);
         suggestion.setBugId(bugId);
+        suggestion.setPartial(partial.get());
+
+        Timer.builder("bugwise.ai.suggestions")
+                .description("Time to build a bug suggestion")
+                .tag("partial", String.valueOf(partial.get()))
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return suggestion;
+    }
+
+    private BugSuggestionDTO analyzeSeparately(Bug bug, long deadline, AtomicBoolean partial) {
+        // Ranking works from the stored bug type, so it runs alongside the classification.
+        CompletableFuture<List<User>> suggestedDevelopers = stage("developers",
+                () -> getDeveloperSuggestions(bug), List.of(), deadline, partial);
+        BugType bugType = stage("bugType",
+                () -> determineBugTypeWithAI(bug.getTitle(), bug.getDescription()), DEFAULT_BUG_TYPE, deadline, partial)
+                .join();
+
+        CompletableFuture<String> severity = stage("severity",
+                () -> determineBugSeverityWithAI(bug.getTitle(), bug.getDescription(), bugType), DEFAULT_SEVERITY, deadline, partial);
+        CompletableFuture<Set<DeveloperType>> requiredTypes = stage("developerTypes",
+                () -> determineRequiredDeveloperTypesWithAI(bugType), Set.of(), deadline, partial);
+        CompletableFuture<Integer> estimatedTime = stage("timeEstimate",
+                () -> estimateTimeToFixWithAI(bug, bugType), DEFAULT_TIME_ESTIMATE, deadline, partial);
+
+        BugSuggestionDTO suggestion = new BugSuggestionDTO();
         suggestion.setSuggestedBugType(bugType);
-        suggestion.setSuggestedSeverity(severity);
+        suggestion.setSuggestedSeverity(severity.join());
+        suggestion.setRequiredDeveloperTypes(requiredTypes.join());
+        suggestion.setEstimatedTimeHours(estimatedTime.join());
+        suggestion.setSuggestedDevelopers(toDeveloperSuggestions(suggestedDevelopers.join()));
+        return suggestion;
+    }
+
+    private BugSuggestionDTO triage(Bug bug, long deadline, AtomicBoolean partial) {
+        BugSuggestionDTO suggestion = stage("triage", () -> triageWithAI(bug, partial), null, deadline, partial).join();
+        if (suggestion != null) {
+            return suggestion;
+        }
+        BugSuggestionDTO fallback = new BugSuggestionDTO();
+        fallback.setSuggestedBugType(DEFAULT_BUG_TYPE);
+        fallback.setSuggestedSeverity(DEFAULT_SEVERITY);
+        fallback.setRequiredDeveloperTypes(Set.of());
+        fallback.setEstimatedTimeHours(DEFAULT_TIME_ESTIMATE);
+        fallback.setSuggestedDevelopers(List.of());
+        return fallback;
+    }
+
+    /**
+     * Asks for every suggestion field in one JSON reply. A missing or invalid field falls back to
+     * the same default the separate prompts use and marks the result partial; only an unparseable
+     * reply fails the stage.
+     */
+    private BugSuggestionDTO triageWithAI(Bug bug, AtomicBoolean partial) {
+        List<User> developers = userRepository.findByAssignedProjectsIdAndRole(
+                bug.getProject().getId(),
+                UserRole.DEVELOPER
+        );
+        List<BugDocument> similarBugs = findSimilarBugs(bug);
+
+        SystemPromptTemplate promptTemplate = new SystemPromptTemplate(TRIAGE_PROMPT);
+        Prompt prompt = promptTemplate.create(Map.of(
+                "title", bug.getTitle() != null ? bug.getTitle() : "",
+                "description", bug.getDescription() != null ? bug.getDescription() : "",
+                "bugType", bug.getBugType() != null ? bug.getBugType().name() : "UNKNOWN",
+                "severity", bug.getSeverity() != null ? bug.getSeverity().name() : "UNKNOWN",
+                "developersList", describeDevelopers(developers),
+                "pastBugsInfo", describePastBugs(similarBugs, developers)
+        ));
+
+        String response = chatClient.prompt(prompt).call().content();
+        JsonNode reply;
+        try {
+            reply = objectMapper.readTree(stripCodeFence(response));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("AI returned malformed triage reply: " + response, e);
+        }
+        if (reply == null || !reply.isObject()) {
+            throw new IllegalStateException("AI returned malformed triage reply: " + response);
+        }
+
+        BugSuggestionDTO suggestion = new BugSuggestionDTO();
+        BugType bugType = enumValue(BugType.class, reply.path("bugType"), "bug type");
+        BugSeverity severity = enumValue(BugSeverity.class, reply.path("severity"), "severity");
+        if (bugType == null || severity == null) {
+            partial.set(true);
+        }
+        suggestion.setSuggestedBugType(bugType != null ? bugType : DEFAULT_BUG_TYPE);
+        suggestion.setSuggestedSeverity(severity != null ? severity.name() : DEFAULT_SEVERITY);
+
+        Set<DeveloperType> requiredTypes = new HashSet<>();
+        for (JsonNode type : reply.path("developerTypes")) {
+            DeveloperType developerType = enumValue(DeveloperType.class, type, "developer type");
+            if (developerType != null) {
+                requiredTypes.add(developerType);
+            } else {
+                partial.set(true);
+            }
+        }
         suggestion.setRequiredDeveloperTypes(requiredTypes);
-        suggestion.setEstimatedTimeHours(estimatedTime);
 
-        List<BugSuggestionDTO.DeveloperSuggestionDTO> developerDTOs = suggestedDevelopers.stream()
+        JsonNode hours = reply.path("estimatedHours");
+        if (hours.canConvertToInt() && hours.isIntegralNumber() && hours.asInt() >= 0) {
+            suggestion.setEstimatedTimeHours(hours.asInt());
+        } else {
+            log.warn("AI returned invalid time estimate: {}", hours);
+            suggestion.setEstimatedTimeHours(DEFAULT_TIME_ESTIMATE);
+            partial.set(true);
+        }
+
+        Map<String, User> developersById = developers.stream()
+                .collect(Collectors.toMap(User::getId, d -> d, (a, b) -> a));
+        Set<User> suggestedDevelopers = new LinkedHashSet<>();
+        for (JsonNode id : reply.path("developerIds")) {
+            User developer = developersById.get(id.asText());
+            if (developer != null) {
+                suggestedDevelopers.add(developer);
+            }
+        }
+        suggestion.setSuggestedDevelopers(toDeveloperSuggestions(List.copyOf(suggestedDevelopers)));
+        return suggestion;
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, JsonNode node, String field) {
+        try {
+            return Enum.valueOf(type, node.asText().trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("AI returned invalid {}: {}", field, node);
+            return null;
+        }
+    }
+
+    private static String stripCodeFence(String response) {
+        String trimmed = response == null ? "" : response.trim();
+        if (trimmed.startsWith("```")) {
+            int start = trimmed.indexOf('\n');
+            int end = trimmed.lastIndexOf("```");
+            if (start >= 0 && end > start) {
+                return trimmed.substring(start + 1, end);
+            }
+        }
+        return trimmed;
+    }
+
+    private static List<BugSuggestionDTO.DeveloperSuggestionDTO> toDeveloperSuggestions(List<User> developers) {
+        return developers.stream()
                 .map(dev -> {
                     BugSuggestionDTO.DeveloperSuggestionDTO dto = new BugSuggestionDTO.DeveloperSuggestionDTO();
                     dto.setUserId(dev.getId());
@@ -144,13 +365,55 @@ public class AIAnalysisService {
                     return dto;
                 })
                 .collect(Collectors.toList());
+    }
 
-        suggestion.setSuggestedDevelopers(developerDTOs);
+    /**
+     * Runs one suggestion stage on a virtual thread, timed out at the per-call limit or the
+     * overall deadline, whichever comes first. The returned future never completes exceptionally.
+     */
+    private <T> CompletableFuture<T> stage(String name, Supplier<T> call, T fallback, long deadline,
+                                           AtomicBoolean partial) {
+        long start = System.nanoTime();
+        long timeout = Math.min(callTimeoutNanos, deadline - start);
+        if (timeout <= 0) {
+            partial.set(true);
+            recordStage(name, "skipped", 0);
+            return CompletableFuture.completedFuture(fallback);
+        }
 
-        return suggestion;
+        return CompletableFuture.supplyAsync(call, executor)
+                .orTimeout(timeout, TimeUnit.NANOSECONDS)
+                .handle((result, error) -> {
+                    long elapsed = System.nanoTime() - start;
+                    if (error == null) {
+                        recordStage(name, "success", elapsed);
+                        return result;
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    partial.set(true);
+                    if (cause instanceof TimeoutException) {
+                        recordStage(name, "timeout", elapsed);
+                        log.warn("Suggestion stage {} timed out after {} ms, using default", name,
+                                TimeUnit.NANOSECONDS.toMillis(elapsed));
+                    } else {
+                        recordStage(name, "error", elapsed);
+                        log.warn("Suggestion stage {} failed, using default", name, cause);
+                    }
+                    return fallback;
+                });
+    }
+
+    private void recordStage(String name, String outcome, long elapsedNanos) {
+        Timer.builder(STAGE_TIMER)
+                .description("Latency of each bug suggestion stage")
+                .tag("stage", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
     }
 
-    private List<User> getDeveloperSuggestions(Bug bug, Set<DeveloperType> requiredTypes) {
+    private List<User> getDeveloperSuggestions(Bug bug) {
         List<User> allDevelopers = userRepository.findByAssignedProjectsIdAndRole(
                 bug.getProject().getId(),
                 UserRole.DEVELOPER
@@ -231,22 +494,49 @@ public class AIAnalysisService {
 
     private List<String> getAISuggestedDevelopers(Bug bug, List<User> developers, List<BugDocument> similarBugs) {
         log.info("developers: {}", developers);
-        String developersList = developers.stream()
-                .map(d -> String.format("- %s (%s): %s | Current workload: %d bugs",
-                        d.getId(),
-                        d.getDeveloperType(),
-                        d.getEmail(),
-                        d.getAssignedBugs().size()))
-                .collect(Collectors.joining("\n"));
+        String developersList = describeDevelopers(developers);
+        String pastBugsInfo = describePastBugs(similarBugs, developers);
+
+        SystemPromptTemplate promptTemplate = new SystemPromptTemplate(DEVELOPER_SUGGESTION_PROMPT);
+        Prompt prompt = promptTemplate.create(Map.of(
+                "bugType", bug.getBugType() != null ? bug.getBugType().name() : "UNKNOWN",
+                "title", bug.getTitle() != null ? bug.getTitle() : "",
+                "description", bug.getDescription() != null ? bug.getDescription() : "",
+                "developersList", developersList != null ? developersList : "",
+                "pastBugsInfo", pastBugsInfo != null ? pastBugsInfo : "No information available"
+        ));
 
+        String response = chatClient.prompt(prompt).call().content();
+        return Arrays.stream(response.split(","))
+                .map(String::trim)
+                .collect(Collectors.toList());
+    }
 
+    private String describeDevelopers(List<User> developers) {
+        Map<String, Map<BugSeverity, Long>> workloads = developerWorkloadService.getOpenBugsBySeverity(
+                developers.stream().map(User::getId).toList());
+        return developers.stream()
+                .map(d -> {
+                    Map<BugSeverity, Long> workload = workloads.getOrDefault(d.getId(), Map.of());
+                    return String.format("- %s (%s): %s | Current workload: %d open bugs (%d critical, %d high)",
+                            d.getId(),
+                            d.getDeveloperType(),
+                            d.getEmail(),
+                            workload.values().stream().mapToLong(Long::longValue).sum(),
+                            workload.getOrDefault(BugSeverity.CRITICAL, 0L),
+                            workload.getOrDefault(BugSeverity.HIGH, 0L));
+                })
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String describePastBugs(List<BugDocument> similarBugs, List<User> developers) {
         String pastBugsInfo = similarBugs.stream()
-                .filter(b -> b.getAssignedDeveloperId() != null)
+                .filter(b -> b.getAssignedDeveloperIds() != null && !b.getAssignedDeveloperIds().isEmpty())
                 .map(b -> {
-                    String developersInfo = Arrays.stream(b.getAssignedDeveloperId().split(","))
+                    String developersInfo = b.getAssignedDeveloperIds().stream()
                             .map(id -> {
                                 User dev = developers.stream()
-                                        .filter(d -> d.getId().equals(id.trim()))
+                                        .filter(d -> d.getId().equals(id))
                                         .findFirst()
                                         .orElse(null);
                                 return dev != null ? dev.getEmail() : "Unknown developer";
@@ -259,23 +549,7 @@ public class AIAnalysisService {
                 })
                 .collect(Collectors.joining("\n"));
 
-        if (pastBugsInfo.isEmpty()) {
-            pastBugsInfo = "No similar past bugs found";
-        }
-
-        SystemPromptTemplate promptTemplate = new SystemPromptTemplate(DEVELOPER_SUGGESTION_PROMPT);
-        Prompt prompt = promptTemplate.create(Map.of(
-                "bugType", bug.getBugType() != null ? bug.getBugType().name() : "UNKNOWN",
-                "title", bug.getTitle() != null ? bug.getTitle() : "",
-                "description", bug.getDescription() != null ? bug.getDescription() : "",
-                "developersList", developersList != null ? developersList : "",
-                "pastBugsInfo", pastBugsInfo != null ? pastBugsInfo : "No information available"
-        ));
-
-        String response = chatClient.prompt(prompt).call().content();
-        return Arrays.stream(response.split(","))
-                .map(String::trim)
-                .collect(Collectors.toList());
+        return pastBugsInfo.isEmpty() ? "No similar past bugs found" : pastBugsInfo;
     }
 
     private List<BugDocument> findSimilarBugs(Bug bug) {
@@ -323,4 +597,9 @@ public class AIAnalysisService {
             return "MEDIUM";
         }
     }
-}
\ No newline at end of file
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
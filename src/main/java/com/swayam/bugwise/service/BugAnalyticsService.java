@@ -0,0 +1,333 @@
+package com.swayam.bugwise.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swayam.bugwise.dto.BugAnalyticsDTO;
+import com.swayam.bugwise.dto.StatusDurationDTO;
+import com.swayam.bugwise.entity.BugStatusRollup;
+import com.swayam.bugwise.enums.BugStatus;
+import com.swayam.bugwise.exception.UnauthorizedAccessException;
+import com.swayam.bugwise.exception.ValidationException;
+import com.swayam.bugwise.repository.jpa.BugStatusRollupRepository;
+import com.swayam.bugwise.repository.jpa.ProjectRepository;
+import com.swayam.bugwise.utils.LogHistogram;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Cycle-time analytics over {@code bug_status_history}. Each finished day is streamed once, in a
+ * single pass, into per-project rollups holding counts and mergeable duration histograms; a query
+ * for any range then merges at most one rollup per day plus a live pass over today's rows. Only
+ * the scheduled job writes rollups, on one node at a time; days it has not reached yet are
+ * computed live for the requested project.
+ */
+@Service
+@Slf4j
+public class BugAnalyticsService {
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final double SECONDS_PER_HOUR = 3600.0;
+    private static final String LOCK_KEY = "analytics:rollups";
+
+    // For every transition of the day: when the bug entered the status it is leaving, and when its
+    // current open period started (the last reopen, or creation). Both lookups use the
+    // (bug_id, changed_at) index.
+    private static final String DAY_SQL =
+            "SELECT h.project_id, h.from_status, h.to_status, h.changed_at, " +
+            "(SELECT p.changed_at FROM bug_status_history p WHERE p.bug_id = h.bug_id " +
+            "AND (p.changed_at, p.id) < (h.changed_at, h.id) ORDER BY p.changed_at DESC, p.id DESC LIMIT 1) AS entered_at, " +
+            "COALESCE((SELECT MAX(r.changed_at) FROM bug_status_history r WHERE r.bug_id = h.bug_id " +
+            "AND r.to_status = " + BugStatus.REOPENED.ordinal() + " AND r.changed_at < h.changed_at), b.created_at) AS opened_at " +
+            "FROM bug_status_history h LEFT JOIN bugs b ON b.id = h.bug_id " +
+            "WHERE h.changed_at >= ? AND h.changed_at < ? AND h.from_status IS NOT NULL";
+    private static final String PROJECT_DAY_SQL = DAY_SQL + " AND h.project_id = ?";
+
+    private static final TypeReference<Map<Integer, Long>> BUCKETS = new TypeReference<>() {
+    };
+    private static final TypeReference<Map<BugStatus, Map<Integer, Long>>> STATUS_BUCKETS = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final BugStatusRollupRepository rollupRepository;
+    private final ProjectRepository projectRepository;
+    private final ObjectMapper objectMapper;
+
+    public BugAnalyticsService(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               BugStatusRollupRepository rollupRepository,
+                               ProjectRepository projectRepository,
+                               ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.rollupRepository = rollupRepository;
+        this.projectRepository = projectRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public BugAnalyticsDTO getProjectAnalytics(String projectId, LocalDate from, LocalDate to, String email) {
+        if (!projectRepository.hasAccess(projectId, email)) {
+            throw new UnauthorizedAccessException("You do not have access to this project");
+        }
+        if (from.isAfter(to)) {
+            throw new ValidationException(Map.of("error", "from must not be after to"));
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new ValidationException(Map.of("error", "Range cannot exceed " + MAX_RANGE_DAYS + " days"));
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate lastFinishedDay = to.isBefore(today) ? to : today.minusDays(1);
+        DayStats total = new DayStats();
+
+        if (!from.isAfter(lastFinishedDay)) {
+            Set<LocalDate> rolledUp = new HashSet<>(rollupRepository.findRolledUpDays(from, lastFinishedDay));
+            LocalDate day = from;
+            while (!day.isAfter(lastFinishedDay)) {
+                if (rolledUp.contains(day)) {
+                    day = day.plusDays(1);
+                    continue;
+                }
+                // One live pass per run of days the scheduled job has not rolled up yet.
+                LocalDate runStart = day;
+                while (!day.isAfter(lastFinishedDay) && !rolledUp.contains(day)) {
+                    day = day.plusDays(1);
+                }
+                mergeLive(total, runStart, day, projectId);
+            }
+            for (BugStatusRollup rollup : rollupRepository.findByProjectIdAndDayBetween(projectId, from, lastFinishedDay)) {
+                total.merge(fromRollup(rollup));
+            }
+        }
+        if (!to.isBefore(today)) {
+            mergeLive(total, today, today.plusDays(1), projectId);
+        }
+
+        return toDTO(projectId, from, to, total);
+    }
+
+    /**
+     * Rolls up every finished day that has not been rolled up yet. When several nodes fire at once,
+     * only the one holding the lock writes.
+     */
+    @Scheduled(cron = "${bugwise.analytics.rollup-cron:0 15 0 * * *}")
+    public void rollupFinishedDays() {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try (PreparedStatement lock = connection.prepareStatement("SELECT pg_try_advisory_lock(hashtext(?))")) {
+                lock.setString(1, LOCK_KEY);
+                try (ResultSet rs = lock.executeQuery()) {
+                    if (!rs.next() || !rs.getBoolean(1)) {
+                        return false;
+                    }
+                }
+            }
+            try {
+                rollupPendingDays();
+                return true;
+            } finally {
+                try (PreparedStatement unlock = connection.prepareStatement("SELECT pg_advisory_unlock(hashtext(?))")) {
+                    unlock.setString(1, LOCK_KEY);
+                    unlock.execute();
+                }
+            }
+        });
+        if (!Boolean.TRUE.equals(ran)) {
+            log.info("Analytics rollups are being written by another node");
+        }
+    }
+
+    private void rollupPendingDays() {
+        LocalDate lastRolledUp = rollupRepository.findLastRolledUpDay();
+        LocalDate start;
+        if (lastRolledUp != null) {
+            start = lastRolledUp.plusDays(1);
+        } else {
+            Timestamp first = jdbcTemplate.queryForObject("SELECT MIN(changed_at) FROM bug_status_history", Timestamp.class);
+            if (first == null) {
+                return;
+            }
+            start = first.toLocalDateTime().toLocalDate();
+        }
+
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        int days = 0;
+        for (LocalDate day = start; !day.isAfter(yesterday); day = day.plusDays(1)) {
+            rollupDay(day);
+            days++;
+        }
+        if (days > 0) {
+            log.info("Rolled up bug status analytics for {} days starting {}", days, start);
+        }
+    }
+
+    /**
+     * Recomputes the rollups of one day for all projects. Projects without activity that day get
+     * an empty rollup so the day is not recomputed on every query.
+     */
+    public void rollupDay(LocalDate day) {
+        Map<String, DayStats> stats = computeDay(day, null);
+        List<BugStatusRollup> rollups = new ArrayList<>(stats.size());
+        stats.forEach((projectId, dayStats) -> rollups.add(toRollup(projectId, day, dayStats)));
+        if (rollups.isEmpty()) {
+            rollups.add(toRollup("", day, new DayStats()));
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            rollupRepository.deleteByDay(day);
+            rollupRepository.saveAll(rollups);
+        });
+    }
+
+    private void mergeLive(DayStats total, LocalDate from, LocalDate until, String projectId) {
+        DayStats live = computeDays(from, until, projectId).get(projectId);
+        if (live != null) {
+            total.merge(live);
+        }
+    }
+
+    private Map<String, DayStats> computeDay(LocalDate day, String projectId) {
+        return computeDays(day, day.plusDays(1), projectId);
+    }
+
+    /**
+     * Streams the transitions from the start of {@code from} up to the start of {@code until}.
+     */
+    private Map<String, DayStats> computeDays(LocalDate from, LocalDate until, String projectId) {
+        Map<String, DayStats> stats = new HashMap<>();
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(projectId == null ? DAY_SQL : PROJECT_DAY_SQL);
+            statement.setFetchSize(1000);
+            statement.setTimestamp(1, Timestamp.valueOf(from.atStartOfDay()));
+            statement.setTimestamp(2, Timestamp.valueOf(until.atStartOfDay()));
+            if (projectId != null) {
+                statement.setString(3, projectId);
+            }
+            return statement;
+        }, rs -> stats.computeIfAbsent(rs.getString("project_id"), id -> new DayStats()).record(rs)));
+        return stats;
+    }
+
+    private BugStatusRollup toRollup(String projectId, LocalDate day, DayStats stats) {
+        Map<BugStatus, Map<Integer, Long>> timeInStatus = new EnumMap<>(BugStatus.class);
+        stats.timeInStatus.forEach((status, histogram) -> timeInStatus.put(status, histogram.getBuckets()));
+        try {
+            return new BugStatusRollup(projectId, day, stats.resolvedCount, stats.reopenedCount,
+                    stats.resolutionSecondsSum,
+                    objectMapper.writeValueAsString(stats.resolution.getBuckets()),
+                    objectMapper.writeValueAsString(timeInStatus));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize analytics rollup", e);
+        }
+    }
+
+    private DayStats fromRollup(BugStatusRollup rollup) {
+        DayStats stats = new DayStats();
+        stats.resolvedCount = rollup.getResolvedCount();
+        stats.reopenedCount = rollup.getReopenedCount();
+        stats.resolutionSecondsSum = rollup.getResolutionSecondsSum();
+        try {
+            if (rollup.getResolutionHistogram() != null) {
+                stats.resolution = LogHistogram.fromBuckets(objectMapper.readValue(rollup.getResolutionHistogram(), BUCKETS));
+            }
+            if (rollup.getTimeInStatusHistograms() != null) {
+                objectMapper.readValue(rollup.getTimeInStatusHistograms(), STATUS_BUCKETS)
+                        .forEach((status, buckets) -> stats.timeInStatus.put(status, LogHistogram.fromBuckets(buckets)));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read analytics rollup", e);
+        }
+        return stats;
+    }
+
+    private static BugAnalyticsDTO toDTO(String projectId, LocalDate from, LocalDate to, DayStats stats) {
+        Map<BugStatus, StatusDurationDTO> timeInStatus = new EnumMap<>(BugStatus.class);
+        stats.timeInStatus.forEach((status, histogram) -> timeInStatus.put(status, toDuration(histogram)));
+        return new BugAnalyticsDTO(
+                projectId,
+                from,
+                to,
+                stats.resolvedCount,
+                stats.reopenedCount,
+                stats.resolvedCount == 0 ? 0 : (double) stats.reopenedCount / stats.resolvedCount,
+                stats.resolution.getCount() == 0 ? 0
+                        : stats.resolutionSecondsSum / SECONDS_PER_HOUR / stats.resolution.getCount(),
+                toDuration(stats.resolution),
+                timeInStatus
+        );
+    }
+
+    private static StatusDurationDTO toDuration(LogHistogram histogram) {
+        return new StatusDurationDTO(
+                histogram.getCount(),
+                histogram.percentile(0.5) / SECONDS_PER_HOUR,
+                histogram.percentile(0.9) / SECONDS_PER_HOUR,
+                histogram.percentile(0.99) / SECONDS_PER_HOUR
+        );
+    }
+
+    private static final class DayStats {
+        private long resolvedCount;
+        private long reopenedCount;
+        private long resolutionSecondsSum;
+        private LogHistogram resolution = new LogHistogram();
+        private final Map<BugStatus, LogHistogram> timeInStatus = new EnumMap<>(BugStatus.class);
+
+        private void record(ResultSet rs) throws SQLException {
+            BugStatus from = BugStatus.values()[rs.getInt("from_status")];
+            BugStatus to = BugStatus.values()[rs.getInt("to_status")];
+            LocalDateTime changedAt = rs.getTimestamp("changed_at").toLocalDateTime();
+
+            Timestamp enteredAt = rs.getTimestamp("entered_at");
+            if (enteredAt != null) {
+                timeInStatus.computeIfAbsent(from, status -> new LogHistogram())
+                        .record(seconds(enteredAt.toLocalDateTime(), changedAt));
+            }
+
+            if (isDone(to) && !isDone(from)) {
+                resolvedCount++;
+                Timestamp openedAt = rs.getTimestamp("opened_at");
+                if (openedAt != null) {
+                    long seconds = seconds(openedAt.toLocalDateTime(), changedAt);
+                    resolution.record(seconds);
+                    resolutionSecondsSum += seconds;
+                }
+            } else if (to == BugStatus.REOPENED) {
+                reopenedCount++;
+            }
+        }
+
+        private void merge(DayStats other) {
+            resolvedCount += other.resolvedCount;
+            reopenedCount += other.reopenedCount;
+            resolutionSecondsSum += other.resolutionSecondsSum;
+            resolution.merge(other.resolution);
+            other.timeInStatus.forEach((status, histogram) ->
+                    timeInStatus.computeIfAbsent(status, s -> new LogHistogram()).merge(histogram));
+        }
+
+        private static boolean isDone(BugStatus status) {
+            return status == BugStatus.RESOLVED || status == BugStatus.CLOSED;
+        }
+
+        private static long seconds(LocalDateTime start, LocalDateTime end) {
+            return Math.max(0, Duration.between(start, end).getSeconds());
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.swayam.bugwise.service;
+
+import com.swayam.bugwise.dto.*;
+import com.swayam.bugwise.entity.User;
+import com.swayam.bugwise.enums.BugSeverity;
+import com.swayam.bugwise.enums.BugStatus;
+import com.swayam.bugwise.enums.NotificationType;
+import com.swayam.bugwise.enums.UserRole;
+import com.swayam.bugwise.exception.ValidationException;
+import com.swayam.bugwise.repository.jpa.BugRepository;
+import com.swayam.bugwise.repository.jpa.UserRepository;
+import com.swayam.bugwise.utils.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Applies one status change and/or reassignment to many bugs at once. Every bug is validated in
+ * memory from a single projection query, and the accepted ones are written with one UPDATE plus
+ * one DELETE/INSERT pair on {@code bug_developers}, regardless of how many bugs are involved.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BugBulkService {
+    private static final String BUGS_CACHE = "bugs";
+
+    private final BugRepository bugRepository;
+    private final UserRepository userRepository;
+    private final BugIndexingService bugIndexingService;
+    private final NotificationService notificationService;
+    private final CacheManager cacheManager;
+    private final BugCounterService bugCounterService;
+    private final BugStatusHistoryService bugStatusHistoryService;
+    private final DeveloperWorkloadService developerWorkloadService;
+
+    @Transactional
+    public BulkBugUpdateResponseDTO updateBugs(BulkBugUpdateRequestDTO request, String currentUser) {
+        List<String> developerEmails = request.getDeveloperEmails();
+        if (request.getStatus() == null && developerEmails == null) {
+            throw new ValidationException(Map.of("error", "Provide a status or developerEmails to update"));
+        }
+
+        Set<String> developerIds = developerEmails != null ? resolveDevelopers(developerEmails) : null;
+        // Assigning developers moves bugs to OPEN, matching the single-bug assignment endpoint.
+        BugStatus targetStatus = request.getStatus() != null ? request.getStatus() : BugStatus.OPEN;
+
+        Set<String> requestedIds = new LinkedHashSet<>(request.getBugIds());
+        // Lock first so the statuses validated and counted below are the ones being replaced.
+        bugRepository.lockByIdIn(requestedIds);
+        Map<String, BulkBug> bugs = loadBugs(requestedIds);
+
+        List<BulkBugResultDTO> results = new ArrayList<>(requestedIds.size());
+        List<BulkBug> accepted = new ArrayList<>();
+        for (String bugId : requestedIds) {
+            BulkBug bug = bugs.get(bugId);
+            String error = bug == null ? "Bug not found" : validate(bug, targetStatus, currentUser);
+            results.add(new BulkBugResultDTO(bugId, error == null, error));
+            if (error == null) {
+                accepted.add(bug);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            List<String> ids = accepted.stream().map(BulkBug::id).toList();
+            LocalDateTime now = LocalDateTime.now();
+            // Read before reassignment so developers losing a bug are recounted too.
+            Set<String> affectedDevelopers = developerWorkloadService.developersOf(ids);
+            bugStatusHistoryService.recordTransitions(ids, targetStatus, now, currentUser);
+            bugRepository.updateStatusByIdIn(ids, targetStatus, now, currentUser);
+            if (developerIds != null) {
+                bugRepository.deleteAssignmentsByBugIdIn(ids);
+                if (!developerIds.isEmpty()) {
+                    bugRepository.insertAssignments(ids, developerIds);
+                }
+                affectedDevelopers.addAll(developerIds);
+            }
+            developerWorkloadService.refreshAfterCommit(affectedDevelopers);
+            bugCounterService.apply(counterDeltas(accepted, targetStatus));
+            bugIndexingService.enqueueAll(ids);
+            evictAfterCommit(ids);
+            notifyRecipients(accepted, targetStatus, developerEmails, currentUser);
+        }
+
+        log.info("Bulk update by {}: {} of {} bugs updated", currentUser, accepted.size(), requestedIds.size());
+        return new BulkBugUpdateResponseDTO(accepted.size(), results.size() - accepted.size(), results);
+    }
+
+    private Set<String> resolveDevelopers(List<String> developerEmails) {
+        Set<String> emails = new HashSet<>(developerEmails);
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        Set<User> developers = userRepository.findAllByEmailIn(emails);
+        if (developers.size() != emails.size()) {
+            Set<String> found = developers.stream().map(User::getEmail).collect(Collectors.toSet());
+            emails.removeAll(found);
+            throw new ValidationException(Map.of("error", "Users not found: " + String.join(", ", emails)));
+        }
+        for (User developer : developers) {
+            if (developer.getRole() != UserRole.DEVELOPER) {
+                throw new ValidationException(Map.of("error", "User must have developer role for bug assignment"));
+            }
+        }
+        return developers.stream().map(User::getId).collect(Collectors.toSet());
+    }
+
+    private Map<String, BulkBug> loadBugs(Set<String> ids) {
+        Map<String, BulkBug> bugs = new HashMap<>();
+        for (BugBulkProjection row : bugRepository.findBulkRowsByIdIn(ids)) {
+            BulkBug bug = bugs.computeIfAbsent(row.getId(), id -> new BulkBug(id, row.getProjectId(),
+                    row.getStatus(), row.getSeverity(), row.getProjectManagerEmail(), new LinkedHashSet<>()));
+            if (row.getDeveloperEmail() != null) {
+                bug.developerEmails().add(row.getDeveloperEmail());
+            }
+        }
+        return bugs;
+    }
+
+    private String validate(BulkBug bug, BugStatus targetStatus, String currentUser) {
+        if (!currentUser.equals(bug.projectManagerEmail())) {
+            return "Only the project manager can update this bug";
+        }
+        if (bug.status() == BugStatus.CLOSED && targetStatus != BugStatus.REOPENED) {
+            return "Closed bugs can only be reopened";
+        }
+        return null;
+    }
+
+    private static Map<BugCounterService.CounterKey, Long> counterDeltas(List<BulkBug> bugs, BugStatus targetStatus) {
+        Map<BugCounterService.CounterKey, Long> deltas = new HashMap<>();
+        for (BulkBug bug : bugs) {
+            if (bug.status() != targetStatus) {
+                deltas.merge(new BugCounterService.CounterKey(bug.projectId(), bug.status(), bug.severity()), -1L, Long::sum);
+                deltas.merge(new BugCounterService.CounterKey(bug.projectId(), targetStatus, bug.severity()), 1L, Long::sum);
+            }
+        }
+        return deltas;
+    }
+
+    private void evictAfterCommit(List<String> ids) {
+        Cache cache = cacheManager.getCache(BUGS_CACHE);
+        if (cache == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> ids.forEach(cache::evict));
+    }
+
+    /**
+     * Sends one message per recipient covering every bug in the batch that concerns them.
+     */
+    private void notifyRecipients(List<BulkBug> bugs, BugStatus targetStatus, List<String> developerEmails,
+                                  String currentUser) {
+        Map<String, Digest> digests = new LinkedHashMap<>();
+        for (BulkBug bug : bugs) {
+            if (developerEmails != null) {
+                for (String developer : developerEmails) {
+                    digests.computeIfAbsent(developer, email -> new Digest()).assigned.add(bug.id());
+                }
+            }
+            if (bug.status() != targetStatus) {
+                Set<String> watchers = new LinkedHashSet<>();
+                watchers.add(bug.projectManagerEmail());
+                watchers.addAll(developerEmails != null ? developerEmails : bug.developerEmails());
+                for (String watcher : watchers) {
+                    digests.computeIfAbsent(watcher, email -> new Digest()).statusChanged.add(bug.id());
+                }
+            }
+        }
+        digests.remove(currentUser);
+
+        digests.forEach((recipient, digest) -> {
+            List<String> parts = new ArrayList<>();
+            if (!digest.assigned.isEmpty()) {
+                parts.add(digest.assigned.size() + " bugs assigned to you");
+            }
+            if (!digest.statusChanged.isEmpty()) {
+                parts.add(digest.statusChanged.size() + " bugs moved to " + targetStatus);
+            }
+            Set<String> bugIds = new LinkedHashSet<>(digest.assigned);
+            bugIds.addAll(digest.statusChanged);
+
+            notificationService.sendNotification(new NotificationMessageDTO(
+                    digest.assigned.isEmpty() ? NotificationType.BUG_STATUS_CHANGED : NotificationType.BUG_ASSIGNED,
+                    "Bugs Updated",
+                    String.join(", ", parts),
+                    Map.of(
+                            "bugIds", List.copyOf(bugIds),
+                            "status", targetStatus,
+                            "updatedBy", currentUser
+                    ),
+                    List.of(recipient),
+                    new NotificationMessageDTO.InAppDetails("/bugs", "bug-icon.png")
+            ));
+        });
+    }
+
+    private record BulkBug(String id, String projectId, BugStatus status, BugSeverity severity,
+                           String projectManagerEmail, Set<String> developerEmails) {
+    }
+
+    private static final class Digest {
+        private final Set<String> assigned = new LinkedHashSet<>();
+        private final Set<String> statusChanged = new LinkedHashSet<>();
+    }
+}
@@ -0,0 +1,172 @@
+package com.swayam.bugwise.service;
+
+import com.swayam.bugwise.dto.BugStatisticsDTO;
+import com.swayam.bugwise.entity.ProjectBugCounter;
+import com.swayam.bugwise.enums.BugSeverity;
+import com.swayam.bugwise.enums.BugStatus;
+import com.swayam.bugwise.repository.jpa.ProjectBugCounterRepository;
+import com.swayam.bugwise.repository.jpa.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains {@code project_bug_counters}, the number of bugs per project, status and severity.
+ * Writers apply deltas in the same transaction as the bug change, so dashboards read a handful of
+ * rows per project instead of grouping the bugs table. {@link #repairAll()} recomputes the
+ * counters from the bugs table project by project. Writers hold a shared advisory lock on each
+ * project they touch until they commit and the repair takes it exclusively, so a recount never
+ * runs between a writer's bug change and its delta.
+ */
+@Service
+@Slf4j
+public class BugCounterService {
+    private static final Comparator<CounterKey> LOCK_ORDER = Comparator
+            .comparing(CounterKey::projectId)
+            .thenComparing(CounterKey::status)
+            .thenComparing(CounterKey::severity);
+
+    private final ProjectBugCounterRepository counterRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectStatsStreamService projectStatsStreamService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public BugCounterService(ProjectBugCounterRepository counterRepository,
+                             ProjectRepository projectRepository,
+                             ProjectStatsStreamService projectStatsStreamService,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager) {
+        this.counterRepository = counterRepository;
+        this.projectRepository = projectRepository;
+        this.projectStatsStreamService = projectStatsStreamService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public record CounterKey(String projectId, BugStatus status, BugSeverity severity) {
+    }
+
+    @Transactional
+    public void bugCreated(String projectId, BugStatus status, BugSeverity severity) {
+        apply(Map.of(new CounterKey(projectId, status, severity), 1L));
+    }
+
+    @Transactional
+    public void statusChanged(String projectId, BugSeverity severity, BugStatus from, BugStatus to) {
+        if (from == to) {
+            return;
+        }
+        apply(Map.of(
+                new CounterKey(projectId, from, severity), -1L,
+                new CounterKey(projectId, to, severity), 1L
+        ));
+    }
+
+    @Transactional
+    public void severityChanged(String projectId, BugStatus status, BugSeverity from, BugSeverity to) {
+        if (from == to) {
+            return;
+        }
+        apply(Map.of(
+                new CounterKey(projectId, status, from), -1L,
+                new CounterKey(projectId, status, to), 1L
+        ));
+    }
+
+    /**
+     * Applies a batch of deltas in a fixed key order, so concurrent writers touching the same
+     * counters cannot deadlock on each other's rows.
+     */
+    @Transactional
+    public void apply(Map<CounterKey, Long> deltas) {
+        List<Map.Entry<CounterKey, Long>> changes = deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0 && entry.getKey().status() != null && entry.getKey().severity() != null)
+                .sorted(Map.Entry.comparingByKey(LOCK_ORDER))
+                .toList();
+        changes.stream()
+                .map(entry -> entry.getKey().projectId())
+                .distinct()
+                .forEach(projectId -> jdbcTemplate.query("SELECT pg_advisory_xact_lock_shared(hashtext(?))", rs -> {
+                }, lockKey(projectId)));
+        changes.forEach(entry -> counterRepository.addToCount(
+                entry.getKey().projectId(),
+                entry.getKey().status().ordinal(),
+                entry.getKey().severity().ordinal(),
+                entry.getValue()));
+        projectStatsStreamService.publishAfterCommit(
+                changes.stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<BugStatisticsDTO> getStatistics(String projectId) {
+        return counterRepository.sumByStatusForProject(projectId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<BugStatisticsDTO> getStatistics(Collection<String> projectIds) {
+        if (projectIds.isEmpty()) {
+            return List.of();
+        }
+        return counterRepository.sumByStatusForProjects(projectIds);
+    }
+
+    @Transactional(readOnly = true)
+    public List<BugStatisticsDTO> getStatistics() {
+        return counterRepository.sumByStatus();
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Map<BugStatus, Long>> getStatusCountsByProject(Collection<String> projectIds) {
+        if (projectIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Map<BugStatus, Long>> counts = new HashMap<>();
+        for (ProjectBugCounter counter : counterRepository.findByProjectIdIn(projectIds)) {
+            counts.computeIfAbsent(counter.getProjectId(), id -> new EnumMap<>(BugStatus.class))
+                    .merge(counter.getStatus(), counter.getBugCount(), Long::sum);
+        }
+        return counts;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (counterRepository.count() == 0) {
+            repairAll();
+        }
+    }
+
+    /**
+     * Recomputes every project's counters, one short transaction per project.
+     */
+    @Scheduled(cron = "${bugwise.counters.repair-cron:0 0 4 * * *}")
+    public int repairAll() {
+        long start = System.currentTimeMillis();
+        List<String> projectIds = projectRepository.findAllIds();
+        for (String projectId : projectIds) {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Waits for writers of this project to commit and holds new ones off until the recount commits.
+                jdbcTemplate.query("SELECT pg_advisory_xact_lock(hashtext(?))", rs -> {
+                }, lockKey(projectId));
+                counterRepository.deleteStaleCounters(projectId);
+                counterRepository.recount(projectId);
+            });
+        }
+        transactionTemplate.executeWithoutResult(status -> counterRepository.deleteOrphans());
+        log.info("Recomputed bug counters of {} projects in {} ms", projectIds.size(), System.currentTimeMillis() - start);
+        return projectIds.size();
+    }
+
+    private static String lockKey(String projectId) {
+        return "counters:" + projectId;
+    }
+}
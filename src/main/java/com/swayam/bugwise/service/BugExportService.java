@@ -0,0 +1,190 @@
+package com.swayam.bugwise.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.swayam.bugwise.enums.BugSeverity;
+import com.swayam.bugwise.enums.BugStatus;
+import com.swayam.bugwise.enums.BugFileFormat;
+import com.swayam.bugwise.exception.UnauthorizedAccessException;
+import com.swayam.bugwise.repository.jpa.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams every bug of an organization from a forward-only cursor straight to the response.
+ * Rows are written as they are read, so memory use does not depend on the size of the export.
+ */
+@Service
+@Slf4j
+public class BugExportService {
+    private static final int FETCH_SIZE = 1000;
+    private static final int LOOKUP_CACHE_SIZE = 10_000;
+
+    private static final String EXPORT_SQL =
+            "SELECT b.id, b.title, b.description, b.status, b.severity, b.bug_type, b.project_id, " +
+            "b.reported_by_id, b.created_at, b.updated_at, b.expected_time_hours, b.actual_time_hours, " +
+            "(SELECT string_agg(bd.developer_id, ' ') FROM bug_developers bd WHERE bd.bug_id = b.id) AS developer_ids " +
+            "FROM bugs b JOIN projects p ON p.id = b.project_id " +
+            "WHERE p.organization_id = ?";
+
+    private static final List<String> COLUMNS = List.of(
+            "id", "title", "description", "status", "severity", "bugType", "projectId", "projectName",
+            "reportedBy", "assignedDevelopers", "createdAt", "updatedAt", "expectedTimeHours", "actualTimeHours");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    public BugExportService(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            UserRepository userRepository,
+                            ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public void validateExportAccess(String organizationId, String email) {
+        if (!userRepository.existsByEmailAndOrganizationsId(email, organizationId)) {
+            throw new UnauthorizedAccessException("You are not a member of this organization");
+        }
+    }
+
+    public StreamingResponseBody exportOrganizationBugs(String organizationId, BugFileFormat format, boolean gzip) {
+        return outputStream -> {
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, 64 * 1024) : outputStream;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 64 * 1024);
+
+            LoadingCache<String, String> projectNames = lookupCache(
+                    "SELECT name FROM projects WHERE id = ?");
+            LoadingCache<String, String> userEmails = lookupCache(
+                    "SELECT email FROM users WHERE id = ?");
+
+            if (format == BugFileFormat.CSV) {
+                writer.write(String.join(",", COLUMNS));
+                writer.write('\n');
+            }
+
+            long start = System.currentTimeMillis();
+            long[] rows = {0};
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(FETCH_SIZE);
+                statement.setString(1, organizationId);
+                return statement;
+            }, rs -> {
+                Map<String, Object> row = toRow(rs, projectNames, userEmails);
+                try {
+                    if (format == BugFileFormat.CSV) {
+                        writeCsv(writer, row);
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(row));
+                        writer.write('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            }));
+
+            writer.flush();
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+            log.info("Exported {} bugs of organization {} as {} in {} ms", rows[0], organizationId, format,
+                    System.currentTimeMillis() - start);
+        };
+    }
+
+    private Map<String, Object> toRow(ResultSet rs, LoadingCache<String, String> projectNames,
+                                      LoadingCache<String, String> userEmails) throws SQLException {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", rs.getString("id"));
+        row.put("title", rs.getString("title"));
+        row.put("description", rs.getString("description"));
+        row.put("status", enumName(BugStatus.values(), rs, "status"));
+        row.put("severity", enumName(BugSeverity.values(), rs, "severity"));
+        row.put("bugType", rs.getString("bug_type"));
+
+        String projectId = rs.getString("project_id");
+        row.put("projectId", projectId);
+        row.put("projectName", projectNames.get(projectId));
+
+        String reportedById = rs.getString("reported_by_id");
+        row.put("reportedBy", reportedById != null ? userEmails.get(reportedById) : null);
+
+        String developerIds = rs.getString("developer_ids");
+        List<String> developers = new ArrayList<>();
+        if (developerIds != null) {
+            for (String developerId : developerIds.split(" ")) {
+                developers.add(userEmails.get(developerId));
+            }
+        }
+        row.put("assignedDevelopers", developers);
+
+        row.put("createdAt", timestamp(rs.getTimestamp("created_at")));
+        row.put("updatedAt", timestamp(rs.getTimestamp("updated_at")));
+        row.put("expectedTimeHours", rs.getObject("expected_time_hours"));
+        row.put("actualTimeHours", rs.getObject("actual_time_hours"));
+        return row;
+    }
+
+    private LoadingCache<String, String> lookupCache(String sql) {
+        return Caffeine.newBuilder()
+                .maximumSize(LOOKUP_CACHE_SIZE)
+                .build(id -> jdbcTemplate.query(sql, rs -> rs.next() ? rs.getString(1) : "", id));
+    }
+
+    private void writeCsv(Writer writer, Map<String, Object> row) throws IOException {
+        boolean first = true;
+        for (Object value : row.values()) {
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            if (value instanceof List<?> list) {
+                value = String.join(";", list.stream().map(String::valueOf).toList());
+            }
+            writer.write(csvField(value));
+        }
+        writer.write('\n');
+    }
+
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private static String enumName(Enum<?>[] values, ResultSet rs, String column) throws SQLException {
+        int ordinal = rs.getInt(column);
+        return rs.wasNull() || ordinal < 0 || ordinal >= values.length ? null : values[ordinal].name();
+    }
+
+    private static String timestamp(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+    }
+}
@@ -0,0 +1,509 @@
+package com.swayam.bugwise.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swayam.bugwise.dto.BugImportJobDTO;
+import com.swayam.bugwise.dto.NotificationMessageDTO;
+import com.swayam.bugwise.entity.BugImportJob;
+import com.swayam.bugwise.enums.*;
+import com.swayam.bugwise.exception.UnauthorizedAccessException;
+import com.swayam.bugwise.exception.ValidationException;
+import com.swayam.bugwise.repository.jpa.BugImportJobRepository;
+import com.swayam.bugwise.repository.jpa.UserRepository;
+import com.swayam.bugwise.utils.CsvRecordReader;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Imports bugs from a CSV or NDJSON upload. Records are parsed one at a time from a spooled copy
+ * of the upload, checked against the organization's projects and members loaded up front, and
+ * written with JDBC batch inserts. Indexing goes through the outbox, so Elasticsearch receives the
+ * imported bugs as bulk requests from {@link BugIndexingService}. Job progress is stored in
+ * {@code bug_import_jobs} after every batch, so it can be read from any node.
+ */
+@Service
+@Slf4j
+public class BugImportService {
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final long FINISHED_JOB_RETENTION_HOURS = 24;
+    // Progress is saved after every batch; a running job silent for this long lost its node.
+    private static final long STALE_JOB_MINUTES = 60;
+
+    private static final String INSERT_BUG_SQL =
+            "INSERT INTO bugs (id, title, description, status, severity, bug_type, project_id, reported_by_id, " +
+            "expected_time_hours, actual_time_hours, created_at, updated_at, created_by, modified_by, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_DEVELOPER_SQL =
+            "INSERT INTO bug_developers (bug_id, developer_id) VALUES (?, ?)";
+    private static final String INSERT_HISTORY_SQL =
+            "INSERT INTO bug_status_history (bug_id, project_id, from_status, to_status, changed_at, changed_by) " +
+            "VALUES (?, ?, NULL, ?, ?, ?)";
+    private static final String INSERT_OUTBOX_SQL =
+            "INSERT INTO bug_index_outbox (bug_id, enqueued_at) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserRepository userRepository;
+    private final BugImportJobRepository importJobRepository;
+    private final NotificationService notificationService;
+    private final BugCounterService bugCounterService;
+    private final DeveloperWorkloadService developerWorkloadService;
+    private final BurndownService burndownService;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    public BugImportService(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            UserRepository userRepository,
+                            BugImportJobRepository importJobRepository,
+                            NotificationService notificationService,
+                            BugCounterService bugCounterService,
+                            DeveloperWorkloadService developerWorkloadService,
+                            BurndownService burndownService,
+                            ObjectMapper objectMapper,
+                            @Value("${bugwise.import.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.userRepository = userRepository;
+        this.importJobRepository = importJobRepository;
+        this.notificationService = notificationService;
+        this.bugCounterService = bugCounterService;
+        this.developerWorkloadService = developerWorkloadService;
+        this.burndownService = burndownService;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    public BugImportJobDTO startImport(String organizationId, BugFileFormat format, MultipartFile file, String email) {
+        if (!userRepository.existsByEmailAndOrganizationsId(email, organizationId)) {
+            throw new UnauthorizedAccessException("You are not a member of this organization");
+        }
+        if (file == null || file.isEmpty()) {
+            throw new ValidationException(Map.of("error", "Import file is empty"));
+        }
+
+        Path spool;
+        try {
+            spool = Files.createTempFile("bug-import-", "." + format.name().toLowerCase(Locale.ROOT));
+            file.transferTo(spool);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not store import file", e);
+        }
+
+        BugImportJob job = new BugImportJob();
+        job.setOrganizationId(organizationId);
+        job.setImportedBy(email);
+        job.setStatus(ImportJobStatus.RUNNING);
+        job.setStartedAt(LocalDateTime.now());
+        BugImportJob saved = importJobRepository.save(job);
+        // Built before the worker starts mutating the entity.
+        BugImportJobDTO dto = toDTO(saved);
+
+        executor.submit(() -> run(saved, format, spool));
+        return dto;
+    }
+
+    public BugImportJobDTO getImportJob(String organizationId, String jobId) {
+        return importJobRepository.findByIdAndOrganizationId(jobId, organizationId)
+                .map(this::toDTO)
+                .orElseThrow(() -> new NoSuchElementException("Import job not found"));
+    }
+
+    @Scheduled(fixedDelay = 3_600_000)
+    public void removeFinishedJobs() {
+        for (BugImportJob job : importJobRepository.findByStatusAndUpdatedAtBefore(
+                ImportJobStatus.RUNNING, LocalDateTime.now().minusMinutes(STALE_JOB_MINUTES))) {
+            job.setStatus(ImportJobStatus.FAILED);
+            job.setErrorMessage("Import was interrupted");
+            job.setFinishedAt(LocalDateTime.now());
+            importJobRepository.save(job);
+        }
+        importJobRepository.deleteByFinishedAtBefore(LocalDateTime.now().minusHours(FINISHED_JOB_RETENTION_HOURS));
+    }
+
+    private void run(BugImportJob job, BugFileFormat format, Path spool) {
+        long start = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        LocalDate earliestDay = today;
+        try (BufferedReader reader = Files.newBufferedReader(spool, StandardCharsets.UTF_8)) {
+            Set<String> projectIds = new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT id FROM projects WHERE organization_id = ?", String.class, job.getOrganizationId()));
+            Map<String, String> userIdsByEmail = new HashMap<>();
+            jdbcTemplate.query(
+                    "SELECT u.id, u.email FROM users u JOIN organization_user ou ON ou.user_id = u.id " +
+                    "WHERE ou.organization_id = ?",
+                    rs -> {
+                        userIdsByEmail.put(rs.getString("email").toLowerCase(Locale.ROOT), rs.getString("id"));
+                    },
+                    job.getOrganizationId());
+
+            String importerId = userIdsByEmail.get(job.getImportedBy().toLowerCase(Locale.ROOT));
+            RecordSource records = format == BugFileFormat.CSV ? csvRecords(reader) : ndjsonRecords(reader);
+            List<ImportedBug> batch = new ArrayList<>(batchSize);
+
+            Map<String, JsonNode> record;
+            while ((record = records.next()) != null) {
+                job.setProcessedCount(job.getProcessedCount() + 1);
+                try {
+                    ImportedBug bug = toImportedBug(record, projectIds, userIdsByEmail, importerId);
+                    batch.add(bug);
+                    if (bug.createdAt().toLocalDate().isBefore(earliestDay)) {
+                        earliestDay = bug.createdAt().toLocalDate();
+                    }
+                } catch (IllegalArgumentException e) {
+                    reject(job, job.getProcessedCount(), e.getMessage());
+                }
+                if (batch.size() >= batchSize) {
+                    flush(batch, job);
+                    job = importJobRepository.save(job);
+                }
+            }
+            flush(batch, job);
+
+            job.setStatus(ImportJobStatus.COMPLETED);
+            log.info("Import {} into organization {}: {} imported, {} rejected in {} ms", job.getId(),
+                    job.getOrganizationId(), job.getImportedCount(), job.getFailedCount(),
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("Import {} failed after {} records", job.getId(), job.getProcessedCount(), e);
+            job.setStatus(ImportJobStatus.FAILED);
+            job.setErrorMessage(e.getMessage());
+        } finally {
+            job.setFinishedAt(LocalDateTime.now());
+            deleteSpool(spool);
+            if (earliestDay.isBefore(today) && job.getImportedCount() > 0) {
+                resnapshotBurndown(job, earliestDay);
+            }
+            try {
+                job = importJobRepository.save(job);
+            } catch (RuntimeException e) {
+                log.error("Could not save final state of import {}", job.getId(), e);
+            }
+            notifyImporter(job);
+        }
+    }
+
+    // Back-dated bugs change history that existing burndown snapshots were derived from.
+    private void resnapshotBurndown(BugImportJob job, LocalDate earliestDay) {
+        try {
+            burndownService.resnapshotFrom(earliestDay);
+        } catch (RuntimeException e) {
+            log.error("Could not rewrite burndown snapshots from {} after import {}", earliestDay, job.getId(), e);
+        }
+    }
+
+    private static void reject(BugImportJob job, long recordNumber, String message) {
+        job.setFailedCount(job.getFailedCount() + 1);
+        if (job.getErrors().size() < MAX_REPORTED_ERRORS) {
+            job.getErrors().add("record " + recordNumber + ": " + message);
+        }
+    }
+
+    private ImportedBug toImportedBug(Map<String, JsonNode> record, Set<String> projectIds,
+                                      Map<String, String> userIdsByEmail, String importerId) {
+        String title = requiredText(record, "title");
+        if (title.length() > MAX_TITLE_LENGTH) {
+            throw new IllegalArgumentException("title is longer than " + MAX_TITLE_LENGTH + " characters");
+        }
+        String description = requiredText(record, "description");
+        BugSeverity severity = enumValue(BugSeverity.class, record, "severity", null);
+        if (severity == null) {
+            throw new IllegalArgumentException("severity is required");
+        }
+
+        String projectId = requiredText(record, "projectId");
+        if (!projectIds.contains(projectId)) {
+            throw new IllegalArgumentException("project " + projectId + " does not belong to this organization");
+        }
+
+        String reporterId = importerId;
+        String reportedBy = text(record, "reportedBy");
+        if (reportedBy != null) {
+            reporterId = userIdsByEmail.get(reportedBy.toLowerCase(Locale.ROOT));
+            if (reporterId == null) {
+                throw new IllegalArgumentException("reporter " + reportedBy + " is not a member of this organization");
+            }
+        }
+        if (reporterId == null) {
+            throw new IllegalArgumentException("reportedBy is required");
+        }
+
+        Set<String> developerIds = new LinkedHashSet<>();
+        for (String assignee : assignees(record.get("assignees"))) {
+            String developerId = userIdsByEmail.get(assignee.toLowerCase(Locale.ROOT));
+            if (developerId == null) {
+                throw new IllegalArgumentException("assignee " + assignee + " is not a member of this organization");
+            }
+            developerIds.add(developerId);
+        }
+
+        String createdAt = text(record, "createdAt");
+        LocalDateTime created;
+        try {
+            created = createdAt != null ? LocalDateTime.parse(createdAt) : LocalDateTime.now();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("createdAt is not an ISO-8601 date-time");
+        }
+
+        return new ImportedBug(
+                UUID.randomUUID().toString(),
+                title,
+                description,
+                enumValue(BugStatus.class, record, "status", BugStatus.NEW),
+                severity,
+                enumValue(BugType.class, record, "bugType", null),
+                projectId,
+                reporterId,
+                integer(record, "expectedTimeHours"),
+                integer(record, "actualTimeHours"),
+                created,
+                developerIds
+        );
+    }
+
+    private void flush(List<ImportedBug> batch, BugImportJob job) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> developerRows = new ArrayList<>();
+        Set<String> assignedDevelopers = new HashSet<>();
+        Map<BugCounterService.CounterKey, Long> counterDeltas = new HashMap<>();
+        for (ImportedBug bug : batch) {
+            for (String developerId : bug.developerIds()) {
+                developerRows.add(new Object[]{bug.id(), developerId});
+                assignedDevelopers.add(developerId);
+            }
+            counterDeltas.merge(new BugCounterService.CounterKey(bug.projectId(), bug.status(), bug.severity()),
+                    1L, Long::sum);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_BUG_SQL, batch, batch.size(), (ps, bug) -> {
+                ps.setString(1, bug.id());
+                ps.setString(2, bug.title());
+                ps.setString(3, bug.description());
+                ps.setInt(4, bug.status().ordinal());
+                ps.setInt(5, bug.severity().ordinal());
+                ps.setString(6, bug.bugType() != null ? bug.bugType().name() : null);
+                ps.setString(7, bug.projectId());
+                ps.setString(8, bug.reporterId());
+                ps.setObject(9, bug.expectedTimeHours());
+                ps.setObject(10, bug.actualTimeHours());
+                ps.setTimestamp(11, Timestamp.valueOf(bug.createdAt()));
+                ps.setTimestamp(12, now);
+                ps.setString(13, job.getImportedBy());
+                ps.setString(14, job.getImportedBy());
+            });
+            if (!developerRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_DEVELOPER_SQL, developerRows);
+            }
+            jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, batch, batch.size(), (ps, bug) -> {
+                ps.setString(1, bug.id());
+                ps.setString(2, bug.projectId());
+                ps.setInt(3, bug.status().ordinal());
+                ps.setTimestamp(4, Timestamp.valueOf(bug.createdAt()));
+                ps.setString(5, job.getImportedBy());
+            });
+            jdbcTemplate.batchUpdate(INSERT_OUTBOX_SQL, batch, batch.size(), (ps, bug) -> {
+                ps.setString(1, bug.id());
+                ps.setTimestamp(2, now);
+            });
+            bugCounterService.apply(counterDeltas);
+        });
+        developerWorkloadService.refresh(assignedDevelopers);
+
+        job.setImportedCount(job.getImportedCount() + batch.size());
+        batch.clear();
+    }
+
+    private void notifyImporter(BugImportJob job) {
+        try {
+            String content = job.getStatus() == ImportJobStatus.COMPLETED
+                    ? String.format("Imported %d bugs, %d records rejected", job.getImportedCount(), job.getFailedCount())
+                    : "Bug import failed after " + job.getImportedCount() + " bugs: " + job.getErrorMessage();
+            notificationService.sendNotification(new NotificationMessageDTO(
+                    NotificationType.BUG_IMPORT_COMPLETED,
+                    "Bug Import " + (job.getStatus() == ImportJobStatus.COMPLETED ? "Completed" : "Failed"),
+                    content,
+                    Map.of(
+                            "jobId", job.getId(),
+                            "organizationId", job.getOrganizationId(),
+                            "imported", job.getImportedCount(),
+                            "failed", job.getFailedCount()
+                    ),
+                    List.of(job.getImportedBy()),
+                    new NotificationMessageDTO.InAppDetails(
+                            "/organizations/" + job.getOrganizationId() + "/imports/" + job.getId(), "import-icon.png")
+            ));
+        } catch (RuntimeException e) {
+            log.warn("Could not send completion notification for import {}", job.getId(), e);
+        }
+    }
+
+    private RecordSource csvRecords(BufferedReader reader) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            return () -> null;
+        }
+        List<String> columns = header.stream().map(String::trim).toList();
+        return () -> {
+            List<String> values;
+            do {
+                values = csv.readRecord();
+            } while (values != null && values.size() == 1 && values.get(0).isBlank());
+            if (values == null) {
+                return null;
+            }
+            Map<String, JsonNode> record = new HashMap<>();
+            for (int i = 0; i < columns.size() && i < values.size(); i++) {
+                record.put(columns.get(i), objectMapper.getNodeFactory().textNode(values.get(i)));
+            }
+            return record;
+        };
+    }
+
+    private RecordSource ndjsonRecords(BufferedReader reader) {
+        return () -> {
+            String line;
+            do {
+                line = reader.readLine();
+            } while (line != null && line.isBlank());
+            if (line == null) {
+                return null;
+            }
+            Map<String, JsonNode> record = new HashMap<>();
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (IOException e) {
+                // Keep the malformed line as a record so it is counted and reported, not fatal.
+                record.put("_malformed", objectMapper.getNodeFactory().textNode(e.getOriginalMessage()));
+                return record;
+            }
+            node.fields().forEachRemaining(field -> record.put(field.getKey(), field.getValue()));
+            return record;
+        };
+    }
+
+    private static String text(Map<String, JsonNode> record, String field) {
+        if (record.containsKey("_malformed")) {
+            throw new IllegalArgumentException("malformed JSON: " + record.get("_malformed").asText());
+        }
+        JsonNode node = record.get(field);
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        String value = node.asText().trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String requiredText(Map<String, JsonNode> record, String field) {
+        String value = text(record, field);
+        if (value == null) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        return value;
+    }
+
+    private static Integer integer(Map<String, JsonNode> record, String field) {
+        String value = text(record, field);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + " must be a whole number");
+        }
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, Map<String, JsonNode> record, String field,
+                                                   E defaultValue) {
+        String value = text(record, field);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(field + " has unknown value " + value);
+        }
+    }
+
+    private static List<String> assignees(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return List.of();
+        }
+        List<String> emails = new ArrayList<>();
+        if (node.isArray()) {
+            node.forEach(element -> emails.add(element.asText().trim()));
+        } else {
+            emails.addAll(Arrays.asList(node.asText().split(";")));
+        }
+        return emails.stream().map(String::trim).filter(email -> !email.isEmpty()).toList();
+    }
+
+    private static void deleteSpool(Path spool) {
+        try {
+            Files.deleteIfExists(spool);
+        } catch (IOException e) {
+            log.warn("Could not delete import spool file {}", spool, e);
+        }
+    }
+
+    private BugImportJobDTO toDTO(BugImportJob job) {
+        return new BugImportJobDTO(
+                job.getId(),
+                job.getOrganizationId(),
+                job.getStatus(),
+                job.getProcessedCount(),
+                job.getImportedCount(),
+                job.getFailedCount(),
+                List.copyOf(job.getErrors()),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getErrorMessage()
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    private interface RecordSource {
+        Map<String, JsonNode> next() throws IOException;
+    }
+
+    private record ImportedBug(String id, String title, String description, BugStatus status,
+                               BugSeverity severity, BugType bugType, String projectId, String reporterId,
+                               Integer expectedTimeHours, Integer actualTimeHours, LocalDateTime createdAt,
+                               Set<String> developerIds) {
+    }
+}
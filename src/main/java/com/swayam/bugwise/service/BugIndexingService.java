@@ -0,0 +1,115 @@
+package com.swayam.bugwise.service;
+
+import com.swayam.bugwise.entity.BugDocument;
+import com.swayam.bugwise.entity.BugIndexOutbox;
+import com.swayam.bugwise.repository.elasticsearch.BugDocumentRepository;
+import com.swayam.bugwise.repository.jpa.BugIndexOutboxRepository;
+import com.swayam.bugwise.repository.jpa.BugRepository;
+import com.swayam.bugwise.utils.BugDocumentMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Drains {@code bug_index_outbox} into Elasticsearch. Writers only insert an outbox row in
+ * their own transaction; repeated changes to one bug are collapsed into a single bulk item.
+ */
+@Service
+@Slf4j
+public class BugIndexingService {
+    private final BugIndexOutboxRepository outboxRepository;
+    private final BugRepository bugRepository;
+    private final BugDocumentRepository bugDocumentRepository;
+    private final int batchSize;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final DistributionSummary batchSizeSummary;
+
+    public BugIndexingService(BugIndexOutboxRepository outboxRepository,
+                              BugRepository bugRepository,
+                              BugDocumentRepository bugDocumentRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${bugwise.indexer.batch-size:500}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.bugRepository = bugRepository;
+        this.bugDocumentRepository = bugDocumentRepository;
+        this.batchSize = batchSize;
+
+        Gauge.builder("bugwise.indexer.lag", lagMillis, AtomicLong::get)
+                .description("Age of the oldest outbox entry picked up by the last drain")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("bugwise.indexer.batch.size")
+                .description("Number of distinct bugs shipped per bulk request")
+                .register(meterRegistry);
+    }
+
+    @Transactional
+    public void enqueue(String bugId) {
+        outboxRepository.save(new BugIndexOutbox(bugId));
+    }
+
+    /**
+     * For afterCommit callbacks, where the finished transaction is still bound and a joined write
+     * would never be committed.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void enqueueInNewTransaction(String bugId) {
+        outboxRepository.save(new BugIndexOutbox(bugId));
+    }
+
+    @Transactional
+    public void enqueueAll(Collection<String> bugIds) {
+        outboxRepository.saveAll(bugIds.stream().map(BugIndexOutbox::new).toList());
+    }
+
+    @Scheduled(fixedDelayString = "${bugwise.indexer.poll-interval-ms:500}")
+    @Transactional
+    public void drainOutbox() {
+        List<BugIndexOutbox> entries = outboxRepository.lockNextBatch(batchSize);
+        if (entries.isEmpty()) {
+            lagMillis.set(0);
+            return;
+        }
+
+        LocalDateTime oldest = entries.stream()
+                .map(BugIndexOutbox::getEnqueuedAt)
+                .min(Comparator.naturalOrder())
+                .orElseGet(LocalDateTime::now);
+        lagMillis.set(Duration.between(oldest, LocalDateTime.now()).toMillis());
+
+        Set<String> bugIds = entries.stream()
+                .map(BugIndexOutbox::getBugId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        List<BugDocument> documents = bugRepository.findAllForIndexing(bugIds).stream()
+                .map(BugDocumentMapper::toDocument)
+                .collect(Collectors.toList());
+
+        if (!documents.isEmpty()) {
+            bugDocumentRepository.saveAll(documents);
+        }
+
+        Set<String> missing = new HashSet<>(bugIds);
+        documents.forEach(document -> missing.remove(document.getId()));
+        if (!missing.isEmpty()) {
+            bugDocumentRepository.deleteAllById(missing);
+        }
+
+        outboxRepository.deleteAllInBatch(entries);
+        batchSizeSummary.record(bugIds.size());
+        log.debug("Indexed {} bugs from {} outbox entries", documents.size(), entries.size());
+    }
+}
@@ -0,0 +1,251 @@
+package com.swayam.bugwise.service;
+
+import com.swayam.bugwise.dto.NotificationMessageDTO;
+import com.swayam.bugwise.enums.BugSeverity;
+import com.swayam.bugwise.enums.BugStatus;
+import com.swayam.bugwise.enums.BugType;
+import com.swayam.bugwise.enums.NotificationType;
+import com.swayam.bugwise.exception.ValidationException;
+import com.swayam.bugwise.utils.BugDocumentMapper;
+import com.swayam.bugwise.utils.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Applies JSON merge patches (RFC 7396) to bugs. Only the columns present in the patch are
+ * written, with one UPDATE ... RETURNING, and Elasticsearch receives a partial update of the same
+ * fields instead of a rebuilt document. Time tracking fields are not shown to other users, so
+ * patches that only touch them do not notify anyone.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BugPatchService {
+    private static final String BUGS_CACHE = "bugs";
+    private static final DateTimeFormatter DOCUMENT_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private static final Map<String, String> COLUMNS = Map.of(
+            "title", "title",
+            "description", "description",
+            "severity", "severity",
+            "bugType", "bug_type",
+            "expectedTimeHours", "expected_time_hours",
+            "actualTimeHours", "actual_time_hours"
+    );
+    private static final Set<String> REQUIRED_FIELDS = Set.of("title", "description", "severity");
+    private static final Set<String> NOTIFYING_FIELDS = Set.of("title", "description", "severity", "bugType");
+
+    // Same people as the PUT path: the project manager, an assignee, or the organization's admin.
+    private static final String CAN_MODIFY_SQL =
+            "SELECT EXISTS (SELECT 1 FROM bugs b JOIN projects p ON p.id = b.project_id " +
+            "LEFT JOIN users pm ON pm.id = p.project_manager_id " +
+            "LEFT JOIN organizations o ON o.id = p.organization_id LEFT JOIN users oa ON oa.id = o.admin_id " +
+            "WHERE b.id = ? AND (pm.email = ? OR oa.email = ?)) " +
+            "OR EXISTS (SELECT 1 FROM bug_developers bd JOIN users u ON u.id = bd.developer_id " +
+            "WHERE bd.bug_id = ? AND u.email = ?)";
+    private static final String WATCHERS_SQL =
+            "SELECT pm.email FROM bugs b JOIN projects p ON p.id = b.project_id " +
+            "JOIN users pm ON pm.id = p.project_manager_id WHERE b.id = ? " +
+            "UNION SELECT u.email FROM bug_developers bd JOIN users u ON u.id = bd.developer_id WHERE bd.bug_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final BugIndexingService bugIndexingService;
+    private final NotificationService notificationService;
+    private final DuplicateBugDetector duplicateBugDetector;
+    private final BugCounterService bugCounterService;
+    private final DeveloperWorkloadService developerWorkloadService;
+    private final CacheManager cacheManager;
+
+    @Transactional
+    public void patchBug(String bugId, Map<String, Object> patch, String updatedBy) {
+        Map<String, Object> values = parse(patch);
+        if (values.isEmpty()) {
+            return;
+        }
+
+        Boolean canModify = jdbcTemplate.queryForObject(CAN_MODIFY_SQL, Boolean.class,
+                bugId, updatedBy, updatedBy, bugId, updatedBy);
+        if (!Boolean.TRUE.equals(canModify)) {
+            Integer exists = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bugs WHERE id = ?", Integer.class, bugId);
+            if (exists == null || exists == 0) {
+                throw new NoSuchElementException("Bug not found");
+            }
+            throw new ValidationException(Map.of("error", "User does not have permission to update this bug"));
+        }
+
+        boolean severityPatched = values.containsKey("severity");
+        BugSeverity oldSeverity = null;
+        if (severityPatched) {
+            // Row lock keeps the severity read here and the one replaced by the UPDATE the same.
+            oldSeverity = jdbcTemplate.query("SELECT severity FROM bugs WHERE id = ? FOR UPDATE", rs -> {
+                if (!rs.next()) {
+                    return null;
+                }
+                int ordinal = rs.getInt(1);
+                // A NULL severity reads as 0; such bugs are not in any counter, so keep it null.
+                return rs.wasNull() ? null : BugSeverity.values()[ordinal];
+            }, bugId);
+        }
+
+        LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        StringBuilder sql = new StringBuilder("UPDATE bugs SET ");
+        List<Object> args = new ArrayList<>();
+        values.forEach((field, value) -> {
+            sql.append(COLUMNS.get(field)).append(" = ?, ");
+            args.add(toColumnValue(value));
+        });
+        sql.append("updated_at = ?, modified_by = ?, version = version + 1 WHERE id = ? ")
+                .append("RETURNING project_id, status, title, description");
+        args.add(Timestamp.valueOf(updatedAt));
+        args.add(updatedBy);
+        args.add(bugId);
+
+        PatchedBug patched;
+        try {
+            patched = jdbcTemplate.queryForObject(sql.toString(), (rs, rowNum) -> new PatchedBug(
+                    rs.getString("project_id"),
+                    BugStatus.values()[rs.getInt("status")],
+                    rs.getString("title"),
+                    rs.getString("description")
+            ), args.toArray());
+        } catch (EmptyResultDataAccessException e) {
+            throw new NoSuchElementException("Bug not found");
+        }
+
+        if (severityPatched) {
+            bugCounterService.severityChanged(patched.projectId(), patched.status(), oldSeverity,
+                    (BugSeverity) values.get("severity"));
+            developerWorkloadService.refreshAfterCommit(developerWorkloadService.developersOf(List.of(bugId)));
+        }
+
+        if (values.containsKey("title") || values.containsKey("description")) {
+            duplicateBugDetector.index(patched.projectId(), bugId,
+                    duplicateBugDetector.fingerprint(patched.title(), patched.description()));
+        }
+
+        Map<String, Object> documentFields = new HashMap<>();
+        values.forEach((field, value) -> documentFields.put(field, value instanceof Enum<?> e ? e.name() : value));
+        documentFields.put("updatedAt", updatedAt.format(DOCUMENT_TIME));
+        documentFields.put("fingerprint", BugDocumentMapper.fingerprint(bugId, patched.status(), updatedAt));
+        Cache cache = cacheManager.getCache(BUGS_CACHE);
+        if (cache != null) {
+            // Evicting before commit would let a concurrent read cache the old row again.
+            TransactionCallbacks.afterCommit(() -> cache.evict(bugId));
+        }
+        TransactionCallbacks.afterCommit(() -> updateDocument(bugId, documentFields));
+
+        if (!Collections.disjoint(values.keySet(), NOTIFYING_FIELDS)) {
+            notifyWatchers(bugId, patched, values.keySet(), updatedBy);
+        }
+    }
+
+    private Map<String, Object> parse(Map<String, Object> patch) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : patch.entrySet()) {
+            String field = entry.getKey();
+            Object value = entry.getValue();
+            if (!COLUMNS.containsKey(field)) {
+                throw new ValidationException(Map.of(field, "Field cannot be patched"));
+            }
+            if (value == null) {
+                if (REQUIRED_FIELDS.contains(field)) {
+                    throw new ValidationException(Map.of(field, "Field cannot be removed"));
+                }
+                values.put(field, null);
+                continue;
+            }
+            values.put(field, switch (field) {
+                case "title", "description" -> {
+                    if (!(value instanceof String text) || text.isBlank()) {
+                        throw new ValidationException(Map.of(field, "Must be a non-blank string"));
+                    }
+                    yield text;
+                }
+                case "severity" -> enumValue(BugSeverity.class, field, value);
+                case "bugType" -> enumValue(BugType.class, field, value);
+                default -> {
+                    if (!(value instanceof Integer hours) || hours < 0) {
+                        throw new ValidationException(Map.of(field, "Must be a non-negative whole number"));
+                    }
+                    yield hours;
+                }
+            });
+        }
+        return values;
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String field, Object value) {
+        try {
+            return Enum.valueOf(type, String.valueOf(value));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(Map.of(field, "Unknown value " + value));
+        }
+    }
+
+    // Severity is stored by ordinal, bug type by name.
+    private static Object toColumnValue(Object value) {
+        if (value instanceof BugSeverity severity) {
+            return severity.ordinal();
+        }
+        if (value instanceof Enum<?> enumValue) {
+            return enumValue.name();
+        }
+        return value;
+    }
+
+    private void updateDocument(String bugId, Map<String, Object> fields) {
+        try {
+            elasticsearchOperations.update(UpdateQuery.builder(bugId)
+                            .withDocument(Document.from(fields))
+                            .withRetryOnConflict(3)
+                            .build(),
+                    IndexCoordinates.of(BugReindexService.BUGS_ALIAS));
+        } catch (RuntimeException e) {
+            log.warn("Partial index update of bug {} failed, falling back to full reindex", bugId, e);
+            bugIndexingService.enqueueInNewTransaction(bugId);
+        }
+    }
+
+    private void notifyWatchers(String bugId, PatchedBug bug, Set<String> fields, String updatedBy) {
+        List<String> recipients = jdbcTemplate.queryForList(WATCHERS_SQL, String.class, bugId, bugId).stream()
+                .filter(email -> !email.equals(updatedBy))
+                .toList();
+        if (recipients.isEmpty()) {
+            return;
+        }
+
+        notificationService.sendNotification(new NotificationMessageDTO(
+                NotificationType.BUG_UPDATED,
+                "Bug Updated",
+                "Bug updated: " + bug.title(),
+                Map.of(
+                        "bugId", bugId,
+                        "title", bug.title(),
+                        "fields", List.copyOf(fields),
+                        "updatedBy", updatedBy
+                ),
+                recipients,
+                new NotificationMessageDTO.InAppDetails("/bugs/" + bugId, "bug-icon.png")
+        ));
+    }
+
+    private record PatchedBug(String projectId, BugStatus status, String title, String description) {
+    }
+}
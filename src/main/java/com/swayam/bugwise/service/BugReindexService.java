@@ -0,0 +1,281 @@
+package com.swayam.bugwise.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import com.swayam.bugwise.dto.ReindexJobDTO;
+import com.swayam.bugwise.entity.BugDocument;
+import com.swayam.bugwise.entity.ReindexJob;
+import com.swayam.bugwise.enums.ReindexJobStatus;
+import com.swayam.bugwise.exception.ValidationException;
+import com.swayam.bugwise.repository.jpa.BugRepository;
+import com.swayam.bugwise.repository.jpa.ReindexJobRepository;
+import com.swayam.bugwise.utils.BugDocumentMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.AliasData;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Rebuilds the {@code bugs} index into a fresh versioned index and atomically points the
+ * {@code bugs} alias at it. Progress is checkpointed after every wave of chunks, so a failed
+ * or interrupted job can be resumed from its last fully indexed bug id.
+ */
+@Service
+@Slf4j
+public class BugReindexService {
+    public static final String BUGS_ALIAS = "bugs";
+
+    private static final DateTimeFormatter INDEX_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final BugRepository bugRepository;
+    private final ReindexJobRepository reindexJobRepository;
+    private final BugIndexingService bugIndexingService;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient elasticsearchClient;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Counter indexedDocuments;
+
+    private final int workers;
+    private final int chunkSize;
+    private final String replicas;
+
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor();
+    private final ExecutorService workerPool;
+    private final Set<String> activeJobs = ConcurrentHashMap.newKeySet();
+
+    public BugReindexService(BugRepository bugRepository,
+                             ReindexJobRepository reindexJobRepository,
+                             BugIndexingService bugIndexingService,
+                             ElasticsearchOperations elasticsearchOperations,
+                             ElasticsearchClient elasticsearchClient,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${bugwise.reindex.workers:4}") int workers,
+                             @Value("${bugwise.reindex.chunk-size:1000}") int chunkSize,
+                             @Value("${bugwise.reindex.replicas:1}") String replicas) {
+        this.bugRepository = bugRepository;
+        this.reindexJobRepository = reindexJobRepository;
+        this.bugIndexingService = bugIndexingService;
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.elasticsearchClient = elasticsearchClient;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.indexedDocuments = Counter.builder("bugwise.reindex.documents")
+                .description("Documents bulk-loaded by full reindex jobs")
+                .register(meterRegistry);
+        this.workers = workers;
+        this.chunkSize = chunkSize;
+        this.replicas = replicas;
+        this.workerPool = Executors.newFixedThreadPool(workers);
+    }
+
+    public ReindexJobDTO startReindex() {
+        String targetIndex = BUGS_ALIAS + "_v" + LocalDateTime.now().format(INDEX_SUFFIX);
+
+        IndexOperations indexOps = elasticsearchOperations.indexOps(IndexCoordinates.of(targetIndex));
+        indexOps.create(Map.of(
+                "index.refresh_interval", "-1",
+                "index.number_of_replicas", "0"
+        ), indexOps.createMapping(BugDocument.class));
+
+        ReindexJob job = new ReindexJob();
+        job.setTargetIndex(targetIndex);
+        job.setStatus(ReindexJobStatus.RUNNING);
+        job.setStartedAt(LocalDateTime.now());
+        job = reindexJobRepository.save(job);
+
+        submit(job);
+        return toDTO(job);
+    }
+
+    public ReindexJobDTO resumeReindex(String jobId) {
+        ReindexJob job = reindexJobRepository.findById(jobId)
+                .orElseThrow(() -> new NoSuchElementException("Reindex job not found"));
+
+        if (job.getStatus() == ReindexJobStatus.COMPLETED) {
+            throw new ValidationException(Map.of("error", "Reindex job has already completed"));
+        }
+        if (activeJobs.contains(jobId)) {
+            throw new ValidationException(Map.of("error", "Reindex job is already running"));
+        }
+
+        job.setStatus(ReindexJobStatus.RUNNING);
+        job.setErrorMessage(null);
+        job = reindexJobRepository.save(job);
+
+        submit(job);
+        return toDTO(job);
+    }
+
+    public ReindexJobDTO getReindexJob(String jobId) {
+        return reindexJobRepository.findById(jobId)
+                .map(this::toDTO)
+                .orElseThrow(() -> new NoSuchElementException("Reindex job not found"));
+    }
+
+    private void submit(ReindexJob job) {
+        activeJobs.add(job.getId());
+        coordinator.submit(() -> {
+            try {
+                run(job);
+            } finally {
+                activeJobs.remove(job.getId());
+            }
+        });
+    }
+
+    private void run(ReindexJob job) {
+        String targetIndex = job.getTargetIndex();
+        String cursor = job.getLastBugId() != null ? job.getLastBugId() : "";
+        try {
+            while (true) {
+                List<Future<Integer>> wave = new ArrayList<>();
+                String waveEnd = cursor;
+                for (int i = 0; i < workers; i++) {
+                    List<String> ids = bugRepository.findIdsAfter(waveEnd, chunkSize);
+                    if (ids.isEmpty()) {
+                        break;
+                    }
+                    waveEnd = ids.get(ids.size() - 1);
+                    wave.add(workerPool.submit(() -> indexChunk(ids, targetIndex)));
+                }
+                if (wave.isEmpty()) {
+                    break;
+                }
+
+                long indexed = 0;
+                for (Future<Integer> chunk : wave) {
+                    indexed += chunk.get();
+                }
+                cursor = waveEnd;
+
+                job.setLastBugId(cursor);
+                job.setIndexedCount(job.getIndexedCount() + indexed);
+                job = reindexJobRepository.save(job);
+                log.info("Reindex {}: {} documents into {} ({} docs/s)", job.getId(), job.getIndexedCount(),
+                        targetIndex, String.format("%.0f", throughput(job)));
+            }
+
+            finish(job);
+        } catch (Exception e) {
+            log.error("Reindex {} failed at bug {}", job.getId(), cursor, e);
+            job.setStatus(ReindexJobStatus.FAILED);
+            job.setErrorMessage(e.getMessage());
+            reindexJobRepository.save(job);
+        }
+    }
+
+    private int indexChunk(List<String> ids, String targetIndex) {
+        List<BugDocument> documents = readOnlyTransaction.execute(status ->
+                bugRepository.findAllForIndexing(ids).stream()
+                        .map(BugDocumentMapper::toDocument)
+                        .toList());
+        if (documents == null || documents.isEmpty()) {
+            return 0;
+        }
+        elasticsearchOperations.save(documents, IndexCoordinates.of(targetIndex));
+        indexedDocuments.increment(documents.size());
+        return documents.size();
+    }
+
+    private void finish(ReindexJob job) throws Exception {
+        String targetIndex = job.getTargetIndex();
+        elasticsearchClient.indices().putSettings(r -> r
+                .index(targetIndex)
+                .settings(s -> s
+                        .refreshInterval(t -> t.time("1s"))
+                        .numberOfReplicas(replicas)));
+
+        IndexOperations targetOps = elasticsearchOperations.indexOps(IndexCoordinates.of(targetIndex));
+        targetOps.refresh();
+        swapAlias(targetOps, targetIndex);
+
+        job.setStatus(ReindexJobStatus.COMPLETED);
+        job.setFinishedAt(LocalDateTime.now());
+        reindexJobRepository.save(job);
+
+        // Writes that landed on the old index while the job was running are replayed through the outbox.
+        List<String> changedIds = bugRepository.findIdsUpdatedSince(job.getStartedAt());
+        if (!changedIds.isEmpty()) {
+            bugIndexingService.enqueueAll(changedIds);
+        }
+        log.info("Reindex {} completed: {} documents, alias {} -> {}", job.getId(), job.getIndexedCount(),
+                BUGS_ALIAS, targetIndex);
+    }
+
+    private void swapAlias(IndexOperations targetOps, String targetIndex) {
+        List<AliasAction> actions = new ArrayList<>();
+        actions.add(new AliasAction.Add(AliasActionParameters.builder()
+                .withIndices(targetIndex)
+                .withAliases(BUGS_ALIAS)
+                .build()));
+
+        Map<String, Set<AliasData>> current = currentAliasTargets(targetOps);
+        if (current.isEmpty() && elasticsearchOperations.indexOps(IndexCoordinates.of(BUGS_ALIAS)).exists()) {
+            // First run: "bugs" is still the concrete index created from @Document, replace it with the alias.
+            actions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder()
+                    .withIndices(BUGS_ALIAS)
+                    .build()));
+        } else {
+            current.keySet().stream()
+                    .filter(index -> !index.equals(targetIndex))
+                    .forEach(index -> actions.add(new AliasAction.Remove(AliasActionParameters.builder()
+                            .withIndices(index)
+                            .withAliases(BUGS_ALIAS)
+                            .build())));
+        }
+
+        targetOps.alias(new AliasActions(actions.toArray(new AliasAction[0])));
+    }
+
+    private Map<String, Set<AliasData>> currentAliasTargets(IndexOperations indexOps) {
+        try {
+            return indexOps.getAliases(BUGS_ALIAS);
+        } catch (RuntimeException e) {
+            log.debug("Alias {} does not exist yet: {}", BUGS_ALIAS, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private double throughput(ReindexJob job) {
+        LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+        long millis = Math.max(1, Duration.between(job.getStartedAt(), end).toMillis());
+        return job.getIndexedCount() * 1000.0 / millis;
+    }
+
+    private ReindexJobDTO toDTO(ReindexJob job) {
+        return new ReindexJobDTO(
+                job.getId(),
+                job.getTargetIndex(),
+                job.getStatus(),
+                job.getLastBugId(),
+                job.getIndexedCount(),
+                throughput(job),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getErrorMessage()
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coordinator.shutdownNow();
+        workerPool.shutdownNow();
+    }
+}
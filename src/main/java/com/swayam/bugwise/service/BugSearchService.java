@@ -0,0 +1,374 @@
+package com.swayam.bugwise.service;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swayam.bugwise.dto.BugDTO;
+import com.swayam.bugwise.dto.BugSearchHitDTO;
+import com.swayam.bugwise.dto.BugSearchPageDTO;
+import com.swayam.bugwise.dto.FacetBucketDTO;
+import com.swayam.bugwise.dto.FacetedSearchDTO;
+import com.swayam.bugwise.dto.TitleSuggestionDTO;
+import com.swayam.bugwise.entity.Bug;
+import com.swayam.bugwise.entity.BugDocument;
+import com.swayam.bugwise.enums.BugSeverity;
+import com.swayam.bugwise.enums.BugStatus;
+import com.swayam.bugwise.exception.ValidationException;
+import com.swayam.bugwise.repository.jpa.BugRepository;
+import com.swayam.bugwise.utils.BugDocumentMapper;
+import com.swayam.bugwise.utils.DTOConverter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.data.elasticsearch.core.query.HighlightQuery;
+import org.springframework.data.elasticsearch.core.query.highlight.Highlight;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightField;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Project bug search served from the {@code bugs} index. Results are paged with
+ * {@code search_after} over (sort field, id); only sorts on fields the index cannot sort by
+ * are answered from Postgres.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BugSearchService {
+    public static final String SORT_RELEVANCE = "relevance";
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Set<String> INDEX_SORTS = Set.of(
+            "createdAt", "updatedAt", "status", "severity", "bugType", "expectedTimeHours", "actualTimeHours");
+    private static final Set<String> DATABASE_SORTS = Set.of("title", "description");
+    private static final int FACET_SIZE = 50;
+    private static final int MAX_SUGGESTIONS = 20;
+    private static final Map<String, String> FACET_FIELDS = new LinkedHashMap<>();
+
+    static {
+        FACET_FIELDS.put("status", "status");
+        FACET_FIELDS.put("severity", "severity");
+        FACET_FIELDS.put("bugType", "bugType");
+        FACET_FIELDS.put("assignee", "assignedDeveloperId");
+        FACET_FIELDS.put("organization", "organization.id");
+    }
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final BugRepository bugRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, List<TitleSuggestionDTO>> suggestionCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .build();
+
+    @Transactional(readOnly = true)
+    public BugSearchPageDTO search(String projectId, String searchTerm, List<BugStatus> statuses,
+                                   List<BugSeverity> severities, String sort, Sort.Direction direction,
+                                   String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        String sortField = sort == null || sort.isBlank() ? SORT_RELEVANCE : sort;
+
+        if (sortField.equals(SORT_RELEVANCE) || INDEX_SORTS.contains(sortField)) {
+            return searchIndex(projectId, searchTerm, statuses, severities, sortField, direction, cursor, limit);
+        }
+        if (DATABASE_SORTS.contains(sortField)) {
+            return searchDatabase(projectId, searchTerm, statuses, severities, sortField, direction, cursor, limit);
+        }
+        throw new ValidationException(Map.of("error", "Unsupported sort field: " + sortField));
+    }
+
+    public Page<BugDTO> searchPage(String projectId, String searchTerm, String status, Pageable pageable) {
+        List<BugStatus> statuses = status != null && !status.isEmpty()
+                ? List.of(BugStatus.valueOf(status))
+                : List.of();
+
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(projectQuery(projectId, searchTerm, statuses, List.of()))
+                .withSort(sortOptions(SORT_RELEVANCE, Sort.Direction.DESC))
+                .withPageable(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+                .withTrackTotalHits(true)
+                .build();
+
+        SearchHits<BugDocument> hits = elasticsearchOperations.search(query, BugDocument.class);
+        List<BugDTO> content = hits.stream()
+                .map(hit -> BugDocumentMapper.toBugDTO(hit.getContent()))
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, hits.getTotalHits());
+    }
+
+    public List<TitleSuggestionDTO> suggestTitles(String projectId, String prefix, int size) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        int limit = Math.min(Math.max(size, 1), MAX_SUGGESTIONS);
+        String normalized = prefix.trim().toLowerCase();
+        return suggestionCache.get(projectId + "|" + limit + "|" + normalized,
+                key -> loadTitleSuggestions(projectId, normalized, limit));
+    }
+
+    private List<TitleSuggestionDTO> loadTitleSuggestions(String projectId, String prefix, int limit) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.bool(b -> b
+                        .filter(f -> f.term(t -> t.field("projectId").value(projectId)))
+                        .must(m -> m.multiMatch(mm -> mm
+                                .query(prefix)
+                                .type(TextQueryType.BoolPrefix)
+                                .fields("title.suggest", "title.suggest._2gram", "title.suggest._3gram")))))
+                .withSourceFilter(new FetchSourceFilterBuilder().withIncludes("id", "title", "status").build())
+                .withPageable(PageRequest.of(0, limit))
+                .withTrackTotalHits(false)
+                .build();
+
+        return elasticsearchOperations.search(query, BugDocument.class).stream()
+                .map(hit -> new TitleSuggestionDTO(
+                        hit.getId(),
+                        hit.getContent().getTitle(),
+                        hit.getContent().getStatus()))
+                .toList();
+    }
+
+    /**
+     * Runs one search returning a page of hits and a terms breakdown per facet. Selected facet values
+     * narrow the hits through a post filter; each facet is counted under every selection but its own,
+     * so the UI can still offer the alternatives.
+     */
+    public FacetedSearchDTO facetedSearch(String projectId, String searchTerm, Map<String, List<String>> selections,
+                                          int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        Map<String, Query> selected = new LinkedHashMap<>();
+        FACET_FIELDS.forEach((facet, field) -> {
+            List<String> values = selections.get(facet);
+            if (values != null && !values.isEmpty()) {
+                selected.put(facet, termsQuery(field, values));
+            }
+        });
+
+        NativeQueryBuilder builder = NativeQuery.builder()
+                .withQuery(projectQuery(projectId, searchTerm, List.of(), List.of()))
+                .withSort(sortOptions(SORT_RELEVANCE, Sort.Direction.DESC))
+                .withPageable(PageRequest.of(0, limit))
+                .withTrackTotalHits(true)
+                .withHighlightQuery(highlightQuery());
+        if (!selected.isEmpty()) {
+            builder.withFilter(allOf(selected.values()));
+        }
+
+        FACET_FIELDS.forEach((facet, field) -> {
+            List<Query> others = selected.entrySet().stream()
+                    .filter(entry -> !entry.getKey().equals(facet))
+                    .map(Map.Entry::getValue)
+                    .toList();
+            builder.withAggregation(facet, Aggregation.of(a -> a
+                    .filter(allOf(others))
+                    .aggregations("values", Aggregation.of(t -> t.terms(terms -> terms.field(field).size(FACET_SIZE))))));
+        });
+
+        SearchHits<BugDocument> hits = elasticsearchOperations.search(builder.build(), BugDocument.class);
+        ElasticsearchAggregations aggregations = (ElasticsearchAggregations) hits.getAggregations();
+
+        Map<String, List<FacetBucketDTO>> facets = new LinkedHashMap<>();
+        FACET_FIELDS.keySet().forEach(facet -> facets.put(facet, aggregations.aggregationsAsMap().get(facet)
+                .aggregation().getAggregate()
+                .filter().aggregations().get("values")
+                .sterms().buckets().array().stream()
+                .map(bucket -> new FacetBucketDTO(bucket.key().stringValue(), bucket.docCount()))
+                .toList()));
+
+        List<BugSearchHitDTO> results = hits.getSearchHits().stream()
+                .map(this::toHit)
+                .collect(Collectors.toList());
+        return new FacetedSearchDTO(results, hits.getTotalHits(), facets);
+    }
+
+    private BugSearchPageDTO searchIndex(String projectId, String searchTerm, List<BugStatus> statuses,
+                                         List<BugSeverity> severities, String sortField, Sort.Direction direction,
+                                         String cursor, int limit) {
+        NativeQueryBuilder builder = NativeQuery.builder()
+                .withQuery(projectQuery(projectId, searchTerm, statuses, severities))
+                .withSort(sortOptions(sortField, direction))
+                .withPageable(PageRequest.of(0, limit + 1))
+                .withTrackTotalHits(true)
+                .withHighlightQuery(highlightQuery());
+
+        List<Object> searchAfter = decodeCursor(cursor);
+        if (searchAfter != null) {
+            builder.withSearchAfter(searchAfter);
+        }
+
+        SearchHits<BugDocument> hits = elasticsearchOperations.search(builder.build(), BugDocument.class);
+        List<SearchHit<BugDocument>> page = hits.getSearchHits();
+        boolean hasNext = page.size() > limit;
+        if (hasNext) {
+            page = page.subList(0, limit);
+        }
+
+        List<BugSearchHitDTO> results = page.stream()
+                .map(this::toHit)
+                .collect(Collectors.toList());
+
+        String nextCursor = hasNext ? encodeCursor(page.get(page.size() - 1).getSortValues()) : null;
+        return new BugSearchPageDTO(
+                results,
+                hits.getTotalHits(),
+                hits.getTotalHitsRelation() == TotalHitsRelation.EQUAL_TO,
+                nextCursor,
+                hasNext,
+                "elasticsearch"
+        );
+    }
+
+    private BugSearchPageDTO searchDatabase(String projectId, String searchTerm, List<BugStatus> statuses,
+                                         List<BugSeverity> severities, String sortField, Sort.Direction direction,
+                                         String cursor, int limit) {
+        int pageNumber = decodePageNumber(cursor);
+
+        Specification<Bug> spec = Specification.where((root, query, cb) ->
+                cb.equal(root.get("project").get("id"), projectId));
+        if (searchTerm != null && !searchTerm.isBlank()) {
+            String pattern = "%" + searchTerm.toLowerCase() + "%";
+            spec = spec.and((root, query, cb) -> cb.or(
+                    cb.like(cb.lower(root.get("title")), pattern),
+                    cb.like(cb.lower(root.get("description")), pattern)));
+        }
+        if (statuses != null && !statuses.isEmpty()) {
+            spec = spec.and((root, query, cb) -> root.get("status").in(statuses));
+        }
+        if (severities != null && !severities.isEmpty()) {
+            spec = spec.and((root, query, cb) -> root.get("severity").in(severities));
+        }
+
+        Sort order = Sort.by(direction, sortField).and(Sort.by(Sort.Direction.ASC, "id"));
+        Page<Bug> bugs = bugRepository.findAll(spec, PageRequest.of(pageNumber, limit, order));
+
+        List<BugSearchHitDTO> results = bugs.stream()
+                .map(bug -> new BugSearchHitDTO(DTOConverter.convertToDTO(bug, BugDTO.class), null, Map.of()))
+                .collect(Collectors.toList());
+
+        return new BugSearchPageDTO(
+                results,
+                bugs.getTotalElements(),
+                true,
+                bugs.hasNext() ? encodeCursor(List.of(pageNumber + 1)) : null,
+                bugs.hasNext(),
+                "database"
+        );
+    }
+
+    private Query projectQuery(String projectId, String searchTerm, List<BugStatus> statuses,
+                               List<BugSeverity> severities) {
+        return Query.of(q -> q.bool(b -> {
+            b.filter(f -> f.term(t -> t.field("projectId").value(projectId)));
+            if (searchTerm != null && !searchTerm.isBlank()) {
+                b.must(m -> m.multiMatch(mm -> mm
+                        .fields("title^2", "description")
+                        .query(searchTerm)));
+            }
+            if (statuses != null && !statuses.isEmpty()) {
+                b.filter(termsQuery("status", statuses.stream().map(Enum::name).toList()));
+            }
+            if (severities != null && !severities.isEmpty()) {
+                b.filter(termsQuery("severity", severities.stream().map(Enum::name).toList()));
+            }
+            return b;
+        }));
+    }
+
+    private Query termsQuery(String field, List<String> values) {
+        List<FieldValue> fieldValues = values.stream().map(FieldValue::of).toList();
+        return Query.of(q -> q.terms(t -> t.field(field).terms(v -> v.value(fieldValues))));
+    }
+
+    private Query allOf(Collection<Query> queries) {
+        if (queries.isEmpty()) {
+            return Query.of(q -> q.matchAll(m -> m));
+        }
+        return Query.of(q -> q.bool(b -> b.filter(List.copyOf(queries))));
+    }
+
+    private HighlightQuery highlightQuery() {
+        return new HighlightQuery(new Highlight(List.of(
+                new HighlightField("title"),
+                new HighlightField("description"))), BugDocument.class);
+    }
+
+    private BugSearchHitDTO toHit(SearchHit<BugDocument> hit) {
+        return new BugSearchHitDTO(
+                BugDocumentMapper.toBugDTO(hit.getContent()),
+                Float.isNaN(hit.getScore()) ? null : hit.getScore(),
+                hit.getHighlightFields());
+    }
+
+    private List<SortOptions> sortOptions(String sortField, Sort.Direction direction) {
+        SortOrder order = direction == Sort.Direction.ASC ? SortOrder.Asc : SortOrder.Desc;
+        SortOptions primary = sortField.equals(SORT_RELEVANCE)
+                ? SortOptions.of(s -> s.score(sc -> sc.order(order)))
+                : SortOptions.of(s -> s.field(f -> f.field(sortField).order(order)));
+        SortOptions tieBreaker = SortOptions.of(s -> s.field(f -> f.field("id").order(SortOrder.Asc)));
+        return List.of(primary, tieBreaker);
+    }
+
+    private String encodeCursor(List<Object> values) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(objectMapper.writeValueAsBytes(values));
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to encode search cursor", e);
+        }
+    }
+
+    // Database cursors hold only a page number; a search_after cursor from the index lands here
+    // when the client switches to a database-only sort.
+    private int decodePageNumber(String cursor) {
+        List<Object> position = decodeCursor(cursor);
+        if (position == null) {
+            return 0;
+        }
+        if (position.size() != 1 || !(position.get(0) instanceof Integer pageNumber) || pageNumber < 0) {
+            throw new ValidationException(Map.of("error", "Invalid cursor"));
+        }
+        return pageNumber;
+    }
+
+    private List<Object> decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            List<Object> values = objectMapper.readValue(json, new TypeReference<List<Object>>() {});
+            if (values.isEmpty()) {
+                throw new IllegalArgumentException("Empty cursor");
+            }
+            return values;
+        } catch (Exception e) {
+            throw new ValidationException(Map.of("error", "Invalid cursor"));
+        }
+    }
+}
@@ -1,34 +1,40 @@
 package com.swayam.bugwise.service;
 
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
 import com.swayam.bugwise.dto.*;
 import com.swayam.bugwise.entity.*;
 import com.swayam.bugwise.enums.*;
+import com.swayam.bugwise.exception.ConflictException;
 import com.swayam.bugwise.exception.ValidationException;
-import com.swayam.bugwise.repository.elasticsearch.BugDocumentRepository;
 import com.swayam.bugwise.repository.jpa.BugRepository;
 import com.swayam.bugwise.repository.jpa.ProjectRepository;
 import com.swayam.bugwise.repository.jpa.UserRepository;
+import com.swayam.bugwise.utils.BugCursor;
+import com.swayam.bugwise.utils.BugDocumentMapper;
 import com.swayam.bugwise.utils.DTOConverter;
 
-import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
-import org.springframework.data.jpa.domain.Specification;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import org.springframework.data.elasticsearch.core.SearchHits;
-import org.springframework.data.elasticsearch.core.SearchHit;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -37,15 +43,24 @@ import java.util.stream.Collectors;
 @Transactional
 @Slf4j
 public class BugService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_STATUS_UPDATE_ATTEMPTS = 3;
+    private static final int MY_WORK_PROJECTS = 100;
+    private static final int MY_WORK_BUGS = 200;
+    private static final Set<BugStatus> CLOSED_STATUSES = EnumSet.of(BugStatus.RESOLVED, BugStatus.CLOSED);
+
     private final BugRepository bugRepository;
-    private final BugDocumentRepository bugDocumentRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
     private final ElasticsearchOperations elasticsearchOperations;
     private final NotificationService notificationService;
+    private final BugIndexingService bugIndexingService;
+    private final DuplicateBugDetector duplicateBugDetector;
+    private final BugCounterService bugCounterService;
+    private final BugStatusHistoryService bugStatusHistoryService;
+    private final DeveloperWorkloadService developerWorkloadService;
 
     @Transactional
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
     public Bug createBug(BugRequestDTO request, String email) {
         User currentUser = userRepository.findByEmail(email).orElseThrow(() ->
                 new NoSuchElementException("User not found"));
@@ -62,8 +77,32 @@ public class BugService {
 
         bug.setProject(project);
 
+        long fingerprint = duplicateBugDetector.fingerprint(request.getTitle(), request.getDescription());
+        DuplicatePolicy duplicatePolicy = request.getDuplicatePolicy() != null
+                ? request.getDuplicatePolicy()
+                : DuplicatePolicy.IGNORE;
+        if (duplicatePolicy != DuplicatePolicy.IGNORE) {
+            List<DuplicateCandidateDTO> duplicates = duplicateBugDetector.findDuplicates(project.getId(), fingerprint);
+            if (!duplicates.isEmpty()) {
+                if (duplicatePolicy == DuplicatePolicy.BLOCK) {
+                    throw new ValidationException(Map.of(
+                            "error", "A similar bug already exists in this project",
+                            "duplicates", duplicates.stream().map(DuplicateCandidateDTO::getBugId).collect(Collectors.joining(","))
+                    ));
+                }
+                bug.setDuplicateOfId(duplicates.get(0).getBugId());
+            }
+        }
+
         Bug savedBug = bugRepository.save(bug);
-        indexBugInElasticsearch(savedBug);
+        bugIndexingService.enqueue(savedBug.getId());
+        bugCounterService.bugCreated(project.getId(), savedBug.getStatus(), savedBug.getSeverity());
+        bugStatusHistoryService.recordCreated(savedBug.getId(), project.getId(), savedBug.getStatus(), email);
+        duplicateBugDetector.index(project.getId(), savedBug.getId(), fingerprint);
+
+        if (savedBug.getDuplicateOfId() != null) {
+            return savedBug;
+        }
 
         NotificationMessageDTO message = new NotificationMessageDTO(
                 NotificationType.BUG_CREATED,
@@ -80,11 +119,11 @@ public class BugService {
 
     @CachePut(value = "bugs", key = "#bugId")
     @Transactional
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
     public BugDTO updateBug(String bugId, BugRequestDTO request, String updatedBy) {
         Bug bug = bugRepository.findById(bugId)
                 .orElseThrow(() -> new NoSuchElementException("Bug not found"));
         validateUserCanUpdateBug(bug);
+        BugSeverity oldSeverity = bug.getSeverity();
 
         bug.setTitle(request.getTitle());
         bug.setDescription(request.getDescription());
@@ -103,7 +142,13 @@ public class BugService {
         }
 
         Bug updatedBug = bugRepository.save(bug);
-        indexBugInElasticsearch(updatedBug);
+        bugIndexingService.enqueue(updatedBug.getId());
+        bugCounterService.severityChanged(bug.getProject().getId(), bug.getStatus(), oldSeverity, bug.getSeverity());
+        if (oldSeverity != bug.getSeverity()) {
+            developerWorkloadService.refreshAfterCommit(developerIds(bug));
+        }
+        duplicateBugDetector.index(bug.getProject().getId(), updatedBug.getId(),
+                duplicateBugDetector.fingerprint(bug.getTitle(), bug.getDescription()));
 
         List<String> notificationUserList = new ArrayList<>(List.of(bug.getProject().getProjectManager().getEmail()));
         notificationUserList.addAll(bug.getAssignedDeveloper().stream().map(User::getEmail).collect(Collectors.toList()));
@@ -128,97 +173,58 @@ public class BugService {
     }
 
     @Cacheable(value = "bugs", key = "#bugId")
+    @Transactional(readOnly = true)
     public BugDTO getBug(String bugId) {
-        Bug bug = bugRepository.findById(bugId)
+        BugDetailsProjection row = bugRepository.findBugDetailsById(bugId, PageRequest.of(0, 1)).stream()
+                .findFirst()
                 .orElseThrow(() -> new NoSuchElementException("Bug not found with id: " + bugId));
 
         BugDTO dto = new BugDTO();
-        dto.setId(bug.getId());
-        dto.setTitle(bug.getTitle());
-        dto.setDescription(bug.getDescription());
-        dto.setStatus(bug.getStatus());
-        dto.setSeverity(bug.getSeverity());
-        dto.setCreatedAt(bug.getCreatedAt());
-        dto.setUpdatedAt(bug.getUpdatedAt());
-        dto.setBugType(bug.getBugType());
-        dto.setActualTimeHours(bug.getActualTimeHours());
-        dto.setExpectedTimeHours(bug.getExpectedTimeHours());
-
-        Project project = bug.getProject();
+        dto.setId(row.getId());
+        dto.setTitle(row.getTitle());
+        dto.setDescription(row.getDescription());
+        dto.setStatus(row.getStatus());
+        dto.setSeverity(row.getSeverity());
+        dto.setCreatedAt(row.getCreatedAt());
+        dto.setUpdatedAt(row.getUpdatedAt());
+        dto.setBugType(row.getBugType());
+        dto.setActualTimeHours(row.getActualTimeHours());
+        dto.setExpectedTimeHours(row.getExpectedTimeHours());
+
         ProjectDTO projectDTO = new ProjectDTO();
-        projectDTO.setId(project.getId());
-        projectDTO.setName(project.getName());
-        projectDTO.setDescription(project.getDescription());
+        projectDTO.setId(row.getProjectId());
+        projectDTO.setName(row.getProjectName());
+        projectDTO.setDescription(row.getProjectDescription());
         dto.setProject(projectDTO);
 
-        if (project.getOrganization() != null) {
-            dto.setOrganizationId(project.getOrganization().getId());
-            dto.setOrganizationName(project.getOrganization().getName());
-        }
+        dto.setOrganizationId(row.getOrganizationId());
+        dto.setOrganizationName(row.getOrganizationName());
+        dto.setProjectManagerId(row.getProjectManagerId());
+        dto.setProjectManagerName(row.getProjectManagerEmail());
 
-        if (project.getProjectManager() != null) {
-            dto.setProjectManagerId(project.getProjectManager().getId());
-            dto.setProjectManagerName(project.getProjectManager().getUsername());
-        }
-
-        if (bug.getReportedBy() != null) {
+        if (row.getReportedById() != null) {
             UserDetailsDTO reportedByDTO = new UserDetailsDTO();
-            reportedByDTO.setId(bug.getReportedBy().getId());
-            reportedByDTO.setRole(bug.getReportedBy().getRole());
-            reportedByDTO.setEmail(bug.getReportedBy().getEmail());
-            reportedByDTO.setFirstName(bug.getReportedBy().getFirstName());
-            reportedByDTO.setLastName(bug.getReportedBy().getLastName());
+            reportedByDTO.setId(row.getReportedById());
+            reportedByDTO.setRole(row.getReportedByRole());
+            reportedByDTO.setEmail(row.getReportedByEmail());
+            reportedByDTO.setFirstName(row.getReportedByFirstName());
+            reportedByDTO.setLastName(row.getReportedByLastName());
             dto.setReportedBy(reportedByDTO);
         }
 
-        if (!bug.getAssignedDeveloper().isEmpty()) {
-            User developer = bug.getAssignedDeveloper().iterator().next();
+        if (row.getDeveloperId() != null) {
             UserDetailsDTO developerDTO = new UserDetailsDTO();
-            developerDTO.setId(developer.getId());
-            developerDTO.setRole(developer.getRole());
-            developerDTO.setEmail(developer.getEmail());
-            developerDTO.setFirstName(developer.getFirstName());
-            developerDTO.setLastName(developer.getLastName());
+            developerDTO.setId(row.getDeveloperId());
+            developerDTO.setRole(row.getDeveloperRole());
+            developerDTO.setEmail(row.getDeveloperEmail());
+            developerDTO.setFirstName(row.getDeveloperFirstName());
+            developerDTO.setLastName(row.getDeveloperLastName());
             dto.setAssignedDeveloper(developerDTO);
         }
 
         return dto;
     }
 
-    private void indexBugInElasticsearch(Bug bug) {
-        BugDocument bugDocument = new BugDocument();
-        bugDocument.setId(bug.getId());
-        bugDocument.setTitle(bug.getTitle());
-        bugDocument.setDescription(bug.getDescription());
-        bugDocument.setStatus(bug.getStatus());
-        bugDocument.setSeverity(bug.getSeverity());
-        bugDocument.setProjectId(bug.getProject().getId());
-        bugDocument.setProjectName(bug.getProject().getName());
-        bugDocument.setCreatedAt(bug.getCreatedAt());
-        bugDocument.setUpdatedAt(bug.getUpdatedAt());
-        bugDocument.setBugType(bug.getBugType());
-        bugDocument.setExpectedTimeHours(bug.getExpectedTimeHours());
-        bugDocument.setActualTimeHours(bug.getActualTimeHours());
-
-        if (bug.getAssignedDeveloper() != null) {
-            bugDocument.setAssignedDeveloperId(bug.getAssignedDeveloper().stream().map(e -> e.getId()).collect(Collectors.joining(",")));
-            bugDocument.setAssignedDeveloperEmail(bug.getAssignedDeveloper().stream().map(e -> e.getEmail()).collect(Collectors.joining(",")));
-        }
-
-        if (bug.getReportedBy() != null) {
-            bugDocument.setReportedById(bug.getReportedBy().getId());
-        }
-
-        if (bug.getProject().getOrganization() != null) {
-            BugDocument.OrganizationRef orgRef = new BugDocument.OrganizationRef();
-            orgRef.setId(bug.getProject().getOrganization().getId());
-            orgRef.setName(bug.getProject().getOrganization().getName());
-            bugDocument.setOrganization(orgRef);
-        }
-
-        bugDocumentRepository.save(bugDocument);
-    }
-
     @CachePut(value = "bugs", key = "#bugId")
     public BugDTO assignBugToDevelopers(String bugId, List<String> developerEmails) {
         Bug bug = bugRepository.findById(bugId)
@@ -226,11 +232,18 @@ public class BugService {
 
         Set<User> developers = userRepository.findAllByEmailIn(new HashSet<>(developerEmails));
 
+        BugStatus oldStatus = bug.getStatus();
+        Set<String> affectedDevelopers = developerIds(bug);
+        developers.forEach(developer -> affectedDevelopers.add(developer.getId()));
         bug.setAssignedDeveloper((Set<User>) developers);
         bug.setStatus(BugStatus.OPEN);
 
         Bug updatedBug = bugRepository.save(bug);
-        indexBugInElasticsearch(updatedBug);
+        bugIndexingService.enqueue(updatedBug.getId());
+        bugCounterService.statusChanged(bug.getProject().getId(), bug.getSeverity(), oldStatus, BugStatus.OPEN);
+        bugStatusHistoryService.recordTransition(bugId, bug.getProject().getId(), oldStatus, BugStatus.OPEN,
+                currentUserEmail());
+        developerWorkloadService.refreshAfterCommit(affectedDevelopers);
 
         NotificationMessageDTO message = new NotificationMessageDTO(
                 NotificationType.BUG_ASSIGNED,
@@ -252,41 +265,73 @@ public class BugService {
 
     @CacheEvict(value = "bugs", key = "#bugId")
     public BugDTO updateBugStatus(String bugId, BugStatus newStatus, String currentUser) {
-        Bug bug = bugRepository.findById(bugId)
-                .orElseThrow(() -> new NoSuchElementException("Bug not found"));
-        BugStatus oldStatus = bug.getStatus();
-        validateStatusTransition(bug, newStatus);
+        for (int attempt = 1; ; attempt++) {
+            Bug bug = bugRepository.findById(bugId)
+                    .orElseThrow(() -> new NoSuchElementException("Bug not found"));
+            BugStatus oldStatus = bug.getStatus();
+            validateStatusTransition(bug, newStatus);
+
+            if (newStatus.equals(oldStatus)) {
+                return DTOConverter.convertToDTO(bug, BugDTO.class);
+            }
 
-        bug.setStatus(newStatus);
-        Bug updatedBug = bugRepository.save(bug);
-        indexBugInElasticsearch(updatedBug);
+            // Conditional update: only applies if nobody changed the bug since it was read. The
+            // transition is re-validated against fresh state before retrying, so a retry is safe.
+            int updated = bugRepository.compareAndSetStatus(bugId, oldStatus, bug.getVersion(), newStatus,
+                    LocalDateTime.now(), currentUser);
+            if (updated == 0) {
+                if (attempt >= MAX_STATUS_UPDATE_ATTEMPTS) {
+                    throw new ConflictException("Bug was modified concurrently, reload and try again");
+                }
+                log.debug("Status update of bug {} lost a race, retrying (attempt {})", bugId, attempt);
+                continue;
+            }
 
-        if (!newStatus.equals(oldStatus)) {
-            List<String> notificationUserList = new ArrayList<>();
-            String managereEmail = bug.getProject().getProjectManager().getEmail();
-            if(!currentUser.equals(managereEmail)){
-                notificationUserList.add(managereEmail);
+            Bug updatedBug = bugRepository.findById(bugId)
+                    .orElseThrow(() -> new NoSuchElementException("Bug not found"));
+            bugIndexingService.enqueue(updatedBug.getId());
+            bugCounterService.statusChanged(updatedBug.getProject().getId(), updatedBug.getSeverity(), oldStatus, newStatus);
+            bugStatusHistoryService.recordTransition(bugId, updatedBug.getProject().getId(), oldStatus, newStatus, currentUser);
+            if (CLOSED_STATUSES.contains(oldStatus) != CLOSED_STATUSES.contains(newStatus)) {
+                developerWorkloadService.refreshAfterCommit(developerIds(updatedBug));
             }
-            notificationUserList.addAll(bug.getAssignedDeveloper().stream().map(User::getEmail).filter(email -> !email.equals(currentUser)).toList());
-
-            NotificationMessageDTO message = new NotificationMessageDTO(
-                    NotificationType.BUG_STATUS_CHANGED,
-                    "Bug Status Changed",
-                    "Bug status: " + newStatus,
-                    Map.of(
-                            "bugId", bug.getId(),
-                            "title", bug.getTitle(),
-                            "severity", bug.getSeverity(),
-                            "updatedBy", currentUser
-                    ),
-                    notificationUserList,
-                    new NotificationMessageDTO.InAppDetails("/bugs/" + bug.getId(), "bug-icon.png")
-            );
-
-            notificationService.sendNotification(message);
+            notifyStatusChange(updatedBug, newStatus, currentUser);
+            return DTOConverter.convertToDTO(updatedBug, BugDTO.class);
         }
+    }
 
-        return DTOConverter.convertToDTO(updatedBug, BugDTO.class);
+    private void notifyStatusChange(Bug bug, BugStatus newStatus, String currentUser) {
+        List<String> notificationUserList = new ArrayList<>();
+        String managereEmail = bug.getProject().getProjectManager().getEmail();
+        if(!currentUser.equals(managereEmail)){
+            notificationUserList.add(managereEmail);
+        }
+        notificationUserList.addAll(bug.getAssignedDeveloper().stream().map(User::getEmail).filter(email -> !email.equals(currentUser)).toList());
+
+        NotificationMessageDTO message = new NotificationMessageDTO(
+                NotificationType.BUG_STATUS_CHANGED,
+                "Bug Status Changed",
+                "Bug status: " + newStatus,
+                Map.of(
+                        "bugId", bug.getId(),
+                        "title", bug.getTitle(),
+                        "severity", bug.getSeverity(),
+                        "updatedBy", currentUser
+                ),
+                notificationUserList,
+                new NotificationMessageDTO.InAppDetails("/bugs/" + bug.getId(), "bug-icon.png")
+        );
+
+        notificationService.sendNotification(message);
+    }
+
+    private static Set<String> developerIds(Bug bug) {
+        return bug.getAssignedDeveloper().stream().map(User::getId).collect(Collectors.toSet());
+    }
+
+    private String currentUserEmail() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : null;
     }
 
     private User getCurrentUser() {
@@ -326,7 +371,7 @@ public class BugService {
     }
 
     public List<BugStatisticsDTO> getBugStatistics(String projectId) {
-        return bugRepository.getBugStatisticsByProject(projectId);
+        return bugCounterService.getStatistics(projectId);
     }
 
     public Page<BugDTO> findActiveByProjectAndSeverity(String projectId, BugSeverity severity, Pageable pageable) {
@@ -336,142 +381,208 @@ public class BugService {
     }
 
 
+    @Transactional(readOnly = true)
     public Page<BugDTO> getBugsForUser(String email, Pageable pageable) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
+        Page<String> ids;
         if (user.getRole() == UserRole.ADMIN) {
-            Set<String> organizationIds = user.getOrganizations().stream()
-                    .map(Organization::getId)
-                    .collect(Collectors.toSet());
-
-            return bugRepository.findByProjectOrganizationIdIn(organizationIds, pageable)
-                    .map(bug -> {
-                        BugDTO dto = DTOConverter.convertToDTO(bug, BugDTO.class);
-                        dto.setProject(DTOConverter.convertToDTO(bug.getProject(), ProjectDTO.class));
-                        dto.setOrganizationName(bug.getProject().getOrganization().getName());
-                        if (bug.getProject().getProjectManager() != null) {
-                            dto.setProjectManagerName(bug.getProject().getProjectManager().getUsername());
-                        }
-                        return dto;
-                    });
+            Set<String> organizationIds = organizationIdsOf(user);
+            if (organizationIds.isEmpty()) {
+                return Page.empty(pageable);
+            }
+            ids = bugRepository.findIdsByProjectOrganizationIdIn(organizationIds, pageable);
         } else {
-            Set<String> projectIds = user.getAssignedProjects().stream()
-                    .map(Project::getId)
-                    .collect(Collectors.toSet());
-
-            projectIds.addAll(user.getManagedProjects().stream()
-                    .map(Project::getId)
-                    .collect(Collectors.toSet()));
-
-            return bugRepository.findByProjectIdIn(projectIds, pageable)
-                    .map(bug -> {
-                        BugDTO dto = DTOConverter.convertToDTO(bug, BugDTO.class);
-                        dto.setProject(DTOConverter.convertToDTO(bug.getProject(), ProjectDTO.class));
-                        dto.setOrganizationName(bug.getProject().getOrganization().getName());
-                        if (bug.getProject().getProjectManager() != null) {
-                            dto.setProjectManagerName(bug.getProject().getProjectManager().getUsername());
-                        }
-                        return dto;
-                    });
+            Set<String> projectIds = projectIdsOf(user);
+            if (projectIds.isEmpty()) {
+                return Page.empty(pageable);
+            }
+            ids = bugRepository.findIdsByProjectIdIn(projectIds, pageable);
         }
+
+        return new PageImpl<>(loadBugListing(ids.getContent()), pageable, ids.getTotalElements());
     }
 
-    public List<BugStatisticsDTO> getBugStatisticsForUser(String email) {
+    @Transactional(readOnly = true)
+    public CursorPageDTO<BugDTO> getBugsForUser(String email, String cursor, int size) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
+        BugCursor.Position after = BugCursor.decode(cursor);
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
 
+        List<String> ids;
         if (user.getRole() == UserRole.ADMIN) {
-            return bugRepository.findBugStatistics();
-        } else if (user.getRole() == UserRole.PROJECT_MANAGER || user.getRole() == UserRole.DEVELOPER || user.getRole() == UserRole.TESTER) {
-            Set<String> projectIds = user.getManagedProjects().stream()
-                    .map(Project::getId)
-                    .collect(Collectors.toSet());
-            return bugRepository.findBugStatisticsByProjectIdIn(projectIds);
+            Set<String> organizationIds = organizationIdsOf(user);
+            ids = organizationIds.isEmpty() ? List.of() : bugRepository.findIdPageByOrganizationIds(
+                    organizationIds, after.createdAt(), after.id(), limit + 1);
         } else {
-            throw new RuntimeException("Invalid role");
+            Set<String> projectIds = projectIdsOf(user);
+            ids = projectIds.isEmpty() ? List.of() : bugRepository.findIdPageByProjectIds(
+                    projectIds, after.createdAt(), after.id(), limit + 1);
         }
+        return toCursorPage(ids, limit);
     }
 
-    public Page<BugDTO> searchBugsInProject(String projectId, String searchTerm, String status, Pageable pageable) {
-        List<String> bugIds;
-
-        if (searchTerm != null && !searchTerm.isEmpty()) {
-            bugIds = searchBugDocumentsInProject(projectId, searchTerm);
-            log.info("Bug IDs from search: {}", bugIds);
+    @Transactional(readOnly = true)
+    public CursorPageDTO<BugDTO> getBugsInProject(String projectId, String cursor, int size) {
+        BugCursor.Position after = BugCursor.decode(cursor);
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
 
-            if (bugIds.isEmpty()) {
-                return Page.empty(pageable);
-            }
-        } else {
-            bugIds = Collections.emptyList();
-        }
+        List<String> ids = bugRepository.findIdPageByProjectIds(
+                Set.of(projectId), after.createdAt(), after.id(), limit + 1);
+        return toCursorPage(ids, limit);
+    }
 
-        Specification<Bug> spec = Specification.where((root, query, cb) ->
-                cb.equal(root.get("project").get("id"), projectId));
+    private CursorPageDTO<BugDTO> toCursorPage(List<String> ids, int limit) {
+        boolean hasNext = ids.size() > limit;
+        List<BugDTO> content = loadBugListing(hasNext ? ids.subList(0, limit) : ids);
 
-        if (!bugIds.isEmpty()) {
-            spec = spec.and((root, query, cb) ->
-                    root.get("id").in(bugIds));
+        String nextCursor = null;
+        if (hasNext && !content.isEmpty()) {
+            BugDTO last = content.get(content.size() - 1);
+            nextCursor = BugCursor.encode(last.getCreatedAt(), last.getId());
         }
+        return new CursorPageDTO<>(content, nextCursor, hasNext);
+    }
 
-        if (status != null && !status.isEmpty()) {
-            spec = spec.and((root, query, cb) ->
-                    cb.equal(root.get("status"), BugStatus.valueOf(status)));
+    private List<BugDTO> loadBugListing(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
+        Map<String, Bug> bugsById = bugRepository.findAllWithProjectByIdIn(ids).stream()
+                .collect(Collectors.toMap(Bug::getId, bug -> bug));
+
+        return ids.stream()
+                .map(bugsById::get)
+                .filter(Objects::nonNull)
+                .map(bug -> {
+                    BugDTO dto = DTOConverter.convertToDTO(bug, BugDTO.class);
+                    dto.setProject(DTOConverter.convertToDTO(bug.getProject(), ProjectDTO.class));
+                    if (bug.getProject().getOrganization() != null) {
+                        dto.setOrganizationName(bug.getProject().getOrganization().getName());
+                    }
+                    if (bug.getProject().getProjectManager() != null) {
+                        dto.setProjectManagerName(bug.getProject().getProjectManager().getUsername());
+                    }
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private Set<String> organizationIdsOf(User user) {
+        return user.getOrganizations().stream()
+                .map(Organization::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private Set<String> projectIdsOf(User user) {
+        Set<String> projectIds = user.getAssignedProjects().stream()
+                .map(Project::getId)
+                .collect(Collectors.toSet());
 
-        return bugRepository.findAll(spec, pageable)
-                .map(bug -> DTOConverter.convertToDTO(bug, BugDTO.class));
+        projectIds.addAll(user.getManagedProjects().stream()
+                .map(Project::getId)
+                .collect(Collectors.toSet()));
+        return projectIds;
     }
 
-    private List<String> searchBugDocumentsInProject(String projectId, String searchTerm) {
-        if (searchTerm == null || searchTerm.isEmpty()) {
-            return Collections.emptyList();
+    public List<BugStatisticsDTO> getBugStatisticsForUser(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        if (user.getRole() == UserRole.ADMIN) {
+            return bugCounterService.getStatistics();
+        } else if (user.getRole() == UserRole.PROJECT_MANAGER || user.getRole() == UserRole.DEVELOPER || user.getRole() == UserRole.TESTER) {
+            Set<String> projectIds = user.getManagedProjects().stream()
+                    .map(Project::getId)
+                    .collect(Collectors.toSet());
+            return bugCounterService.getStatistics(projectIds);
+        } else {
+            throw new RuntimeException("Invalid role");
         }
+    }
+
+    public Page<BugDTO> getAssignedBugsForDeveloper(String email, Pageable pageable) {
+        User developer = userRepository.findByEmail(email)
+                .orElseThrow(() -> new NoSuchElementException("User not found"));
 
         NativeQuery query = NativeQuery.builder()
                 .withQuery(q -> q
-                        .bool(b -> b
-                                .must(m -> m.term(t -> t
-                                        .field("projectId")
-                                        .value(projectId)
-                                ))
-                                .must(m -> m.multiMatch(mm -> mm
-                                        .fields("title", "description")
-                                        .query(searchTerm)
-                                ))
+                        .term(t -> t
+                                .field("assignedDeveloperId")
+                                .value(developer.getId())
                         )
                 )
+                .withSort(s -> s.field(f -> f.field("createdAt").order(SortOrder.Desc)))
+                .withPageable(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+                .withTrackTotalHits(true)
                 .build();
 
         SearchHits<BugDocument> hits = elasticsearchOperations.search(query, BugDocument.class);
-
-        return hits.stream()
-                .map(SearchHit::getId)
+        List<BugDTO> bugs = hits.stream()
+                .map(hit -> BugDocumentMapper.toBugDTO(hit.getContent()))
                 .collect(Collectors.toList());
+
+        return new PageImpl<>(bugs, pageable, hits.getTotalHits());
+    }
+
+    public List<DuplicateCandidateDTO> findDuplicateCandidates(String projectId, String title, String description) {
+        return duplicateBugDetector.findDuplicates(projectId, duplicateBugDetector.fingerprint(title, description));
     }
 
-    public Page<BugDTO> getAssignedBugsForDeveloper(String developerId, Pageable pageable) {
+    public MyWorkDTO getMyWork(String email) {
+        User developer = userRepository.findByEmail(email)
+                .orElseThrow(() -> new NoSuchElementException("User not found"));
+
+        List<FieldValue> closedStatuses = CLOSED_STATUSES.stream()
+                .map(status -> FieldValue.of(status.name()))
+                .toList();
+
         NativeQuery query = NativeQuery.builder()
                 .withQuery(q -> q
-                        .term(t -> t
-                                .field("assignedDeveloperId")
-                                .value(developerId)
+                        .bool(b -> b
+                                .filter(f -> f.term(t -> t.field("assignedDeveloperId").value(developer.getId())))
+                                .mustNot(m -> m.terms(t -> t.field("status").terms(v -> v.value(closedStatuses))))
                         )
                 )
+                .withAggregation("projects", Aggregation.of(a -> a
+                        .terms(t -> t.field("projectId").size(MY_WORK_PROJECTS))
+                        .aggregations("severity", Aggregation.of(sa -> sa.terms(t -> t.field("severity"))))))
+                .withSort(s -> s.field(f -> f.field("updatedAt").order(SortOrder.Desc)))
+                .withPageable(PageRequest.of(0, MY_WORK_BUGS))
+                .withTrackTotalHits(true)
                 .build();
 
         SearchHits<BugDocument> hits = elasticsearchOperations.search(query, BugDocument.class);
-        List<String> bugIds = hits.stream()
-                .map(SearchHit::getId)
-                .collect(Collectors.toList());
 
-        if (bugIds.isEmpty()) {
-            return Page.empty(pageable);
-        }
+        Map<String, List<BugDTO>> bugsByProject = hits.stream()
+                .map(hit -> BugDocumentMapper.toBugDTO(hit.getContent()))
+                .collect(Collectors.groupingBy(dto -> dto.getProject().getId(), LinkedHashMap::new, Collectors.toList()));
+
+        ElasticsearchAggregations aggregations = (ElasticsearchAggregations) hits.getAggregations();
+        List<ProjectWorkDTO> projects = aggregations.aggregationsAsMap().get("projects")
+                .aggregation().getAggregate()
+                .sterms().buckets().array().stream()
+                .map(bucket -> {
+                    String projectId = bucket.key().stringValue();
+                    List<BugDTO> bugs = bugsByProject.getOrDefault(projectId, List.of());
+
+                    Map<String, Long> bySeverity = new LinkedHashMap<>();
+                    bucket.aggregations().get("severity").sterms().buckets().array()
+                            .forEach(severity -> bySeverity.put(severity.key().stringValue(), severity.docCount()));
+
+                    return new ProjectWorkDTO(
+                            projectId,
+                            bugs.isEmpty() ? null : bugs.get(0).getProject().getName(),
+                            bucket.docCount(),
+                            bySeverity,
+                            bugs
+                    );
+                })
+                .collect(Collectors.toList());
 
-        return bugRepository.findByIdIn(bugIds, pageable)
-                .map(bug -> DTOConverter.convertToDTO(bug, BugDTO.class));
+        return new MyWorkDTO(hits.getTotalHits(), projects);
     }
 
     public Page<BugDTO> getAssignedBugsForDeveloperInProject(String email, String projectId, Pageable pageable) {
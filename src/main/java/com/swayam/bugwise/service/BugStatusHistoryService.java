@@ -0,0 +1,39 @@
+package com.swayam.bugwise.service;
+
+import com.swayam.bugwise.entity.BugStatusHistory;
+import com.swayam.bugwise.enums.BugStatus;
+import com.swayam.bugwise.repository.jpa.BugStatusHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Service
+@RequiredArgsConstructor
+public class BugStatusHistoryService {
+    private final BugStatusHistoryRepository historyRepository;
+
+    @Transactional
+    public void recordCreated(String bugId, String projectId, BugStatus status, String changedBy) {
+        historyRepository.save(new BugStatusHistory(bugId, projectId, null, status, changedBy));
+    }
+
+    @Transactional
+    public void recordTransition(String bugId, String projectId, BugStatus from, BugStatus to, String changedBy) {
+        if (from != to) {
+            historyRepository.save(new BugStatusHistory(bugId, projectId, from, to, changedBy));
+        }
+    }
+
+    /**
+     * Set-based variant for bulk updates; call it before the statuses are overwritten.
+     */
+    @Transactional
+    public void recordTransitions(Collection<String> bugIds, BugStatus to, LocalDateTime changedAt, String changedBy) {
+        if (!bugIds.isEmpty()) {
+            historyRepository.insertTransitions(bugIds, to.ordinal(), changedAt, changedBy);
+        }
+    }
+}
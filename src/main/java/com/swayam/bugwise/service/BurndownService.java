@@ -0,0 +1,281 @@
+package com.swayam.bugwise.service;
+
+import com.swayam.bugwise.dto.BurndownPointDTO;
+import com.swayam.bugwise.entity.ProjectBugCounter;
+import com.swayam.bugwise.entity.ProjectDailySnapshot;
+import com.swayam.bugwise.enums.BugSeverity;
+import com.swayam.bugwise.enums.BugStatus;
+import com.swayam.bugwise.exception.UnauthorizedAccessException;
+import com.swayam.bugwise.exception.ValidationException;
+import com.swayam.bugwise.repository.jpa.ProjectBugCounterRepository;
+import com.swayam.bugwise.repository.jpa.ProjectDailySnapshotRepository;
+import com.swayam.bugwise.repository.jpa.ProjectRepository;
+import com.swayam.bugwise.repository.jpa.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Writes one {@link ProjectDailySnapshot} per project and day. Every snapshot is derived from
+ * {@code project_bug_counters} minus the transitions recorded in {@code bug_status_history} after
+ * the end of that day, so it always agrees with the counters and a missed day or a back-dated import
+ * cannot leave later snapshots drifting. Severity changes are not part of the status history, so
+ * the open-severity counts of past days use each bug's current severity. Bugs without a severity
+ * are not counted, so their transitions are skipped too. A one-year chart is at most 366 rows per
+ * project.
+ */
+@Service
+@Slf4j
+public class BurndownService {
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final String LOCK_KEY = "burndown:snapshots";
+    private static final String TRANSITIONS_SINCE_SQL =
+            "SELECT h.project_id, h.from_status, h.to_status, b.severity, CAST(h.changed_at AS DATE) AS day, " +
+            "COUNT(*) AS transitions FROM bug_status_history h JOIN bugs b ON b.id = h.bug_id " +
+            "WHERE h.changed_at >= ? AND b.severity IS NOT NULL GROUP BY h.project_id, h.from_status, h.to_status, b.severity, CAST(h.changed_at AS DATE)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectDailySnapshotRepository snapshotRepository;
+    private final ProjectBugCounterRepository counterRepository;
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public BurndownService(JdbcTemplate jdbcTemplate,
+                           ProjectDailySnapshotRepository snapshotRepository,
+                           ProjectBugCounterRepository counterRepository,
+                           UserRepository userRepository,
+                           ProjectRepository projectRepository,
+                           PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotRepository = snapshotRepository;
+        this.counterRepository = counterRepository;
+        this.userRepository = userRepository;
+        this.projectRepository = projectRepository;
+        // Counters and history must be read from one consistent view.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    public List<BurndownPointDTO> getProjectBurndown(String projectId, LocalDate from, LocalDate to, String email) {
+        if (!projectRepository.hasAccess(projectId, email)) {
+            throw new UnauthorizedAccessException("You do not have access to this project");
+        }
+        validateRange(from, to);
+        return snapshotRepository.findSeriesForProject(projectId, from, to);
+    }
+
+    public List<BurndownPointDTO> getOrganizationBurndown(String organizationId, LocalDate from, LocalDate to,
+                                                          String email) {
+        if (!userRepository.existsByEmailAndOrganizationsId(email, organizationId)) {
+            throw new UnauthorizedAccessException("You are not a member of this organization");
+        }
+        validateRange(from, to);
+        return snapshotRepository.findSeriesForOrganization(organizationId, from, to);
+    }
+
+    /**
+     * Snapshots every finished day since the last snapshot, or only yesterday on the very first
+     * run. When several nodes fire at once, only the one holding the lock writes.
+     */
+    @Scheduled(cron = "${bugwise.burndown.snapshot-cron:0 5 0 * * *}")
+    public void captureSnapshots() {
+        boolean ran = withSnapshotLock(false, () -> {
+            LocalDate yesterday = LocalDate.now().minusDays(1);
+            LocalDate lastDay = snapshotRepository.findLastDay();
+            LocalDate from = lastDay == null ? yesterday : lastDay.plusDays(1);
+            if (!from.isAfter(yesterday)) {
+                writeDays(from, yesterday);
+                log.info("Wrote burndown snapshots for {} to {}", from, yesterday);
+            }
+        });
+        if (!ran) {
+            log.info("Burndown snapshots are being written by another node");
+        }
+    }
+
+    /**
+     * Rewrites the existing snapshots from {@code day} on, after history before the last snapshot
+     * changed, e.g. by an import with past creation dates. Waits for a running capture to finish.
+     */
+    public void resnapshotFrom(LocalDate day) {
+        withSnapshotLock(true, () -> {
+            LocalDate firstDay = snapshotRepository.findFirstDay();
+            LocalDate lastDay = snapshotRepository.findLastDay();
+            if (firstDay == null) {
+                return;
+            }
+            LocalDate from = day.isBefore(firstDay) ? firstDay : day;
+            if (!from.isAfter(lastDay)) {
+                writeDays(from, lastDay);
+                log.info("Rewrote burndown snapshots for {} to {}", from, lastDay);
+            }
+        });
+    }
+
+    /**
+     * Holds a session-level advisory lock on a connection of its own while the snapshot
+     * transaction runs on another one. A transaction-scoped lock would be taken after the
+     * repeatable-read snapshot, which could then miss rows the previous holder just committed.
+     */
+    private boolean withSnapshotLock(boolean wait, Runnable action) {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try (PreparedStatement lock = connection.prepareStatement(
+                    wait ? "SELECT pg_advisory_lock(hashtext(?))" : "SELECT pg_try_advisory_lock(hashtext(?))")) {
+                lock.setString(1, LOCK_KEY);
+                try (ResultSet rs = lock.executeQuery()) {
+                    if (!wait && (!rs.next() || !rs.getBoolean(1))) {
+                        return false;
+                    }
+                }
+            }
+            try {
+                action.run();
+                return true;
+            } finally {
+                try (PreparedStatement unlock = connection.prepareStatement("SELECT pg_advisory_unlock(hashtext(?))")) {
+                    unlock.setString(1, LOCK_KEY);
+                    unlock.execute();
+                }
+            }
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    /**
+     * Starts from the current counters and walks back one day at a time, undoing each day's
+     * transitions, so all days from {@code from} to {@code to} cost one history query.
+     */
+    private void writeDays(LocalDate from, LocalDate to) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, ProjectDailySnapshot> state = new HashMap<>();
+            for (ProjectBugCounter counter : counterRepository.findAll()) {
+                ProjectDailySnapshot snapshot = state.computeIfAbsent(counter.getProjectId(),
+                        id -> new ProjectDailySnapshot(id, null));
+                add(snapshot, counter.getStatus(), counter.getBugCount());
+                if (isOpen(counter.getStatus())) {
+                    addOpen(snapshot, counter.getSeverity(), counter.getBugCount());
+                }
+            }
+
+            NavigableMap<LocalDate, List<Transition>> transitionsByDay = new TreeMap<>();
+            jdbcTemplate.query(TRANSITIONS_SINCE_SQL, rs -> {
+                int fromOrdinal = rs.getInt("from_status");
+                BugStatus fromStatus = rs.wasNull() ? null : BugStatus.values()[fromOrdinal];
+                int severityOrdinal = rs.getInt("severity");
+                BugSeverity bugSeverity = rs.wasNull() ? null : BugSeverity.values()[severityOrdinal];
+                transitionsByDay.computeIfAbsent(rs.getDate("day").toLocalDate(), key -> new ArrayList<>())
+                        .add(new Transition(rs.getString("project_id"), fromStatus,
+                                BugStatus.values()[rs.getInt("to_status")], bugSeverity, rs.getLong("transitions")));
+            }, Timestamp.valueOf(from.plusDays(1).atStartOfDay()));
+
+            // Undo everything after the end of "to", then save each day before undoing it.
+            for (List<Transition> transitions : transitionsByDay.tailMap(to, false).values()) {
+                transitions.forEach(transition -> undo(state, transition));
+            }
+            for (LocalDate day = to; !day.isBefore(from); day = day.minusDays(1)) {
+                LocalDate snapshotDay = day;
+                List<ProjectDailySnapshot> snapshots = state.values().stream()
+                        .map(snapshot -> copy(snapshot, snapshotDay))
+                        .toList();
+                snapshotRepository.deleteByDay(day);
+                snapshotRepository.saveAll(snapshots);
+                transitionsByDay.getOrDefault(day, List.of()).forEach(transition -> undo(state, transition));
+            }
+        });
+    }
+
+    private static void undo(Map<String, ProjectDailySnapshot> state, Transition transition) {
+        // The counters leave out bugs without a severity, so undoing their transitions would drift.
+        if (transition.severity() == null) {
+            return;
+        }
+        ProjectDailySnapshot snapshot = state.computeIfAbsent(transition.projectId(),
+                id -> new ProjectDailySnapshot(id, null));
+        long count = transition.count();
+        add(snapshot, transition.to(), -count);
+        if (isOpen(transition.to())) {
+            addOpen(snapshot, transition.severity(), -count);
+        }
+        if (transition.from() != null) {
+            add(snapshot, transition.from(), count);
+            if (isOpen(transition.from())) {
+                addOpen(snapshot, transition.severity(), count);
+            }
+        }
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ValidationException(Map.of("error", "from must not be after to"));
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new ValidationException(Map.of("error", "Range cannot exceed " + MAX_RANGE_DAYS + " days"));
+        }
+    }
+
+    private static long count(ProjectDailySnapshot snapshot, BugStatus status) {
+        return switch (status) {
+            case NEW -> snapshot.getNewCount();
+            case OPEN -> snapshot.getOpenCount();
+            case IN_PROGRESS -> snapshot.getInProgressCount();
+            case RESOLVED -> snapshot.getResolvedCount();
+            case CLOSED -> snapshot.getClosedCount();
+            case REOPENED -> snapshot.getReopenedCount();
+        };
+    }
+
+    private static void add(ProjectDailySnapshot snapshot, BugStatus status, long delta) {
+        switch (status) {
+            case NEW -> snapshot.setNewCount(snapshot.getNewCount() + delta);
+            case OPEN -> snapshot.setOpenCount(snapshot.getOpenCount() + delta);
+            case IN_PROGRESS -> snapshot.setInProgressCount(snapshot.getInProgressCount() + delta);
+            case RESOLVED -> snapshot.setResolvedCount(snapshot.getResolvedCount() + delta);
+            case CLOSED -> snapshot.setClosedCount(snapshot.getClosedCount() + delta);
+            case REOPENED -> snapshot.setReopenedCount(snapshot.getReopenedCount() + delta);
+        }
+    }
+
+    private static boolean isOpen(BugStatus status) {
+        return status != BugStatus.RESOLVED && status != BugStatus.CLOSED;
+    }
+
+    private static void addOpen(ProjectDailySnapshot snapshot, BugSeverity severity, long delta) {
+        if (severity == null) {
+            return;
+        }
+        switch (severity) {
+            case CRITICAL -> snapshot.setOpenCritical(snapshot.getOpenCritical() + delta);
+            case HIGH -> snapshot.setOpenHigh(snapshot.getOpenHigh() + delta);
+            case MEDIUM -> snapshot.setOpenMedium(snapshot.getOpenMedium() + delta);
+            case LOW -> snapshot.setOpenLow(snapshot.getOpenLow() + delta);
+        }
+    }
+
+    private static ProjectDailySnapshot copy(ProjectDailySnapshot state, LocalDate day) {
+        ProjectDailySnapshot snapshot = new ProjectDailySnapshot(state.getProjectId(), day);
+        for (BugStatus status : BugStatus.values()) {
+            add(snapshot, status, count(state, status));
+        }
+        snapshot.setOpenCritical(state.getOpenCritical());
+        snapshot.setOpenHigh(state.getOpenHigh());
+        snapshot.setOpenMedium(state.getOpenMedium());
+        snapshot.setOpenLow(state.getOpenLow());
+        return snapshot;
+    }
+
+    private record Transition(String projectId, BugStatus from, BugStatus to, BugSeverity severity, long count) {
+    }
+}
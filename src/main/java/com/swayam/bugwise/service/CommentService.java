@@ -11,11 +11,9 @@ import com.swayam.bugwise.exception.ValidationException;
 import com.swayam.bugwise.repository.jpa.BugRepository;
 import com.swayam.bugwise.repository.jpa.CommentRepository;
 import com.swayam.bugwise.repository.jpa.UserRepository;
-import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,7 +34,6 @@ public class CommentService {
     private final NotificationService notificationService;
 
     @Transactional
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
     public void createComment(CommentRequestDTO request, String updatedBy) {
         Bug bug = bugRepository.findById(request.getBugId())
                 .orElseThrow(() -> new NoSuchElementException("Bug not found"));
@@ -70,14 +67,12 @@ public class CommentService {
     }
 
     @Transactional(readOnly = true)
-    @Lock(LockModeType.PESSIMISTIC_READ)
     public Page<Comment> getBugComments(String bugId, Pageable pageable) {
         bugRepository.findById(bugId).orElseThrow(() -> new ResourceNotFoundException("Bug not found"));
         return commentRepository.findBugCommentsWithPagination(bugId, pageable);
     }
 
     @Transactional(readOnly = true)
-    @Lock(LockModeType.PESSIMISTIC_READ)
     public List<Comment> getUserComments(String userId) {
         userRepository.findById(userId).orElseThrow(() -> new UsernameNotFoundException("User not found"));
         return commentRepository.findByUserId(userId);
@@ -0,0 +1,156 @@
+package com.swayam.bugwise.service;
+
+import com.swayam.bugwise.dto.DeveloperWorkloadDTO;
+import com.swayam.bugwise.entity.DeveloperWorkload;
+import com.swayam.bugwise.entity.User;
+import com.swayam.bugwise.enums.BugSeverity;
+import com.swayam.bugwise.enums.UserRole;
+import com.swayam.bugwise.exception.UnauthorizedAccessException;
+import com.swayam.bugwise.repository.jpa.DeveloperWorkloadRepository;
+import com.swayam.bugwise.repository.jpa.ProjectRepository;
+import com.swayam.bugwise.repository.jpa.UserRepository;
+import com.swayam.bugwise.utils.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * Maintains {@code developer_workloads}, the open bugs per developer and severity. Instead of
+ * applying deltas from every write path, the rows of the developers touched by a change are
+ * recounted once the change has committed. The recount holds a per-developer advisory lock, so
+ * the last recount to run always sees every committed change.
+ */
+@Service
+@Slf4j
+public class DeveloperWorkloadService {
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final DeveloperWorkloadRepository workloadRepository;
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public DeveloperWorkloadService(DeveloperWorkloadRepository workloadRepository,
+                                    UserRepository userRepository,
+                                    ProjectRepository projectRepository,
+                                    JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager) {
+        this.workloadRepository = workloadRepository;
+        this.userRepository = userRepository;
+        this.projectRepository = projectRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        // Recounts run from afterCommit callbacks, where the finished transaction is still bound.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Current assignees of the given bugs. Call it before assignments are replaced to capture the
+     * developers losing a bug.
+     */
+    @Transactional(readOnly = true)
+    public Set<String> developersOf(Collection<String> bugIds) {
+        if (bugIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(workloadRepository.findDeveloperIdsByBugIdIn(bugIds));
+    }
+
+    public void refreshAfterCommit(Collection<String> developerIds) {
+        if (developerIds.isEmpty()) {
+            return;
+        }
+        Set<String> ids = new TreeSet<>(developerIds);
+        TransactionCallbacks.afterCommit(() -> refreshQuietly(ids));
+    }
+
+    public void refresh(Collection<String> developerIds) {
+        SortedSet<String> ids = new TreeSet<>(developerIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            // Sorted, so concurrent recounts of overlapping developers cannot deadlock.
+            for (String developerId : ids) {
+                jdbcTemplate.query("SELECT pg_advisory_xact_lock(hashtext(?))", rs -> {
+                }, developerId);
+            }
+            workloadRepository.deleteByDeveloperIdIn(ids);
+            workloadRepository.recount(ids);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Map<BugSeverity, Long>> getOpenBugsBySeverity(Collection<String> developerIds) {
+        if (developerIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Map<BugSeverity, Long>> workloads = new HashMap<>();
+        for (DeveloperWorkload workload : workloadRepository.findByDeveloperIdIn(developerIds)) {
+            workloads.computeIfAbsent(workload.getDeveloperId(), id -> new EnumMap<>(BugSeverity.class))
+                    .put(workload.getSeverity(), workload.getOpenBugs());
+        }
+        return workloads;
+    }
+
+    @Transactional(readOnly = true)
+    public List<DeveloperWorkloadDTO> getTeamWorkload(String projectId, String email) {
+        if (!projectRepository.hasAccess(projectId, email)) {
+            throw new UnauthorizedAccessException("You do not have access to this project");
+        }
+        List<User> developers = userRepository.findByAssignedProjectsIdAndRole(projectId, UserRole.DEVELOPER);
+        Map<String, Map<BugSeverity, Long>> workloads = getOpenBugsBySeverity(
+                developers.stream().map(User::getId).toList());
+
+        return developers.stream()
+                .map(developer -> {
+                    Map<BugSeverity, Long> bySeverity = workloads.getOrDefault(developer.getId(), Map.of());
+                    return new DeveloperWorkloadDTO(
+                            developer.getId(),
+                            developer.getEmail(),
+                            developer.getFirstName(),
+                            developer.getLastName(),
+                            developer.getDeveloperType(),
+                            bySeverity.values().stream().mapToLong(Long::longValue).sum(),
+                            bySeverity
+                    );
+                })
+                .sorted(Comparator.comparingLong(DeveloperWorkloadDTO::getOpenBugs).reversed())
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (workloadRepository.count() == 0) {
+            rebuildAll();
+        }
+    }
+
+    @Scheduled(cron = "${bugwise.workload.repair-cron:0 30 4 * * *}")
+    public void rebuildAll() {
+        long start = System.currentTimeMillis();
+        List<String> developerIds = workloadRepository.findAllDeveloperIds();
+        for (int from = 0; from < developerIds.size(); from += REBUILD_CHUNK_SIZE) {
+            refresh(developerIds.subList(from, Math.min(from + REBUILD_CHUNK_SIZE, developerIds.size())));
+        }
+        log.info("Recomputed workloads of {} developers in {} ms", developerIds.size(), System.currentTimeMillis() - start);
+    }
+
+    private void refreshQuietly(Collection<String> developerIds) {
+        try {
+            refresh(developerIds);
+        } catch (RuntimeException e) {
+            log.warn("Failed to recount workload of developers {}, the nightly rebuild will correct it", developerIds, e);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.swayam.bugwise.service;
+
+import com.swayam.bugwise.dto.DuplicateCandidateDTO;
+import com.swayam.bugwise.utils.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory near-duplicate index over bug title and description. Each bug is reduced to a
+ * 64-bit SimHash; the hash is split into {@value #BANDS} bands of 16 bits, so any two hashes
+ * within {@value #BANDS}-1 differing bits share at least one band and a probe only compares
+ * against the bugs in its own band buckets.
+ */
+@Service
+@Slf4j
+public class DuplicateBugDetector {
+    private static final int BANDS = 4;
+    private static final int BAND_BITS = 64 / BANDS;
+    private static final int MIN_FEATURES = 3;
+    private static final int MAX_CANDIDATES = 5;
+    private static final String LOAD_SQL = "SELECT id, project_id, title, description FROM bugs";
+    private static final String REFRESH_SQL = LOAD_SQL + " WHERE updated_at > ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxDistance;
+
+    private final Map<String, ProjectIndex> projects = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastSync;
+
+    public DuplicateBugDetector(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${bugwise.duplicates.max-distance:3}") int maxDistance) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxDistance = Math.min(maxDistance, BANDS - 1);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadExistingBugs() {
+        long start = System.currentTimeMillis();
+        int loaded = load(null);
+        log.info("Duplicate index built from {} bugs in {} ms", loaded, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Picks up bugs written by other nodes since the last sync.
+     */
+    @Scheduled(fixedDelayString = "${bugwise.duplicates.refresh-interval-ms:30000}",
+            initialDelayString = "${bugwise.duplicates.refresh-interval-ms:30000}")
+    public void refresh() {
+        if (lastSync != null) {
+            load(lastSync.minusSeconds(5));
+        }
+    }
+
+    public long fingerprint(String title, String description) {
+        List<String> features = new ArrayList<>();
+        List<String> titleTokens = tokenize(title);
+        features.addAll(titleTokens);
+        features.addAll(titleTokens);
+        features.addAll(shingles(tokenize(description)));
+
+        if (features.size() < MIN_FEATURES) {
+            return 0L;
+        }
+
+        int[] weights = new int[64];
+        for (String feature : features) {
+            long hash = hash64(feature);
+            for (int bit = 0; bit < 64; bit++) {
+                weights[bit] += ((hash >>> bit) & 1L) == 1L ? 1 : -1;
+            }
+        }
+
+        long fingerprint = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public List<DuplicateCandidateDTO> findDuplicates(String projectId, long fingerprint) {
+        ProjectIndex index = projects.get(projectId);
+        if (index == null || fingerprint == 0L) {
+            return List.of();
+        }
+
+        Set<String> seen = new HashSet<>();
+        List<DuplicateCandidateDTO> candidates = new ArrayList<>();
+        for (int band = 0; band < BANDS; band++) {
+            Set<String> bucket = index.bands.get(band).get(bandKey(fingerprint, band));
+            if (bucket == null) {
+                continue;
+            }
+            for (String bugId : bucket) {
+                Long other = index.fingerprints.get(bugId);
+                if (other == null || !seen.add(bugId)) {
+                    continue;
+                }
+                int distance = Long.bitCount(fingerprint ^ other);
+                if (distance <= maxDistance) {
+                    candidates.add(new DuplicateCandidateDTO(bugId, distance));
+                }
+            }
+        }
+
+        candidates.sort(Comparator.comparingInt(DuplicateCandidateDTO::getDistance));
+        return candidates.size() > MAX_CANDIDATES ? candidates.subList(0, MAX_CANDIDATES) : candidates;
+    }
+
+    /**
+     * Adds or replaces a bug's fingerprint once the surrounding transaction commits.
+     */
+    public void index(String projectId, String bugId, long fingerprint) {
+        TransactionCallbacks.afterCommit(() -> put(projectId, bugId, fingerprint));
+    }
+
+    void put(String projectId, String bugId, long fingerprint) {
+        if (fingerprint == 0L) {
+            ProjectIndex index = projects.get(projectId);
+            if (index != null) {
+                index.remove(bugId);
+            }
+            return;
+        }
+        projects.computeIfAbsent(projectId, id -> new ProjectIndex()).put(bugId, fingerprint);
+    }
+
+    private int load(LocalDateTime since) {
+        LocalDateTime syncStart = LocalDateTime.now();
+        int[] count = {0};
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(since == null ? LOAD_SQL : REFRESH_SQL);
+            statement.setFetchSize(5000);
+            if (since != null) {
+                statement.setTimestamp(1, Timestamp.valueOf(since));
+            }
+            return statement;
+        }, rs -> {
+            put(rs.getString("project_id"), rs.getString("id"),
+                    fingerprint(rs.getString("title"), rs.getString("description")));
+            count[0]++;
+        }));
+        lastSync = syncStart;
+        return count[0];
+    }
+
+    private static int bandKey(long fingerprint, int band) {
+        return (int) ((fingerprint >>> (band * BAND_BITS)) & ((1L << BAND_BITS) - 1));
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() > 1) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static List<String> shingles(List<String> tokens) {
+        if (tokens.size() < 2) {
+            return tokens;
+        }
+        List<String> shingles = new ArrayList<>(tokens.size() - 1);
+        for (int i = 0; i < tokens.size() - 1; i++) {
+            shingles.add(tokens.get(i) + " " + tokens.get(i + 1));
+        }
+        return shingles;
+    }
+
+    private static long hash64(String feature) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < feature.length(); i++) {
+            hash ^= feature.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static final class ProjectIndex {
+        private final Map<String, Long> fingerprints = new ConcurrentHashMap<>();
+        private final List<Map<Integer, Set<String>>> bands = new ArrayList<>(BANDS);
+
+        private ProjectIndex() {
+            for (int band = 0; band < BANDS; band++) {
+                bands.add(new ConcurrentHashMap<>());
+            }
+        }
+
+        private synchronized void put(String bugId, long fingerprint) {
+            remove(bugId);
+            fingerprints.put(bugId, fingerprint);
+            for (int band = 0; band < BANDS; band++) {
+                bands.get(band)
+                        .computeIfAbsent(bandKey(fingerprint, band), key -> ConcurrentHashMap.newKeySet())
+                        .add(bugId);
+            }
+        }
+
+        private synchronized void remove(String bugId) {
+            Long previous = fingerprints.remove(bugId);
+            if (previous == null) {
+                return;
+            }
+            for (int band = 0; band < BANDS; band++) {
+                Set<String> bucket = bands.get(band).get(bandKey(previous, band));
+                if (bucket != null) {
+                    bucket.remove(bugId);
+                }
+            }
+        }
+    }
+}
@@ -10,11 +10,13 @@ import com.swayam.bugwise.repository.jpa.OrganizationRepository;
 import com.swayam.bugwise.repository.jpa.ProjectRepository;
 import com.swayam.bugwise.repository.jpa.UserRepository;
 import com.swayam.bugwise.utils.DTOConverter;
-import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -28,12 +30,14 @@ import java.util.stream.Collectors;
 @Transactional
 @Slf4j
 public class OrganizationService {
+    public static final String STATS_CACHE = "organizationStats";
+    public static final String ORGANIZATION_CACHE = "organizations";
+
     private final OrganizationRepository organizationRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
 
     @Transactional
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
     public void createOrganization(OrganizationRequestDTO request, User admin) {
         if (organizationRepository.existsByName(request.getName())) {
             throw new ValidationException(Map.of("name", "Organization name already exists"));
@@ -49,7 +53,11 @@ public class OrganizationService {
         organizationRepository.save(organization);
     }
 
-    @Cacheable(value = "organizations", key = "#organizationId")
+    /**
+     * Cached per caller, since the admin check runs in the body and is skipped on a cache hit: an
+     * entry only exists for a user who already passed it.
+     */
+    @Cacheable(value = ORGANIZATION_CACHE, key = "#organizationId + ':' + #user.id")
     public OrganizationDTO getOrganization(String organizationId, User user) {
         Organization organization = organizationRepository.findById(organizationId)
                 .orElseThrow(() -> new NoSuchElementException("Organization not found"));
@@ -77,7 +85,6 @@ public class OrganizationService {
     }
 
     @Transactional
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
     public Organization createOrganization(OrganizationDTO organizationDTO) {
         if (organizationRepository.existsByName(organizationDTO.getName())) {
             throw new ValidationException(Map.of("name", "Organization name already exists"));
@@ -91,7 +98,7 @@ public class OrganizationService {
     }
 
     @Transactional
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @CacheEvict(value = ORGANIZATION_CACHE, allEntries = true)
     public void updateOrganization(String id, OrganizationRequestDTO organizationDTO) {
         if (organizationRepository.existsByName(organizationDTO.getName())) {
             throw new ValidationException(Map.of("name", "Organization name already exists"));
@@ -104,6 +111,7 @@ public class OrganizationService {
         organizationRepository.save(organization);
     }
 
+    @CacheEvict(value = UserService.DESCENDANT_COUNT_CACHE, allEntries = true)
     public void addUsersToOrganization(String organizationId, Set<String> userIds) {
         Organization organization = organizationRepository.findById(organizationId)
                 .orElseThrow(() -> new NoSuchElementException("Organization not found"));
@@ -136,6 +144,7 @@ public class OrganizationService {
     }
 
     @Transactional
+    @CacheEvict(value = UserService.DESCENDANT_COUNT_CACHE, allEntries = true)
     public void removeUserFromOrganization(String organizationId, String userId) {
         Organization organization = organizationRepository.findById(organizationId)
                 .orElseThrow(() -> new NoSuchElementException("Organization not found with id: " + organizationId));
@@ -149,6 +158,10 @@ public class OrganizationService {
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = ORGANIZATION_CACHE, allEntries = true),
+            @CacheEvict(value = UserService.DESCENDANT_COUNT_CACHE, allEntries = true)
+    })
     public void deleteOrganization(String organizationId) {
         Organization organization = organizationRepository.findById(organizationId)
                 .orElseThrow(() -> new NoSuchElementException("Organization not found with id: " + organizationId));
@@ -169,17 +182,15 @@ public class OrganizationService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Counts are computed in the query, so no project or user entity is loaded. Bug totals come
+     * from the per-project counters and are only added when asked for.
+     */
     @Transactional(readOnly = true)
-    public List<OrganizationStatsDTO> getOrganizationStats() {
-        List<Organization> organizations = organizationRepository.findAll();
-
-        return organizations.stream().map(org -> {
-            OrganizationStatsDTO stats = new OrganizationStatsDTO();
-            stats.setOrganizationId(org.getId());
-            stats.setOrganizationName(org.getName());
-            stats.setProjectCount(org.getProjects().size());
-            stats.setMemberCount(org.getUsers().size());
-            return stats;
-        }).collect(Collectors.toList());
+    @Cacheable(value = STATS_CACHE, key = "#pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort + ':' + #includeBugCounts")
+    public Page<OrganizationStatsDTO> getOrganizationStats(Pageable pageable, boolean includeBugCounts) {
+        return includeBugCounts
+                ? organizationRepository.findOrganizationStatsWithBugCounts(pageable)
+                : organizationRepository.findOrganizationStats(pageable);
     }
 }
\ No newline at end of file
@@ -1,7 +1,6 @@
 package com.swayam.bugwise.service;
 
 import com.swayam.bugwise.dto.*;
-import com.swayam.bugwise.entity.Bug;
 import com.swayam.bugwise.entity.Organization;
 import com.swayam.bugwise.entity.Project;
 import com.swayam.bugwise.entity.User;
@@ -14,12 +13,12 @@ import com.swayam.bugwise.repository.jpa.OrganizationRepository;
 import com.swayam.bugwise.repository.jpa.ProjectRepository;
 import com.swayam.bugwise.repository.jpa.UserRepository;
 import com.swayam.bugwise.utils.DTOConverter;
-import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,9 +37,10 @@ public class ProjectService {
     private final OrganizationRepository organizationRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final BugCounterService bugCounterService;
 
     @Transactional
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @CacheEvict(value = UserService.DESCENDANT_COUNT_CACHE, allEntries = true)
     public Project createProject(ProjectRequestDTO request) {
         Organization organization = organizationRepository.findById(request.getOrganizationId())
                 .orElseThrow(() -> new NoSuchElementException("Organization not found"));
@@ -66,7 +66,6 @@ public class ProjectService {
     }
 
     @Transactional(readOnly = true)
-    @Lock(LockModeType.PESSIMISTIC_READ)
     @Cacheable(value = "projects", key = "#projectId")
     public ProjectDTO getProject(String projectId) {
         Project project = projectRepository.findById(projectId)
@@ -80,7 +79,6 @@ public class ProjectService {
     }
 
     @Transactional(readOnly = true)
-    @Lock(LockModeType.PESSIMISTIC_READ)
     public List<Project> getOrganizationProjects(String organizationId) {
         return projectRepository.findByOrganizationId(organizationId);
     }
@@ -92,8 +90,11 @@ public class ProjectService {
         }
     }
 
+    @Caching(evict = {
+            @CacheEvict(value = "projects", key = "#projectId"),
+            @CacheEvict(value = UserService.DESCENDANT_COUNT_CACHE, allEntries = true)
+    })
     @Transactional
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
     public ProjectDTO assignUsersToProject(String projectId, Set<String> userIds) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new NoSuchElementException("Project not found"));
@@ -124,8 +125,11 @@ public class ProjectService {
         return dto;
     }
 
+    @Caching(evict = {
+            @CacheEvict(value = "projects", key = "#projectId"),
+            @CacheEvict(value = UserService.DESCENDANT_COUNT_CACHE, allEntries = true)
+    })
     @Transactional
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
     public ProjectDTO updateProject(String projectId, ProjectUpdateDTO request) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new NoSuchElementException("Project not found"));
@@ -159,8 +163,11 @@ public class ProjectService {
         return dto;
     }
 
+    @Caching(evict = {
+            @CacheEvict(value = "projects", key = "#projectId"),
+            @CacheEvict(value = UserService.DESCENDANT_COUNT_CACHE, allEntries = true)
+    })
     @Transactional
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
     public ProjectDTO removeUsersFromProject(String projectId, Set<String> userIds) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new NoSuchElementException("Project not found"));
@@ -176,7 +183,6 @@ public class ProjectService {
     }
 
     @Transactional(readOnly = true)
-    @Lock(LockModeType.PESSIMISTIC_READ)
     public Page<Project> searchProjectsInOrganization(
             String organizationId,
             String searchTerm,
@@ -185,19 +191,16 @@ public class ProjectService {
     }
 
     @Transactional(readOnly = true)
-    @Lock(LockModeType.PESSIMISTIC_READ)
     public long countProjectsByOrganization(String organizationId) {
         return projectRepository.countProjectsByOrganization(organizationId);
     }
 
     @Transactional(readOnly = true)
-    @Lock(LockModeType.PESSIMISTIC_READ)
     public List<Project> findByProjectManager(String projectManagerId) {
         return projectRepository.findByProjectManagerId(projectManagerId);
     }
 
     @Transactional(readOnly = true)
-    @Lock(LockModeType.PESSIMISTIC_READ)
     public List<ProjectDTO> getProjectsForUser(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -241,7 +244,6 @@ public class ProjectService {
     }
 
     @Transactional(readOnly = true)
-    @Lock(LockModeType.PESSIMISTIC_READ)
     public List<ProjectStatsDTO> getProjectStats(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -261,16 +263,18 @@ public class ProjectService {
             }
         }
 
+        Map<String, Map<BugStatus, Long>> countsByProject = bugCounterService.getStatusCountsByProject(
+                projects.stream().map(Project::getId).collect(Collectors.toSet()));
+
         return projects.stream().map(project -> {
-            Map<BugStatus, Long> statusCounts = project.getBugs().stream()
-                    .collect(Collectors.groupingBy(Bug::getStatus, Collectors.counting()));
- 
+            Map<BugStatus, Long> statusCounts = countsByProject.getOrDefault(project.getId(), Map.of());
+
             Map<String, Integer> allStatusCounts = new HashMap<>();
-             
+
             for (BugStatus status : BugStatus.values()) {
                 allStatusCounts.put(status.name(), statusCounts.getOrDefault(status, 0L).intValue());
             }
-            
+
             return new ProjectStatsDTO(
                     project.getName(),
                     project.getOrganization().getId(),
@@ -0,0 +1,105 @@
+package com.swayam.bugwise.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swayam.bugwise.dto.BugStatisticsDTO;
+import com.swayam.bugwise.dto.ProjectStatsUpdateDTO;
+import com.swayam.bugwise.enums.BugStatus;
+import com.swayam.bugwise.repository.jpa.ProjectBugCounterRepository;
+import com.swayam.bugwise.utils.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pushes per-project bug counts to {@code /topic/project.{id}.stats}. Projects whose counters
+ * changed are collected after commit and flushed on a fixed interval, so a burst of changes to one
+ * project becomes a single message. Every message, including the reply to a subscription on
+ * {@code /app/project.{id}.stats}, carries the absolute counts read from the counters, so clients
+ * replace their state instead of adding deltas and nothing can be counted twice. The node that
+ * flushes also broadcasts the message on {@link #STATS_CHANNEL} so subscribers connected to other
+ * nodes receive it from their own broker.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectStatsStreamService implements MessageListener {
+    public static final String STATS_CHANNEL = "bugwise:project-stats";
+
+    record StatsMessage(String nodeId, ProjectStatsUpdateDTO update) {
+    }
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ProjectBugCounterRepository counterRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Set<String> changedProjects = ConcurrentHashMap.newKeySet();
+
+    public static String topic(String projectId) {
+        return "/topic/project." + projectId + ".stats";
+    }
+
+    public void publishAfterCommit(Map<BugCounterService.CounterKey, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> record(deltas));
+    }
+
+    void record(Map<BugCounterService.CounterKey, Long> deltas) {
+        deltas.keySet().forEach(key -> changedProjects.add(key.projectId()));
+    }
+
+    @Scheduled(fixedRateString = "${bugwise.live-stats.flush-interval-ms:1000}")
+    public void flush() {
+        for (String projectId : changedProjects) {
+            if (!changedProjects.remove(projectId)) {
+                continue;
+            }
+            try {
+                ProjectStatsUpdateDTO update = snapshot(projectId);
+                messagingTemplate.convertAndSend(topic(projectId), update);
+                redisTemplate.convertAndSend(STATS_CHANNEL,
+                        objectMapper.writeValueAsString(new StatsMessage(nodeId, update)));
+            } catch (Exception e) {
+                log.warn("Failed to push stats update for project {}", projectId, e);
+            }
+        }
+    }
+
+    public ProjectStatsUpdateDTO snapshot(String projectId) {
+        Map<BugStatus, Long> counts = new EnumMap<>(BugStatus.class);
+        for (BugStatus status : BugStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (BugStatisticsDTO statistic : counterRepository.sumByStatusForProject(projectId)) {
+            counts.put(statistic.getStatus(), statistic.getCount());
+        }
+        return new ProjectStatsUpdateDTO(projectId, counts);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            StatsMessage stats = objectMapper.readValue(message.getBody(), StatsMessage.class);
+            if (nodeId.equals(stats.nodeId())) {
+                return;
+            }
+            messagingTemplate.convertAndSend(topic(stats.update().getProjectId()), stats.update());
+        } catch (Exception e) {
+            log.warn("Ignoring malformed project stats message", e);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.swayam.bugwise.service;
+
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.CalendarInterval;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import com.swayam.bugwise.dto.DriftReportDTO;
+import com.swayam.bugwise.entity.BugDocument;
+import com.swayam.bugwise.utils.BugDocumentMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Detects drift between the {@code bugs} table and the {@code bugs} index by comparing
+ * (count, fingerprint sum) digests level by level: project, then month, then day of
+ * {@code createdAt}. Only days whose digests differ are compared document by document,
+ * and the mismatched bugs are re-queued on the indexing outbox.
+ */
+@Service
+@Slf4j
+public class SearchDriftService {
+    private static final LocalDateTime MIN_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TIME = LocalDateTime.of(3000, 1, 1, 0, 0);
+    private static final DateTimeFormatter ES_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private static final String PROJECT_DIGEST_SQL =
+            "SELECT b.project_id, COUNT(*), COALESCE(SUM(" + BugDocumentMapper.FINGERPRINT_SQL + "), 0) " +
+            "FROM bugs b GROUP BY b.project_id";
+
+    private static final String BUCKET_DIGEST_SQL =
+            "SELECT CAST(EXTRACT(EPOCH FROM date_trunc(?, b.created_at)) * 1000 AS BIGINT), COUNT(*), " +
+            "COALESCE(SUM(" + BugDocumentMapper.FINGERPRINT_SQL + "), 0) " +
+            "FROM bugs b WHERE b.project_id = ? AND b.created_at >= ? AND b.created_at < ? GROUP BY 1";
+
+    private static final String DOCUMENT_DIGEST_SQL =
+            "SELECT b.id, " + BugDocumentMapper.FINGERPRINT_SQL + " " +
+            "FROM bugs b WHERE b.project_id = ? AND b.created_at >= ? AND b.created_at < ?";
+
+    private static final String UNBUCKETED_DOCUMENT_DIGEST_SQL =
+            "SELECT b.id, " + BugDocumentMapper.FINGERPRINT_SQL + " " +
+            "FROM bugs b WHERE b.project_id = ? AND b.created_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final BugIndexingService bugIndexingService;
+
+    private final AtomicLong driftedProjects = new AtomicLong();
+    private final AtomicLong driftedBuckets = new AtomicLong();
+    private final AtomicLong driftedDocuments = new AtomicLong();
+    private final Counter repairedDocuments;
+
+    private record Digest(long count, long fingerprintSum) {
+    }
+
+    public SearchDriftService(JdbcTemplate jdbcTemplate,
+                              ElasticsearchOperations elasticsearchOperations,
+                              BugIndexingService bugIndexingService,
+                              MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.bugIndexingService = bugIndexingService;
+
+        Gauge.builder("bugwise.drift.projects", driftedProjects, AtomicLong::get)
+                .description("Projects whose digest differed in the last drift check")
+                .register(meterRegistry);
+        Gauge.builder("bugwise.drift.buckets", driftedBuckets, AtomicLong::get)
+                .description("Day buckets whose digest differed in the last drift check")
+                .register(meterRegistry);
+        Gauge.builder("bugwise.drift.documents", driftedDocuments, AtomicLong::get)
+                .description("Bugs missing, stale or orphaned in the index in the last drift check")
+                .register(meterRegistry);
+        this.repairedDocuments = Counter.builder("bugwise.drift.repaired")
+                .description("Bugs re-queued for indexing by the drift check")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${bugwise.drift.cron:0 30 3 * * *}")
+    public void scheduledCheck() {
+        DriftReportDTO report = checkAndRepair();
+        log.info("Search drift check: {}", report);
+    }
+
+    public DriftReportDTO checkAndRepair() {
+        long start = System.currentTimeMillis();
+
+        Map<String, Digest> database = new HashMap<>();
+        jdbcTemplate.query(PROJECT_DIGEST_SQL, rs -> {
+            database.put(rs.getString(1), new Digest(rs.getLong(2), rs.getLong(3)));
+        });
+        Map<String, Digest> index = projectDigestsFromIndex();
+
+        Set<String> projects = new TreeSet<>(database.keySet());
+        projects.addAll(index.keySet());
+
+        long mismatchedProjects = 0;
+        long mismatchedBuckets = 0;
+        Set<String> mismatchedIds = new LinkedHashSet<>();
+
+        for (String projectId : projects) {
+            if (Objects.equals(database.get(projectId), index.get(projectId))) {
+                continue;
+            }
+            mismatchedProjects++;
+
+            int before = mismatchedIds.size();
+            for (LocalDateTime month : differingBuckets(projectId, MIN_TIME, MAX_TIME, "month", CalendarInterval.Month)) {
+                LocalDateTime nextMonth = month.plusMonths(1);
+                for (LocalDateTime day : differingBuckets(projectId, month, nextMonth, "day", CalendarInterval.Day)) {
+                    mismatchedBuckets++;
+                    mismatchedIds.addAll(differingDocuments(projectId, day, day.plusDays(1)));
+                }
+            }
+
+            if (mismatchedIds.size() == before) {
+                // The difference lives in bugs without a createdAt, which no bucket covers.
+                mismatchedIds.addAll(differingDocuments(projectId, null, null));
+            }
+        }
+
+        if (!mismatchedIds.isEmpty()) {
+            bugIndexingService.enqueueAll(mismatchedIds);
+            repairedDocuments.increment(mismatchedIds.size());
+        }
+
+        driftedProjects.set(mismatchedProjects);
+        driftedBuckets.set(mismatchedBuckets);
+        driftedDocuments.set(mismatchedIds.size());
+
+        return new DriftReportDTO(
+                projects.size(),
+                mismatchedProjects,
+                mismatchedBuckets,
+                mismatchedIds.size(),
+                System.currentTimeMillis() - start
+        );
+    }
+
+    /**
+     * Re-queues documents written before assignees were indexed as keyword arrays, which still
+     * hold every assignee id in one comma-joined value.
+     */
+    public long requeueLegacyAssigneeDocuments() {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.wildcard(w -> w.field("assignedDeveloperId").value("*,*")))
+                .withSourceFilter(new FetchSourceFilterBuilder().withIncludes("id").build())
+                .withPageable(PageRequest.of(0, 1000))
+                .build();
+
+        List<String> ids = new ArrayList<>();
+        try (SearchHitsIterator<BugDocument> hits = elasticsearchOperations.searchForStream(query, BugDocument.class)) {
+            while (hits.hasNext()) {
+                ids.add(hits.next().getId());
+            }
+        }
+
+        if (!ids.isEmpty()) {
+            bugIndexingService.enqueueAll(ids);
+            repairedDocuments.increment(ids.size());
+        }
+        log.info("Re-queued {} documents with comma-joined assignees", ids.size());
+        return ids.size();
+    }
+
+    private Map<String, Digest> projectDigestsFromIndex() {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.matchAll(m -> m))
+                .withAggregation("projects", Aggregation.of(a -> a
+                        .terms(t -> t.field("projectId").size(65_536))
+                        .aggregations("fingerprint", fingerprintSum())))
+                .withMaxResults(0)
+                .build();
+
+        Map<String, Digest> digests = new HashMap<>();
+        aggregate(elasticsearchOperations.search(query, BugDocument.class), "projects")
+                .sterms().buckets().array()
+                .forEach(bucket -> digests.put(bucket.key().stringValue(), new Digest(
+                        bucket.docCount(),
+                        (long) bucket.aggregations().get("fingerprint").sum().value())));
+        return digests;
+    }
+
+    private List<LocalDateTime> differingBuckets(String projectId, LocalDateTime from, LocalDateTime to,
+                                                 String unit, CalendarInterval interval) {
+        Map<Long, Digest> database = new HashMap<>();
+        jdbcTemplate.query(BUCKET_DIGEST_SQL, rs -> {
+            database.put(rs.getLong(1), new Digest(rs.getLong(2), rs.getLong(3)));
+        }, unit, projectId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(projectRange(projectId, from, to))
+                .withAggregation("buckets", Aggregation.of(a -> a
+                        .dateHistogram(h -> h.field("createdAt").calendarInterval(interval).minDocCount(1))
+                        .aggregations("fingerprint", fingerprintSum())))
+                .withMaxResults(0)
+                .build();
+
+        Map<Long, Digest> index = new HashMap<>();
+        aggregate(elasticsearchOperations.search(query, BugDocument.class), "buckets")
+                .dateHistogram().buckets().array()
+                .forEach(bucket -> index.put(bucket.key(), new Digest(
+                        bucket.docCount(),
+                        (long) bucket.aggregations().get("fingerprint").sum().value())));
+
+        Set<Long> keys = new TreeSet<>(database.keySet());
+        keys.addAll(index.keySet());
+        return keys.stream()
+                .filter(key -> !Objects.equals(database.get(key), index.get(key)))
+                .map(key -> LocalDateTime.ofInstant(Instant.ofEpochMilli(key), ZoneOffset.UTC))
+                .toList();
+    }
+
+    private Set<String> differingDocuments(String projectId, LocalDateTime from, LocalDateTime to) {
+        Map<String, Integer> database = new HashMap<>();
+        if (from != null) {
+            jdbcTemplate.query(DOCUMENT_DIGEST_SQL, rs -> {
+                database.put(rs.getString(1), rs.getInt(2));
+            }, projectId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+        } else {
+            jdbcTemplate.query(UNBUCKETED_DOCUMENT_DIGEST_SQL, rs -> {
+                database.put(rs.getString(1), rs.getInt(2));
+            }, projectId);
+        }
+
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(from != null ? projectRange(projectId, from, to) : projectWithoutCreatedAt(projectId))
+                .withSourceFilter(new FetchSourceFilterBuilder().withIncludes("id", "fingerprint").build())
+                .withPageable(PageRequest.of(0, 1000))
+                .build();
+
+        Set<String> mismatched = new HashSet<>();
+        Set<String> seen = new HashSet<>();
+        try (SearchHitsIterator<BugDocument> hits = elasticsearchOperations.searchForStream(query, BugDocument.class)) {
+            while (hits.hasNext()) {
+                SearchHit<BugDocument> hit = hits.next();
+                String id = hit.getId();
+                seen.add(id);
+                if (!Objects.equals(database.get(id), hit.getContent().getFingerprint())) {
+                    mismatched.add(id);
+                }
+            }
+        }
+
+        database.keySet().stream()
+                .filter(id -> !seen.contains(id))
+                .forEach(mismatched::add);
+        return mismatched;
+    }
+
+    private Query projectWithoutCreatedAt(String projectId) {
+        return Query.of(q -> q.bool(b -> b
+                .filter(f -> f.term(t -> t.field("projectId").value(projectId)))
+                .mustNot(m -> m.exists(e -> e.field("createdAt")))));
+    }
+
+    private Query projectRange(String projectId, LocalDateTime from, LocalDateTime to) {
+        return Query.of(q -> q.bool(b -> b
+                .filter(f -> f.term(t -> t.field("projectId").value(projectId)))
+                .filter(f -> f.range(r -> r.date(d -> d
+                        .field("createdAt")
+                        .gte(from.format(ES_DATE))
+                        .lt(to.format(ES_DATE)))))));
+    }
+
+    private Aggregation fingerprintSum() {
+        return Aggregation.of(a -> a.sum(s -> s.field("fingerprint")));
+    }
+
+    private Aggregate aggregate(SearchHits<BugDocument> hits, String name) {
+        ElasticsearchAggregations aggregations = (ElasticsearchAggregations) hits.getAggregations();
+        return aggregations.aggregationsAsMap().get(name).aggregation().getAggregate();
+    }
+}
@@ -1,23 +1,20 @@
 package com.swayam.bugwise.service;
 
+import com.swayam.bugwise.dto.RoleCountDTO;
 import com.swayam.bugwise.dto.UpdatePasswordRequestDTO;
 import com.swayam.bugwise.dto.UpdateUserRequestDTO;
 import com.swayam.bugwise.dto.UserDTO;
 import com.swayam.bugwise.dto.UserDetailsDTO;
-import com.swayam.bugwise.entity.Organization;
-import com.swayam.bugwise.entity.Project;
 import com.swayam.bugwise.entity.User;
 import com.swayam.bugwise.enums.UserRole;
 import com.swayam.bugwise.exception.UnauthorizedAccessException;
 import com.swayam.bugwise.exception.ValidationException;
-import com.swayam.bugwise.repository.jpa.OrganizationRepository;
 import com.swayam.bugwise.repository.jpa.UserRepository;
 import com.swayam.bugwise.utils.DTOConverter;
 
-import jakarta.persistence.LockModeType;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.jpa.repository.Lock;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -32,12 +29,12 @@ import java.util.stream.Collectors;
 @Transactional
 @Slf4j
 public class UserService {
+    public static final String DESCENDANT_COUNT_CACHE = "descendantUserCounts";
+
     private final UserRepository userRepository;
-    private final OrganizationRepository organizationRepository;
     private final PasswordEncoder passwordEncoder;
 
     @Transactional(readOnly = true)
-    @Lock(LockModeType.PESSIMISTIC_READ)
     public List<UserDetailsDTO> findActiveUsersByOrganizationAndRole(String organizationId, UserRole role) {
         return userRepository.findActiveUsersByOrganizationAndRole(organizationId, role)
                 .stream()
@@ -46,7 +43,6 @@ public class UserService {
     }
 
     @Transactional(readOnly = true)
-    @Lock(LockModeType.PESSIMISTIC_READ)
     public List<UserDetailsDTO> findActiveUsers() {
         return userRepository.findAll()
                 .stream()
@@ -67,13 +63,11 @@ public class UserService {
     }
 
     @Transactional(readOnly = true)
-    @Lock(LockModeType.PESSIMISTIC_READ)
     public long countActiveUsersByOrganizationAndRole(String organizationId, UserRole role) {
         return userRepository.countActiveUsersByOrganizationsAndRole(organizationId, role);
     }
 
     @Transactional(readOnly = true)
-    @Lock(LockModeType.PESSIMISTIC_READ)
     public User getCurrentUser() {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
         User user = userRepository.findByEmail(email)
@@ -82,7 +76,6 @@ public class UserService {
     }
 
     @Transactional(readOnly = true)
-    @Lock(LockModeType.PESSIMISTIC_READ)
     public UserDetailsDTO getCurrentUserDetails(String email) { 
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new NoSuchElementException("User not found"));
@@ -96,7 +89,6 @@ public class UserService {
     }
 
     @Transactional
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
     public UserDetailsDTO updateUserDetails(String email, UpdateUserRequestDTO request) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -115,7 +107,6 @@ public class UserService {
     }
 
     @Transactional
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
     public void updateUserPassword(String userId, UpdatePasswordRequestDTO request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -128,37 +119,30 @@ public class UserService {
         userRepository.save(user);
     }
 
+    /**
+     * Counts the active users below the caller: every member of the organizations an admin runs,
+     * or every user assigned bugs in the projects a project manager runs. One grouped query either way.
+     */
     @Transactional(readOnly = true)
-    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Cacheable(value = DESCENDANT_COUNT_CACHE, key = "#username")
     public Map<UserRole, Long> getDescendantUserCount(String username) {
         User currentUser = userRepository.findByEmail(username).orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        Map<UserRole, Long> descendantCount = new EnumMap<>(UserRole.class);
 
+        List<UserRole> roles;
+        List<RoleCountDTO> counts;
         if (currentUser.getRole() == UserRole.ADMIN) {
-            List<Organization> administeredOrganizations = organizationRepository.findByAdmin(currentUser);
-            for (Organization organization : administeredOrganizations) {
-                descendantCount.put(UserRole.PROJECT_MANAGER,
-                        descendantCount.getOrDefault(UserRole.PROJECT_MANAGER, 0L) +
-                                userRepository.countActiveUsersByOrganizationsAndRole(organization.getId(), UserRole.PROJECT_MANAGER));
-                descendantCount.put(UserRole.DEVELOPER,
-                        descendantCount.getOrDefault(UserRole.DEVELOPER, 0L) +
-                                userRepository.countActiveUsersByOrganizationsAndRole(organization.getId(), UserRole.DEVELOPER));
-                descendantCount.put(UserRole.TESTER,
-                        descendantCount.getOrDefault(UserRole.TESTER, 0L) +
-                                userRepository.countActiveUsersByOrganizationsAndRole(organization.getId(), UserRole.TESTER));
-            }
+            roles = List.of(UserRole.PROJECT_MANAGER, UserRole.DEVELOPER, UserRole.TESTER);
+            counts = userRepository.countActiveUsersByRoleInAdministeredOrganizations(currentUser.getId(), roles);
         } else if (currentUser.getRole() == UserRole.PROJECT_MANAGER) {
-            Set<Project> managedProjects = currentUser.getManagedProjects();
-            Set<String> projectIds = managedProjects.stream().map(Project::getId).collect(Collectors.toSet());
-
-            descendantCount.put(UserRole.DEVELOPER,
-                    userRepository.countActiveUsersByProjectsAndRole(projectIds, UserRole.DEVELOPER));
-            descendantCount.put(UserRole.TESTER,
-                    userRepository.countActiveUsersByProjectsAndRole(projectIds, UserRole.TESTER));
+            roles = List.of(UserRole.DEVELOPER, UserRole.TESTER);
+            counts = userRepository.countActiveAssigneesByRoleInManagedProjects(currentUser.getId(), roles);
         } else {
             throw new UnauthorizedAccessException("You do not have permission to view descendant user counts.");
         }
 
+        Map<UserRole, Long> descendantCount = new EnumMap<>(UserRole.class);
+        roles.forEach(role -> descendantCount.put(role, 0L));
+        counts.forEach(count -> descendantCount.put(count.getRole(), count.getCount()));
         return descendantCount;
     }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.swayam.bugwise.utils;
+
+import com.swayam.bugwise.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Opaque keyset cursor over {@code (createdAt, id)} for bug listings ordered newest first.
+ */
+public final class BugCursor {
+    private static final LocalDateTime START = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    public record Position(LocalDateTime createdAt, String id) {
+    }
+
+    private BugCursor() {
+    }
+
+    public static String encode(LocalDateTime createdAt, String id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Position decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new Position(START, "");
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new Position(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (RuntimeException e) {
+            throw new ValidationException(Map.of("error", "Invalid cursor"));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.swayam.bugwise.utils;
+
+import com.swayam.bugwise.dto.BugDTO;
+import com.swayam.bugwise.dto.ProjectDTO;
+import com.swayam.bugwise.entity.Bug;
+import com.swayam.bugwise.entity.BugDocument;
+import com.swayam.bugwise.entity.User;
+import com.swayam.bugwise.enums.BugStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.Collectors;
+
+public class BugDocumentMapper {
+    private static final DateTimeFormatter FINGERPRINT_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    /**
+     * SQL twin of {@link #fingerprint(String, BugStatus, LocalDateTime)} over the {@code bugs} table aliased as {@code b}.
+     */
+    public static final String FINGERPRINT_SQL =
+            "(CAST(CAST('x' || substr(md5(b.id || '|' || COALESCE(CAST(b.status AS VARCHAR), '') || '|' || " +
+            "COALESCE(to_char(b.updated_at, 'YYYY-MM-DD\"T\"HH24:MI:SS'), '')), 1, 8) AS bit(32)) AS bigint) & 1073741823)";
+
+    public static BugDocument toDocument(Bug bug) {
+        BugDocument bugDocument = new BugDocument();
+        bugDocument.setId(bug.getId());
+        bugDocument.setTitle(bug.getTitle());
+        bugDocument.setDescription(bug.getDescription());
+        bugDocument.setStatus(bug.getStatus());
+        bugDocument.setSeverity(bug.getSeverity());
+        bugDocument.setProjectId(bug.getProject().getId());
+        bugDocument.setProjectName(bug.getProject().getName());
+        bugDocument.setCreatedAt(bug.getCreatedAt());
+        bugDocument.setUpdatedAt(bug.getUpdatedAt());
+        bugDocument.setBugType(bug.getBugType());
+        bugDocument.setExpectedTimeHours(bug.getExpectedTimeHours());
+        bugDocument.setActualTimeHours(bug.getActualTimeHours());
+        bugDocument.setFingerprint(fingerprint(bug.getId(), bug.getStatus(), bug.getUpdatedAt()));
+
+        if (bug.getAssignedDeveloper() != null) {
+            bugDocument.setAssignedDeveloperIds(bug.getAssignedDeveloper().stream().map(User::getId).collect(Collectors.toList()));
+            bugDocument.setAssignedDeveloperEmails(bug.getAssignedDeveloper().stream().map(User::getEmail).collect(Collectors.toList()));
+        }
+
+        if (bug.getReportedBy() != null) {
+            bugDocument.setReportedById(bug.getReportedBy().getId());
+        }
+
+        if (bug.getProject().getOrganization() != null) {
+            BugDocument.OrganizationRef orgRef = new BugDocument.OrganizationRef();
+            orgRef.setId(bug.getProject().getOrganization().getId());
+            orgRef.setName(bug.getProject().getOrganization().getName());
+            bugDocument.setOrganization(orgRef);
+        }
+
+        return bugDocument;
+    }
+
+    public static BugDTO toBugDTO(BugDocument document) {
+        BugDTO dto = new BugDTO();
+        dto.setId(document.getId());
+        dto.setTitle(document.getTitle());
+        dto.setDescription(document.getDescription());
+        dto.setStatus(document.getStatus());
+        dto.setSeverity(document.getSeverity());
+        dto.setBugType(document.getBugType());
+        dto.setCreatedAt(document.getCreatedAt());
+        dto.setUpdatedAt(document.getUpdatedAt());
+        dto.setExpectedTimeHours(document.getExpectedTimeHours());
+        dto.setActualTimeHours(document.getActualTimeHours());
+
+        ProjectDTO project = new ProjectDTO();
+        project.setId(document.getProjectId());
+        project.setName(document.getProjectName());
+        if (document.getOrganization() != null) {
+            project.setOrganizationId(document.getOrganization().getId());
+            dto.setOrganizationId(document.getOrganization().getId());
+            dto.setOrganizationName(document.getOrganization().getName());
+        }
+        dto.setProject(project);
+        return dto;
+    }
+
+    /**
+     * 30-bit digest of the fields that change on every write, kept small so that Elasticsearch
+     * can sum millions of them exactly in a double.
+     */
+    public static int fingerprint(String id, BugStatus status, LocalDateTime updatedAt) {
+        String source = id + "|" + (status != null ? String.valueOf(status.ordinal()) : "") + "|" +
+                (updatedAt != null ? updatedAt.format(FINGERPRINT_TIME) : "");
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(source.getBytes(StandardCharsets.UTF_8));
+            int value = ((digest[0] & 0xff) << 24) | ((digest[1] & 0xff) << 16) | ((digest[2] & 0xff) << 8) | (digest[3] & 0xff);
+            return value & 0x3FFFFFFF;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.swayam.bugwise.utils;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mergeable histogram of non-negative durations with logarithmic buckets, so percentiles are
+ * accurate to about 1% of the value regardless of how many samples were recorded.
+ */
+public class LogHistogram {
+    private static final double GAMMA = 1.02;
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+    private long count;
+
+    public static LogHistogram fromBuckets(Map<Integer, Long> buckets) {
+        LogHistogram histogram = new LogHistogram();
+        if (buckets != null) {
+            buckets.forEach((index, bucketCount) -> {
+                histogram.buckets.merge(index, bucketCount, Long::sum);
+                histogram.count += bucketCount;
+            });
+        }
+        return histogram;
+    }
+
+    public void record(long value) {
+        int index = value <= 1 ? 0 : (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+        buckets.merge(index, 1L, Long::sum);
+        count++;
+    }
+
+    public void merge(LogHistogram other) {
+        other.buckets.forEach((index, bucketCount) -> buckets.merge(index, bucketCount, Long::sum));
+        count += other.count;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public Map<Integer, Long> getBuckets() {
+        return buckets;
+    }
+
+    /**
+     * @param quantile between 0 and 1, e.g. 0.9 for the 90th percentile
+     */
+    public long percentile(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (seen >= rank) {
+                return representative(bucket.getKey());
+            }
+        }
+        return representative(buckets.lastKey());
+    }
+
+    private static long representative(int index) {
+        if (index == 0) {
+            return 1;
+        }
+        // Midpoint of (GAMMA^(index-1), GAMMA^index] in relative terms.
+        return Math.round(2 * Math.pow(GAMMA, index) / (GAMMA + 1));
+    }
+}
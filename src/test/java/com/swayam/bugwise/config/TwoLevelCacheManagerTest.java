@@ -0,0 +1,119 @@
+package com.swayam.bugwise.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TwoLevelCacheManagerTest {
+    private static final String CACHE = "bugs";
+
+    @Mock
+    private RedisCacheManager redisCacheManager;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private Cache remote;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(redisCacheManager.getCache(CACHE)).thenReturn(remote);
+        cacheManager = newManager();
+    }
+
+    @Test
+    void get_LocalHit_DoesNotReadRedis() {
+        Cache cache = cacheManager.getCache(CACHE);
+        cache.put("bug1", "value");
+
+        Assertions.assertEquals("value", cache.get("bug1").get());
+        verify(remote).put("bug1", "value");
+        verify(remote, never()).get(any());
+        Assertions.assertEquals(1.0, meterRegistry.get("bugwise.cache.gets")
+                .tags("cache", CACHE, "tier", "l1", "result", "hit").counter().count());
+    }
+
+    @Test
+    void get_LocalMiss_FallsThroughToRedisAndKeepsLocalCopy() {
+        when(remote.get("bug1")).thenReturn(new SimpleValueWrapper("value"));
+        Cache cache = cacheManager.getCache(CACHE);
+
+        Assertions.assertEquals("value", cache.get("bug1").get());
+        Assertions.assertEquals("value", cache.get("bug1").get());
+
+        verify(remote, times(1)).get("bug1");
+        Assertions.assertEquals(1.0, meterRegistry.get("bugwise.cache.gets")
+                .tags("cache", CACHE, "tier", "l2", "result", "hit").counter().count());
+    }
+
+    @Test
+    void evict_PublishesInvalidation() throws Exception {
+        cacheManager.getCache(CACHE).evict("bug1");
+
+        verify(remote).evict("bug1");
+        TwoLevelCacheManager.InvalidationMessage message = objectMapper.readValue(
+                lastPublished(1), TwoLevelCacheManager.InvalidationMessage.class);
+        Assertions.assertEquals(CACHE, message.cacheName());
+        Assertions.assertEquals("bug1", message.key());
+        Assertions.assertNotNull(message.nodeId());
+    }
+
+    @Test
+    void onMessage_IgnoresOwnInvalidationAndAppliesOthers() {
+        TwoLevelCacheManager otherNode = newManager();
+        Cache cache = cacheManager.getCache(CACHE);
+        Cache otherCache = otherNode.getCache(CACHE);
+        otherCache.put("bug1", "stale");
+        cache.put("bug1", "fresh");
+        String payload = lastPublished(2);
+
+        cacheManager.onMessage(message(payload), null);
+        otherNode.onMessage(message(payload), null);
+
+        Assertions.assertEquals("fresh", cache.get("bug1").get());
+        when(remote.get("bug1")).thenReturn(new SimpleValueWrapper("fresh"));
+        Assertions.assertEquals("fresh", otherCache.get("bug1").get());
+        verify(remote, times(1)).get("bug1");
+    }
+
+    private TwoLevelCacheManager newManager() {
+        return new TwoLevelCacheManager(redisCacheManager, redisTemplate, objectMapper, meterRegistry,
+                100, Duration.ofMinutes(1));
+    }
+
+    private String lastPublished(int publishCount) {
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, times(publishCount))
+                .convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL), payload.capture());
+        return payload.getValue();
+    }
+
+    private static DefaultMessage message(String payload) {
+        return new DefaultMessage(TwoLevelCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,111 @@
+package com.swayam.bugwise.security;
+
+import com.swayam.bugwise.repository.jpa.ProjectRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class WebSocketInterceptorsTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private MessageChannel channel;
+
+    @InjectMocks
+    private WebSocketAuthInterceptor authInterceptor;
+
+    @InjectMocks
+    private ProjectSubscriptionInterceptor subscriptionInterceptor;
+
+    @Test
+    void connect_WithoutToken_IsRejected() {
+        Message<?> connect = stomp(StompCommand.CONNECT, null, null);
+
+        Assertions.assertThrows(MessagingException.class, () -> authInterceptor.preSend(connect, channel));
+        verifyNoInteractions(jwtTokenProvider, userDetailsService);
+    }
+
+    @Test
+    void connect_WithInvalidToken_IsRejected() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.addNativeHeader("Authorization", "Bearer expired");
+        accessor.setLeaveMutable(true);
+        UserDetails userDetails = mock(UserDetails.class);
+        when(jwtTokenProvider.extractUsername("expired")).thenReturn("dev@example.com");
+        when(userDetailsService.loadUserByUsername("dev@example.com")).thenReturn(userDetails);
+        when(jwtTokenProvider.isTokenValid("expired", userDetails)).thenReturn(false);
+
+        Assertions.assertThrows(MessagingException.class, () ->
+                authInterceptor.preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), channel));
+    }
+
+    @Test
+    void subscribe_ProjectStatsWithoutAccess_IsRejected() {
+        when(projectRepository.hasAccess("project1", "dev@example.com")).thenReturn(false);
+
+        Assertions.assertThrows(MessagingException.class, () -> subscriptionInterceptor.preSend(
+                stomp(StompCommand.SUBSCRIBE, "/topic/project.project1.stats", "dev@example.com"), channel));
+        Assertions.assertThrows(MessagingException.class, () -> subscriptionInterceptor.preSend(
+                stomp(StompCommand.SUBSCRIBE, "/app/project.project1.stats", "dev@example.com"), channel));
+    }
+
+    @Test
+    void subscribe_ProjectStatsWithAccess_PassesThrough() {
+        when(projectRepository.hasAccess("project1", "pm@example.com")).thenReturn(true);
+        Message<?> subscribe = stomp(StompCommand.SUBSCRIBE, "/topic/project.project1.stats", "pm@example.com");
+
+        Assertions.assertSame(subscribe, subscriptionInterceptor.preSend(subscribe, channel));
+    }
+
+    @Test
+    void subscribe_WildcardTopic_IsRejected() {
+        Assertions.assertThrows(MessagingException.class, () -> subscriptionInterceptor.preSend(
+                stomp(StompCommand.SUBSCRIBE, "/topic/project.*.stats", "pm@example.com"), channel));
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    void subscribe_OtherDestination_IsNotChecked() {
+        Message<?> subscribe = stomp(StompCommand.SUBSCRIBE, "/user/queue/notifications", "dev@example.com");
+
+        Assertions.assertSame(subscribe, subscriptionInterceptor.preSend(subscribe, channel));
+        verifyNoInteractions(projectRepository);
+    }
+
+    private static Message<?> stomp(StompCommand command, String destination, String user) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        if (user != null) {
+            accessor.setUser(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
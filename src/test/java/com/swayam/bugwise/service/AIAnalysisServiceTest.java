@@ -0,0 +1,226 @@
+package com.swayam.bugwise.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swayam.bugwise.dto.BugSuggestionDTO;
+import com.swayam.bugwise.entity.Bug;
+import com.swayam.bugwise.entity.BugDocument;
+import com.swayam.bugwise.entity.Project;
+import com.swayam.bugwise.entity.User;
+import com.swayam.bugwise.enums.BugSeverity;
+import com.swayam.bugwise.enums.BugType;
+import com.swayam.bugwise.enums.DeveloperType;
+import com.swayam.bugwise.enums.UserRole;
+import com.swayam.bugwise.repository.jpa.BugRepository;
+import com.swayam.bugwise.repository.jpa.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AIAnalysisServiceTest {
+
+    @Mock
+    private ChatClient.Builder chatClientBuilder;
+
+    @Mock
+    private ChatClient chatClient;
+
+    @Mock
+    private BugRepository bugRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private DeveloperWorkloadService developerWorkloadService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AIAnalysisService aiAnalysisService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(chatClientBuilder.build()).thenReturn(chatClient);
+        aiAnalysisService = new AIAnalysisService(chatClientBuilder, bugRepository, userRepository,
+                elasticsearchOperations, developerWorkloadService, meterRegistry, new ObjectMapper(), 200, 1000, false);
+
+        Project project = new Project();
+        project.setId("project1");
+
+        Bug bug = new Bug();
+        bug.setId("bug1");
+        bug.setTitle("Login button unresponsive");
+        bug.setDescription("Clicking login does nothing on Safari");
+        bug.setSeverity(BugSeverity.HIGH);
+        bug.setProject(project);
+        when(bugRepository.findById("bug1")).thenReturn(Optional.of(bug));
+
+        User developer = new User();
+        developer.setId("dev1");
+        developer.setEmail("dev1@example.com");
+        developer.setRole(UserRole.DEVELOPER);
+        developer.setDeveloperType(DeveloperType.FRONTEND);
+        when(userRepository.findByAssignedProjectsIdAndRole("project1", UserRole.DEVELOPER)).thenReturn(List.of(developer));
+
+        @SuppressWarnings("unchecked")
+        SearchHits<BugDocument> hits = mock(SearchHits.class);
+        when(hits.stream()).thenReturn(Stream.empty());
+        when(elasticsearchOperations.search(any(Query.class), eq(BugDocument.class))).thenReturn(hits);
+    }
+
+    @Test
+    void getBugSuggestions_CombinesAllStages() {
+        stubModel(respond("FRONTEND"), respond("HIGH"), respond("FRONTEND"), respond("4"), respond("dev1"));
+
+        BugSuggestionDTO suggestion = aiAnalysisService.getBugSuggestions("bug1");
+
+        Assertions.assertEquals(BugType.FRONTEND, suggestion.getSuggestedBugType());
+        Assertions.assertEquals("HIGH", suggestion.getSuggestedSeverity());
+        Assertions.assertEquals(Set.of(DeveloperType.FRONTEND), suggestion.getRequiredDeveloperTypes());
+        Assertions.assertEquals(4, suggestion.getEstimatedTimeHours());
+        Assertions.assertEquals("dev1", suggestion.getSuggestedDevelopers().get(0).getUserId());
+        Assertions.assertFalse(suggestion.isPartial());
+    }
+
+    @Test
+    void getBugSuggestions_FallsBackToDefaultWhenCallTimesOut() {
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        ChatClient.ChatClientRequestSpec stuckEstimate = mock(ChatClient.ChatClientRequestSpec.class, RETURNS_DEEP_STUBS);
+        when(stuckEstimate.call().content()).thenAnswer(invocation -> {
+            neverReleased.await();
+            return "4";
+        });
+        stubModel(respond("FRONTEND"), respond("HIGH"), respond("FRONTEND"), stuckEstimate, respond("dev1"));
+
+        BugSuggestionDTO suggestion = aiAnalysisService.getBugSuggestions("bug1");
+
+        Assertions.assertEquals(8, suggestion.getEstimatedTimeHours());
+        Assertions.assertEquals("HIGH", suggestion.getSuggestedSeverity());
+        Assertions.assertTrue(suggestion.isPartial());
+        Assertions.assertEquals(1, meterRegistry.get("bugwise.ai.suggestions.stage")
+                .tags("stage", "timeEstimate", "outcome", "timeout").timer().count());
+    }
+
+    @Test
+    void getBugSuggestions_TriageModeAsksForAllFieldsInOnePrompt() {
+        StubChatModel model = new StubChatModel("""
+                ```json
+                {"bugType": "FRONTEND", "severity": "HIGH", "developerTypes": ["FRONTEND", "FULL_STACK"],
+                 "estimatedHours": 3, "developerIds": ["unknown", "dev1"]}
+                ```
+                """);
+
+        BugSuggestionDTO suggestion = triageService(model).getBugSuggestions("bug1");
+
+        Assertions.assertEquals(1, model.prompts.size());
+        Assertions.assertEquals(BugType.FRONTEND, suggestion.getSuggestedBugType());
+        Assertions.assertEquals("HIGH", suggestion.getSuggestedSeverity());
+        Assertions.assertEquals(Set.of(DeveloperType.FRONTEND, DeveloperType.FULL_STACK), suggestion.getRequiredDeveloperTypes());
+        Assertions.assertEquals(3, suggestion.getEstimatedTimeHours());
+        Assertions.assertEquals(List.of("dev1"), suggestion.getSuggestedDevelopers().stream()
+                .map(BugSuggestionDTO.DeveloperSuggestionDTO::getUserId).toList());
+        Assertions.assertFalse(suggestion.isPartial());
+    }
+
+    @Test
+    void getBugSuggestions_TriageModeFallsBackPerInvalidField() {
+        StubChatModel model = new StubChatModel("""
+                {"bugType": "UI", "severity": "high", "developerTypes": ["BACKEND", "DBA"], "estimatedHours": "lots"}
+                """);
+
+        BugSuggestionDTO suggestion = triageService(model).getBugSuggestions("bug1");
+
+        Assertions.assertEquals(BugType.OTHER, suggestion.getSuggestedBugType());
+        Assertions.assertEquals("HIGH", suggestion.getSuggestedSeverity());
+        Assertions.assertEquals(Set.of(DeveloperType.BACKEND), suggestion.getRequiredDeveloperTypes());
+        Assertions.assertEquals(8, suggestion.getEstimatedTimeHours());
+        Assertions.assertTrue(suggestion.getSuggestedDevelopers().isEmpty());
+        Assertions.assertTrue(suggestion.isPartial());
+    }
+
+    @Test
+    void getBugSuggestions_TriageModeUsesDefaultsForMalformedReply() {
+        StubChatModel model = new StubChatModel("The bug looks like a frontend issue.");
+
+        BugSuggestionDTO suggestion = triageService(model).getBugSuggestions("bug1");
+
+        Assertions.assertEquals(BugType.OTHER, suggestion.getSuggestedBugType());
+        Assertions.assertEquals("MEDIUM", suggestion.getSuggestedSeverity());
+        Assertions.assertEquals(8, suggestion.getEstimatedTimeHours());
+        Assertions.assertTrue(suggestion.isPartial());
+    }
+
+    private AIAnalysisService triageService(ChatModel model) {
+        return new AIAnalysisService(ChatClient.builder(model), bugRepository, userRepository,
+                elasticsearchOperations, developerWorkloadService, meterRegistry, new ObjectMapper(), 1000, 2000, true);
+    }
+
+    private void stubModel(ChatClient.ChatClientRequestSpec bugType, ChatClient.ChatClientRequestSpec severity,
+                           ChatClient.ChatClientRequestSpec developerTypes, ChatClient.ChatClientRequestSpec timeEstimate,
+                           ChatClient.ChatClientRequestSpec developers) {
+        when(chatClient.prompt(any(Prompt.class))).thenAnswer(invocation -> {
+            String text = invocation.<Prompt>getArgument(0).getContents();
+            if (text.contains("determine its type")) {
+                return bugType;
+            }
+            if (text.contains("severity level")) {
+                return severity;
+            }
+            if (text.contains("which developer types")) {
+                return developerTypes;
+            }
+            if (text.contains("Estimate the time")) {
+                return timeEstimate;
+            }
+            return developers;
+        });
+    }
+
+    private static ChatClient.ChatClientRequestSpec respond(String content) {
+        ChatClient.ChatClientRequestSpec spec = mock(ChatClient.ChatClientRequestSpec.class, RETURNS_DEEP_STUBS);
+        when(spec.call().content()).thenReturn(content);
+        return spec;
+    }
+
+    /**
+     * Offline stand-in for a real model: answers every prompt with a fixed reply.
+     */
+    private static final class StubChatModel implements ChatModel {
+        private final String reply;
+        private final List<Prompt> prompts = new CopyOnWriteArrayList<>();
+
+        private StubChatModel(String reply) {
+            this.reply = reply;
+        }
+
+        @Override
+        public ChatResponse call(Prompt prompt) {
+            prompts.add(prompt);
+            return new ChatResponse(List.of(new Generation(new AssistantMessage(reply))));
+        }
+    }
+}
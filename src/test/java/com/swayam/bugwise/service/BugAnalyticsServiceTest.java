@@ -0,0 +1,171 @@
+package com.swayam.bugwise.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swayam.bugwise.dto.BugAnalyticsDTO;
+import com.swayam.bugwise.entity.BugStatusRollup;
+import com.swayam.bugwise.enums.BugStatus;
+import com.swayam.bugwise.exception.UnauthorizedAccessException;
+import com.swayam.bugwise.exception.ValidationException;
+import com.swayam.bugwise.repository.jpa.BugStatusRollupRepository;
+import com.swayam.bugwise.repository.jpa.ProjectRepository;
+import com.swayam.bugwise.utils.LogHistogram;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BugAnalyticsServiceTest {
+    private static final String EMAIL = "pm@example.com";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private BugStatusRollupRepository rollupRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private Connection connection;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BugAnalyticsService bugAnalyticsService;
+
+    @BeforeEach
+    void setUp() {
+        bugAnalyticsService = new BugAnalyticsService(jdbcTemplate, transactionManager, rollupRepository,
+                projectRepository, objectMapper);
+        lenient().when(projectRepository.hasAccess("project1", EMAIL)).thenReturn(true);
+    }
+
+    @Test
+    void getProjectAnalytics_MergesDailyRollups() throws Exception {
+        LocalDate from = LocalDate.now().minusDays(10);
+        LocalDate to = from.plusDays(1);
+
+        when(rollupRepository.findRolledUpDays(from, to)).thenReturn(List.of(from, to));
+        when(rollupRepository.findByProjectIdAndDayBetween("project1", from, to)).thenReturn(List.of(
+                rollup(from, 2, 0, 3600, 7200),
+                rollup(to, 1, 1, 10800)
+        ));
+
+        BugAnalyticsDTO analytics = bugAnalyticsService.getProjectAnalytics("project1", from, to, EMAIL);
+
+        Assertions.assertEquals(3, analytics.getResolvedCount());
+        Assertions.assertEquals(1, analytics.getReopenedCount());
+        Assertions.assertEquals(1.0 / 3, analytics.getReopenRate(), 1e-9);
+        Assertions.assertEquals(2.0, analytics.getMttrHours(), 1e-9);
+        Assertions.assertEquals(3, analytics.getResolutionTime().getSamples());
+        Assertions.assertEquals(2.0, analytics.getResolutionTime().getP50Hours(), 0.04);
+        Assertions.assertEquals(3.0, analytics.getResolutionTime().getP99Hours(), 0.06);
+        Assertions.assertEquals(3, analytics.getTimeInStatus().get(BugStatus.IN_PROGRESS).getSamples());
+
+        verify(rollupRepository, never()).saveAll(anyList());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void getProjectAnalytics_DayNotRolledUp_ComputedLiveWithoutWriting() throws Exception {
+        LocalDate from = LocalDate.now().minusDays(10);
+        LocalDate missing = from.plusDays(1);
+        LocalDate to = from.plusDays(2);
+
+        when(rollupRepository.findRolledUpDays(from, to)).thenReturn(List.of(from, to));
+        when(rollupRepository.findByProjectIdAndDayBetween("project1", from, to)).thenReturn(List.of(
+                rollup(from, 2, 0, 3600, 7200),
+                rollup(to, 1, 1, 10800)
+        ));
+        ResultSet transition = mock(ResultSet.class);
+        when(transition.getString("project_id")).thenReturn("project1");
+        when(transition.getInt("from_status")).thenReturn(BugStatus.IN_PROGRESS.ordinal());
+        when(transition.getInt("to_status")).thenReturn(BugStatus.RESOLVED.ordinal());
+        when(transition.getTimestamp("changed_at")).thenReturn(Timestamp.valueOf(missing.atTime(12, 0)));
+        when(transition.getTimestamp("entered_at")).thenReturn(Timestamp.valueOf(missing.atTime(10, 0)));
+        when(transition.getTimestamp("opened_at")).thenReturn(Timestamp.valueOf(missing.atTime(8, 0)));
+        doAnswer(invocation -> {
+            ((RowCallbackHandler) invocation.getArgument(1)).processRow(transition);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        BugAnalyticsDTO analytics = bugAnalyticsService.getProjectAnalytics("project1", from, to, EMAIL);
+
+        Assertions.assertEquals(4, analytics.getResolvedCount());
+        Assertions.assertEquals(4, analytics.getResolutionTime().getSamples());
+        Assertions.assertEquals(4, analytics.getTimeInStatus().get(BugStatus.IN_PROGRESS).getSamples());
+        verify(jdbcTemplate, times(1)).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        verify(rollupRepository, never()).deleteByDay(any());
+        verify(rollupRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void getProjectAnalytics_RangeTooLong_ThrowsValidationException() {
+        LocalDate to = LocalDate.now();
+
+        Assertions.assertThrows(ValidationException.class,
+                () -> bugAnalyticsService.getProjectAnalytics("project1", to.minusDays(400), to, EMAIL));
+        verifyNoInteractions(jdbcTemplate, rollupRepository);
+    }
+
+    @Test
+    void getProjectAnalytics_NoProjectAccess_ThrowsUnauthorized() {
+        LocalDate to = LocalDate.now();
+        when(projectRepository.hasAccess("project1", "other@example.com")).thenReturn(false);
+
+        Assertions.assertThrows(UnauthorizedAccessException.class,
+                () -> bugAnalyticsService.getProjectAnalytics("project1", to.minusDays(7), to, "other@example.com"));
+        verifyNoInteractions(jdbcTemplate, rollupRepository);
+    }
+
+    @Test
+    void rollupFinishedDays_LockHeldByAnotherNode_WritesNothing() throws Exception {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet result = mock(ResultSet.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(result);
+        when(result.next()).thenReturn(true);
+        when(result.getBoolean(1)).thenReturn(false);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenAnswer(invocation -> ((ConnectionCallback<?>) invocation.getArgument(0)).doInConnection(connection));
+
+        bugAnalyticsService.rollupFinishedDays();
+
+        verifyNoInteractions(rollupRepository);
+        verify(statement, never()).execute();
+    }
+
+    private BugStatusRollup rollup(LocalDate day, long resolved, long reopened, long... resolutionSeconds) throws Exception {
+        LogHistogram resolution = new LogHistogram();
+        long sum = 0;
+        for (long seconds : resolutionSeconds) {
+            resolution.record(seconds);
+            sum += seconds;
+        }
+        return new BugStatusRollup("project1", day, resolved, reopened, sum,
+                objectMapper.writeValueAsString(resolution.getBuckets()),
+                objectMapper.writeValueAsString(Map.of(BugStatus.IN_PROGRESS, resolution.getBuckets())));
+    }
+}
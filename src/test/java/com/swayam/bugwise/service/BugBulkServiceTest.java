@@ -0,0 +1,104 @@
+package com.swayam.bugwise.service;
+
+import com.swayam.bugwise.dto.BugBulkProjection;
+import com.swayam.bugwise.dto.BulkBugUpdateRequestDTO;
+import com.swayam.bugwise.dto.BulkBugUpdateResponseDTO;
+import com.swayam.bugwise.dto.NotificationMessageDTO;
+import com.swayam.bugwise.enums.BugSeverity;
+import com.swayam.bugwise.enums.BugStatus;
+import com.swayam.bugwise.exception.ValidationException;
+import com.swayam.bugwise.repository.jpa.BugRepository;
+import com.swayam.bugwise.repository.jpa.UserRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BugBulkServiceTest {
+
+    @Mock
+    private BugRepository bugRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BugIndexingService bugIndexingService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private BugCounterService bugCounterService;
+
+    @Mock
+    private DeveloperWorkloadService developerWorkloadService;
+
+    @Mock
+    private BugStatusHistoryService bugStatusHistoryService;
+
+    @InjectMocks
+    private BugBulkService bugBulkService;
+
+    @Test
+    void updateBugs_AppliesValidItemsInOneStatementAndReportsFailures() {
+        BulkBugUpdateRequestDTO request = new BulkBugUpdateRequestDTO();
+        request.setBugIds(List.of("bug1", "bug2", "bug3", "bug4"));
+        request.setStatus(BugStatus.RESOLVED);
+
+        when(bugRepository.findBulkRowsByIdIn(anyCollection())).thenReturn(List.of(
+                new BugBulkProjection("bug1", "project1", BugStatus.IN_PROGRESS, BugSeverity.HIGH, "pm@example.com", "dev@example.com"),
+                new BugBulkProjection("bug2", "project1", BugStatus.OPEN, BugSeverity.HIGH, "pm@example.com", "dev@example.com"),
+                new BugBulkProjection("bug3", "project1", BugStatus.CLOSED, BugSeverity.LOW, "pm@example.com", null),
+                new BugBulkProjection("bug4", "project2", BugStatus.OPEN, BugSeverity.LOW, "other@example.com", null)
+        ));
+
+        BulkBugUpdateResponseDTO response = bugBulkService.updateBugs(request, "pm@example.com");
+
+        Assertions.assertEquals(2, response.getUpdated());
+        Assertions.assertEquals(2, response.getFailed());
+        Assertions.assertEquals("Closed bugs can only be reopened", response.getResults().get(2).getError());
+        Assertions.assertFalse(response.getResults().get(3).isSuccess());
+
+        verify(bugRepository).updateStatusByIdIn(eq(List.of("bug1", "bug2")), eq(BugStatus.RESOLVED),
+                any(LocalDateTime.class), eq("pm@example.com"));
+        verify(bugRepository, never()).deleteAssignmentsByBugIdIn(anyCollection());
+        verify(bugStatusHistoryService).recordTransitions(eq(List.of("bug1", "bug2")), eq(BugStatus.RESOLVED),
+                any(LocalDateTime.class), eq("pm@example.com"));
+        verify(bugIndexingService).enqueueAll(List.of("bug1", "bug2"));
+        verify(bugCounterService).apply(Map.of(
+                new BugCounterService.CounterKey("project1", BugStatus.IN_PROGRESS, BugSeverity.HIGH), -1L,
+                new BugCounterService.CounterKey("project1", BugStatus.OPEN, BugSeverity.HIGH), -1L,
+                new BugCounterService.CounterKey("project1", BugStatus.RESOLVED, BugSeverity.HIGH), 2L));
+
+        ArgumentCaptor<NotificationMessageDTO> message = ArgumentCaptor.forClass(NotificationMessageDTO.class);
+        verify(notificationService, times(1)).sendNotification(message.capture());
+        Assertions.assertEquals(List.of("dev@example.com"), message.getValue().getRecipients());
+        Assertions.assertEquals(List.of("bug1", "bug2"), message.getValue().getMetadata().get("bugIds"));
+    }
+
+    @Test
+    void updateBugs_NothingToUpdate_ThrowsValidationException() {
+        BulkBugUpdateRequestDTO request = new BulkBugUpdateRequestDTO();
+        request.setBugIds(List.of("bug1"));
+
+        Assertions.assertThrows(ValidationException.class,
+                () -> bugBulkService.updateBugs(request, "pm@example.com"));
+        verifyNoInteractions(bugRepository);
+    }
+}
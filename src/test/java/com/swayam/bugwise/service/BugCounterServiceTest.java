@@ -0,0 +1,85 @@
+package com.swayam.bugwise.service;
+
+import com.swayam.bugwise.enums.BugSeverity;
+import com.swayam.bugwise.enums.BugStatus;
+import com.swayam.bugwise.repository.jpa.ProjectBugCounterRepository;
+import com.swayam.bugwise.repository.jpa.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BugCounterServiceTest {
+    private static final String SHARED_LOCK = "SELECT pg_advisory_xact_lock_shared(hashtext(?))";
+    private static final String EXCLUSIVE_LOCK = "SELECT pg_advisory_xact_lock(hashtext(?))";
+
+    @Mock
+    private ProjectBugCounterRepository counterRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProjectStatsStreamService projectStatsStreamService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BugCounterService bugCounterService;
+
+    @BeforeEach
+    void setUp() {
+        bugCounterService = new BugCounterService(counterRepository, projectRepository, projectStatsStreamService,
+                jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    void apply_LocksEachProjectSharedOnceBeforeWritingCounters() {
+        bugCounterService.apply(Map.of(
+                new BugCounterService.CounterKey("project2", BugStatus.OPEN, BugSeverity.HIGH), 1L,
+                new BugCounterService.CounterKey("project1", BugStatus.NEW, BugSeverity.HIGH), -1L,
+                new BugCounterService.CounterKey("project1", BugStatus.OPEN, BugSeverity.HIGH), 1L));
+
+        InOrder inOrder = inOrder(jdbcTemplate, counterRepository);
+        inOrder.verify(jdbcTemplate).query(eq(SHARED_LOCK), any(RowCallbackHandler.class), eq("counters:project1"));
+        inOrder.verify(jdbcTemplate).query(eq(SHARED_LOCK), any(RowCallbackHandler.class), eq("counters:project2"));
+        inOrder.verify(counterRepository, times(3)).addToCount(anyString(), anyInt(), anyInt(), anyLong());
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void apply_OnlyZeroDeltas_TakesNoLock() {
+        bugCounterService.apply(Map.of(
+                new BugCounterService.CounterKey("project1", BugStatus.OPEN, BugSeverity.HIGH), 0L));
+
+        verifyNoInteractions(jdbcTemplate, counterRepository);
+    }
+
+    @Test
+    void repairAll_TakesExclusiveProjectLockBeforeRecounting() {
+        when(projectRepository.findAllIds()).thenReturn(List.of("project1"));
+
+        bugCounterService.repairAll();
+
+        InOrder inOrder = inOrder(jdbcTemplate, counterRepository);
+        inOrder.verify(jdbcTemplate).query(eq(EXCLUSIVE_LOCK), any(RowCallbackHandler.class), eq("counters:project1"));
+        inOrder.verify(counterRepository).deleteStaleCounters("project1");
+        inOrder.verify(counterRepository).recount("project1");
+        inOrder.verify(counterRepository).deleteOrphans();
+    }
+}
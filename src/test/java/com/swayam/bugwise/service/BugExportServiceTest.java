@@ -0,0 +1,166 @@
+package com.swayam.bugwise.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swayam.bugwise.enums.BugFileFormat;
+import com.swayam.bugwise.exception.UnauthorizedAccessException;
+import com.swayam.bugwise.repository.jpa.UserRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BugExportServiceTest {
+    private static final String HEADER = "id,title,description,status,severity,bugType,projectId,projectName," +
+            "reportedBy,assignedDevelopers,createdAt,updatedAt,expectedTimeHours,actualTimeHours\n";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private BugExportService bugExportService;
+
+    @BeforeEach
+    void setUp() {
+        bugExportService = new BugExportService(jdbcTemplate, transactionManager, userRepository, new ObjectMapper());
+        lenient().when(jdbcTemplate.query(eq("SELECT name FROM projects WHERE id = ?"), any(ResultSetExtractor.class), eq("project1")))
+                .thenReturn("Project One");
+        lenient().when(jdbcTemplate.query(eq("SELECT email FROM users WHERE id = ?"), any(ResultSetExtractor.class), anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(2) + "@example.com");
+    }
+
+    @Test
+    void export_Csv_QuotesFieldsWithCommasQuotesAndLineBreaks() throws Exception {
+        Map<String, Object> row = baseRow("bug1");
+        row.put("title", "Crash, on login");
+        row.put("description", "He said \"no\"\r\nthen left");
+        row.put("status", 1);
+        row.put("severity", 0);
+        row.put("bug_type", "BACKEND");
+        row.put("reported_by_id", "pm");
+        row.put("developer_ids", "dev1 dev2");
+        row.put("created_at", Timestamp.valueOf(LocalDateTime.of(2026, 1, 2, 3, 4, 5)));
+        row.put("expected_time_hours", 4);
+        stubRows(row);
+
+        String csv = export(BugFileFormat.CSV, false);
+
+        Assertions.assertEquals(HEADER +
+                "bug1,\"Crash, on login\",\"He said \"\"no\"\"\r\nthen left\",OPEN,CRITICAL,BACKEND,project1,Project One," +
+                "pm@example.com,dev1@example.com;dev2@example.com,2026-01-02T03:04:05,,4,\n", csv);
+    }
+
+    @Test
+    void export_NullOrUnknownEnumOrdinals_WrittenAsEmpty() throws Exception {
+        Map<String, Object> row = baseRow("bug2");
+        row.put("severity", 9);
+        stubRows(row);
+
+        String csv = export(BugFileFormat.CSV, false);
+
+        Assertions.assertEquals(HEADER + "bug2,,,,,,project1,Project One,,,,,,\n", csv);
+    }
+
+    @Test
+    void export_Ndjson_WritesOneObjectPerLine() throws Exception {
+        Map<String, Object> first = baseRow("bug1");
+        first.put("status", 3);
+        stubRows(first, baseRow("bug2"));
+
+        String[] lines = export(BugFileFormat.NDJSON, false).split("\n");
+
+        Assertions.assertEquals(2, lines.length);
+        Map<?, ?> parsed = new ObjectMapper().readValue(lines[0], Map.class);
+        Assertions.assertEquals("RESOLVED", parsed.get("status"));
+        Assertions.assertEquals(List.of(), parsed.get("assignedDevelopers"));
+    }
+
+    @Test
+    void export_Gzip_CompressesTheSameContent() throws Exception {
+        stubRows(baseRow("bug1"));
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        bugExportService.exportOrganizationBugs("org1", BugFileFormat.CSV, true).writeTo(compressed);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            Assertions.assertEquals(HEADER + "bug1,,,,,,project1,Project One,,,,,,\n",
+                    new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void validateExportAccess_NonMember_ThrowsUnauthorizedAccessException() {
+        when(userRepository.existsByEmailAndOrganizationsId("outsider@example.com", "org1")).thenReturn(false);
+
+        Assertions.assertThrows(UnauthorizedAccessException.class,
+                () -> bugExportService.validateExportAccess("org1", "outsider@example.com"));
+    }
+
+    private String export(BugFileFormat format, boolean gzip) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bugExportService.exportOrganizationBugs("org1", format, gzip).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, Object> baseRow(String id) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("project_id", "project1");
+        return row;
+    }
+
+    @SafeVarargs
+    private void stubRows(Map<String, Object>... rows) throws Exception {
+        List<ResultSet> resultSets = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            resultSets.add(resultSet(row));
+        }
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (ResultSet rs : resultSets) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    private static ResultSet resultSet(Map<String, Object> row) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        AtomicBoolean lastNull = new AtomicBoolean();
+        when(rs.getString(anyString())).thenAnswer(invocation -> (String) row.get(invocation.<String>getArgument(0)));
+        when(rs.getObject(anyString())).thenAnswer(invocation -> row.get(invocation.<String>getArgument(0)));
+        when(rs.getTimestamp(anyString())).thenAnswer(invocation -> row.get(invocation.<String>getArgument(0)));
+        when(rs.getInt(anyString())).thenAnswer(invocation -> {
+            Object value = row.get(invocation.<String>getArgument(0));
+            lastNull.set(value == null);
+            return value == null ? 0 : (Integer) value;
+        });
+        when(rs.wasNull()).thenAnswer(invocation -> lastNull.get());
+        return rs;
+    }
+}
@@ -0,0 +1,299 @@
+package com.swayam.bugwise.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swayam.bugwise.dto.BugImportJobDTO;
+import com.swayam.bugwise.dto.NotificationMessageDTO;
+import com.swayam.bugwise.entity.BugImportJob;
+import com.swayam.bugwise.enums.*;
+import com.swayam.bugwise.exception.UnauthorizedAccessException;
+import com.swayam.bugwise.repository.jpa.BugImportJobRepository;
+import com.swayam.bugwise.repository.jpa.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BugImportServiceTest {
+    private static final String INSERT_BUG = "INSERT INTO bugs ";
+    private static final String INSERT_HISTORY = "INSERT INTO bug_status_history ";
+    private static final String INSERT_OUTBOX = "INSERT INTO bug_index_outbox ";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BugImportJobRepository importJobRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private BugCounterService bugCounterService;
+
+    @Mock
+    private DeveloperWorkloadService developerWorkloadService;
+
+    @Mock
+    private BurndownService burndownService;
+
+    private BugImportService bugImportService;
+
+    // Statements the batch setters were applied to, per SQL prefix and per flush.
+    private final Map<String, List<List<PreparedStatement>>> batches = new HashMap<>();
+    private final List<Long> importedCountAtSave = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        bugImportService = new BugImportService(jdbcTemplate, transactionManager, userRepository,
+                importJobRepository, notificationService, bugCounterService, developerWorkloadService,
+                burndownService, new ObjectMapper(), 2);
+
+        lenient().when(userRepository.existsByEmailAndOrganizationsId("pm@example.com", "org1")).thenReturn(true);
+        lenient().when(importJobRepository.save(any(BugImportJob.class))).thenAnswer(invocation -> {
+            BugImportJob job = invocation.getArgument(0);
+            if (job.getId() == null) {
+                job.setId("job1");
+            }
+            importedCountAtSave.add(job.getImportedCount());
+            return job;
+        });
+        lenient().when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("org1")))
+                .thenReturn(List.of("project1"));
+        ResultSet pm = user("pm-id", "PM@example.com");
+        ResultSet dev = user("dev-id", "dev@example.com");
+        lenient().doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(pm);
+            handler.processRow(dev);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT u.id, u.email"), any(RowCallbackHandler.class), eq("org1"));
+        lenient().when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            Collection<Object> rows = invocation.getArgument(1);
+            ParameterizedPreparedStatementSetter<Object> setter = invocation.getArgument(3);
+            List<PreparedStatement> statements = new ArrayList<>();
+            for (Object row : rows) {
+                PreparedStatement ps = mock(PreparedStatement.class);
+                setter.setValues(ps, row);
+                statements.add(ps);
+            }
+            batches.computeIfAbsent(sql.substring(0, sql.indexOf('(')), key -> new ArrayList<>()).add(statements);
+            return new int[0][];
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        bugImportService.shutdown();
+    }
+
+    @Test
+    void startImport_Csv_ImportsValidRecordsInBatchesAndReportsRejectedOnes() throws Exception {
+        String csv = "title,description,severity,projectId,assignees,status,createdAt\n" +
+                "\"Crash, on login\",\"line one\nline two\",HIGH,project1,dev@example.com,OPEN,2026-01-02T03:04:05\n" +
+                "Bad severity,desc,URGENT,project1,,,\n" +
+                "Foreign project,desc,LOW,project2,,,\n" +
+                "Second,\"He said \"\"no\"\"\",LOW,project1,,,\r\n" +
+                "Third,desc,low,project1,,,\n";
+
+        BugImportJobDTO started = bugImportService.startImport("org1", BugFileFormat.CSV, upload(csv), "pm@example.com");
+        NotificationMessageDTO notification = awaitNotification();
+
+        Assertions.assertEquals("job1", started.getId());
+        Assertions.assertEquals(ImportJobStatus.RUNNING, started.getStatus());
+
+        // Batch boundary: two valid records fill the first batch, the remainder goes in a final one.
+        List<List<PreparedStatement>> bugBatches = batches.get(INSERT_BUG);
+        Assertions.assertEquals(List.of(2, 1), bugBatches.stream().map(List::size).toList());
+        Assertions.assertEquals(List.of(2, 1), batches.get(INSERT_HISTORY).stream().map(List::size).toList());
+        Assertions.assertEquals(List.of(2, 1), batches.get(INSERT_OUTBOX).stream().map(List::size).toList());
+
+        PreparedStatement first = bugBatches.get(0).get(0);
+        verify(first).setString(2, "Crash, on login");
+        verify(first).setString(3, "line one\nline two");
+        verify(first).setInt(4, BugStatus.OPEN.ordinal());
+        verify(first).setInt(5, BugSeverity.HIGH.ordinal());
+        verify(first).setString(8, "pm-id");
+        verify(bugBatches.get(0).get(1)).setString(3, "He said \"no\"");
+        verify(bugBatches.get(1).get(0)).setInt(4, BugStatus.NEW.ordinal());
+
+        BugImportJob job = finalJob();
+        Assertions.assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        Assertions.assertEquals(5, job.getProcessedCount());
+        Assertions.assertEquals(3, job.getImportedCount());
+        Assertions.assertEquals(2, job.getFailedCount());
+        Assertions.assertEquals(List.of(
+                "record 2: severity has unknown value URGENT",
+                "record 3: project project2 does not belong to this organization"), job.getErrors());
+        Assertions.assertNotNull(job.getFinishedAt());
+        // Progress is persisted when the job starts, after the full batch and when it finishes.
+        Assertions.assertEquals(List.of(0L, 2L, 3L), importedCountAtSave);
+
+        Assertions.assertEquals(3L, notification.getMetadata().get("imported"));
+        Assertions.assertEquals(2L, notification.getMetadata().get("failed"));
+        Assertions.assertEquals(List.of("pm@example.com"), notification.getRecipients());
+        // The back-dated record predates existing burndown snapshots.
+        verify(burndownService).resnapshotFrom(LocalDate.of(2026, 1, 2));
+    }
+
+    @Test
+    void startImport_Csv_AppliesCounterDeltasAndAssignmentsPerBatch() throws Exception {
+        String csv = "title,description,severity,projectId,assignees,status\n" +
+                "One,desc,HIGH,project1,dev@example.com;pm@example.com,OPEN\n" +
+                "Two,desc,LOW,project1,,\n" +
+                "Three,desc,LOW,project1,,\n";
+
+        bugImportService.startImport("org1", BugFileFormat.CSV, upload(csv), "pm@example.com");
+        awaitNotification();
+        verifyNoInteractions(burndownService);
+
+        ArgumentCaptor<Map<BugCounterService.CounterKey, Long>> deltas = ArgumentCaptor.forClass(Map.class);
+        verify(bugCounterService, times(2)).apply(deltas.capture());
+        Assertions.assertEquals(Map.of(
+                new BugCounterService.CounterKey("project1", BugStatus.OPEN, BugSeverity.HIGH), 1L,
+                new BugCounterService.CounterKey("project1", BugStatus.NEW, BugSeverity.LOW), 1L), deltas.getAllValues().get(0));
+        Assertions.assertEquals(Map.of(
+                new BugCounterService.CounterKey("project1", BugStatus.NEW, BugSeverity.LOW), 1L), deltas.getAllValues().get(1));
+
+        ArgumentCaptor<List<Object[]>> developerRows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO bug_developers"), developerRows.capture());
+        Assertions.assertEquals(List.of("dev-id", "pm-id"),
+                developerRows.getValue().stream().map(row -> (String) row[1]).toList());
+
+        ArgumentCaptor<Collection<String>> refreshed = ArgumentCaptor.forClass(Collection.class);
+        verify(developerWorkloadService, times(2)).refresh(refreshed.capture());
+        Assertions.assertEquals(Set.of("dev-id", "pm-id"), Set.copyOf(refreshed.getAllValues().get(0)));
+        Assertions.assertTrue(refreshed.getAllValues().get(1).isEmpty());
+
+        // Every imported bug is queued for indexing with the id it was inserted under.
+        List<PreparedStatement> inserted = batches.get(INSERT_BUG).stream().flatMap(List::stream).toList();
+        List<PreparedStatement> queued = batches.get(INSERT_OUTBOX).stream().flatMap(List::stream).toList();
+        Assertions.assertEquals(3, queued.size());
+        for (int i = 0; i < inserted.size(); i++) {
+            ArgumentCaptor<String> bugId = ArgumentCaptor.forClass(String.class);
+            verify(inserted.get(i)).setString(eq(1), bugId.capture());
+            verify(queued.get(i)).setString(1, bugId.getValue());
+        }
+    }
+
+    @Test
+    void startImport_Ndjson_RejectsMalformedLinesAndUnknownAssignees() throws Exception {
+        String ndjson = "{\"title\":\"One\",\"description\":\"desc\",\"severity\":\"MEDIUM\",\"projectId\":\"project1\"," +
+                "\"assignees\":[\"dev@example.com\"]}\n" +
+                "{not json\n" +
+                "\n" +
+                "{\"title\":\"Two\",\"description\":\"desc\",\"severity\":\"MEDIUM\",\"projectId\":\"project1\"," +
+                "\"assignees\":[\"stranger@example.com\"]}\n";
+
+        bugImportService.startImport("org1", BugFileFormat.NDJSON, upload(ndjson), "pm@example.com");
+        awaitNotification();
+
+        BugImportJob job = finalJob();
+        Assertions.assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        Assertions.assertEquals(3, job.getProcessedCount());
+        Assertions.assertEquals(1, job.getImportedCount());
+        Assertions.assertEquals(2, job.getFailedCount());
+        Assertions.assertTrue(job.getErrors().get(0).startsWith("record 2: malformed JSON"));
+        Assertions.assertEquals("record 3: assignee stranger@example.com is not a member of this organization",
+                job.getErrors().get(1));
+    }
+
+    @Test
+    void startImport_BatchInsertFails_MarksJobFailedWithImportedSoFar() throws Exception {
+        doNothing().doThrow(new IllegalStateException("counter update failed")).when(bugCounterService).apply(anyMap());
+        String csv = "title,description,severity,projectId\n" +
+                "One,desc,LOW,project1\n" +
+                "Two,desc,LOW,project1\n" +
+                "Three,desc,LOW,project1\n";
+
+        bugImportService.startImport("org1", BugFileFormat.CSV, upload(csv), "pm@example.com");
+        NotificationMessageDTO notification = awaitNotification();
+
+        BugImportJob job = finalJob();
+        Assertions.assertEquals(ImportJobStatus.FAILED, job.getStatus());
+        Assertions.assertEquals(2, job.getImportedCount());
+        Assertions.assertEquals("counter update failed", job.getErrorMessage());
+        Assertions.assertEquals("Bug Import Failed", notification.getTitle());
+    }
+
+    @Test
+    void startImport_NonMember_ThrowsUnauthorizedAccessException() {
+        Assertions.assertThrows(UnauthorizedAccessException.class, () ->
+                bugImportService.startImport("org1", BugFileFormat.CSV, upload("title\n"), "outsider@example.com"));
+
+        verifyNoInteractions(importJobRepository);
+    }
+
+    @Test
+    void getImportJob_OtherOrganization_ThrowsNoSuchElementException() {
+        when(importJobRepository.findByIdAndOrganizationId("job1", "org2")).thenReturn(Optional.empty());
+
+        Assertions.assertThrows(NoSuchElementException.class, () -> bugImportService.getImportJob("org2", "job1"));
+    }
+
+    @Test
+    void removeFinishedJobs_FailsStaleRunningJobsAndDeletesOldOnes() {
+        BugImportJob stale = new BugImportJob();
+        stale.setStatus(ImportJobStatus.RUNNING);
+        when(importJobRepository.findByStatusAndUpdatedAtBefore(eq(ImportJobStatus.RUNNING), any(LocalDateTime.class)))
+                .thenReturn(List.of(stale));
+
+        bugImportService.removeFinishedJobs();
+
+        Assertions.assertEquals(ImportJobStatus.FAILED, stale.getStatus());
+        Assertions.assertEquals("Import was interrupted", stale.getErrorMessage());
+        Assertions.assertNotNull(stale.getFinishedAt());
+        verify(importJobRepository).save(stale);
+        verify(importJobRepository).deleteByFinishedAtBefore(any(LocalDateTime.class));
+    }
+
+    private NotificationMessageDTO awaitNotification() {
+        ArgumentCaptor<NotificationMessageDTO> captor = ArgumentCaptor.forClass(NotificationMessageDTO.class);
+        verify(notificationService, timeout(5000)).sendNotification(captor.capture());
+        return captor.getValue();
+    }
+
+    private BugImportJob finalJob() {
+        ArgumentCaptor<BugImportJob> captor = ArgumentCaptor.forClass(BugImportJob.class);
+        verify(importJobRepository, atLeastOnce()).save(captor.capture());
+        return captor.getValue();
+    }
+
+    private static MockMultipartFile upload(String content) {
+        return new MockMultipartFile("file", "bugs", "text/plain", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ResultSet user(String id, String email) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        lenient().when(rs.getString("id")).thenReturn(id);
+        lenient().when(rs.getString("email")).thenReturn(email);
+        return rs;
+    }
+}
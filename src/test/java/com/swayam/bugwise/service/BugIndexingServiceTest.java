@@ -0,0 +1,96 @@
+package com.swayam.bugwise.service;
+
+import com.swayam.bugwise.entity.*;
+import com.swayam.bugwise.repository.elasticsearch.BugDocumentRepository;
+import com.swayam.bugwise.repository.jpa.BugIndexOutboxRepository;
+import com.swayam.bugwise.repository.jpa.BugRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BugIndexingServiceTest {
+
+    @Mock
+    private BugIndexOutboxRepository outboxRepository;
+
+    @Mock
+    private BugRepository bugRepository;
+
+    @Mock
+    private BugDocumentRepository bugDocumentRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BugIndexingService bugIndexingService;
+    private Bug bug;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bugIndexingService = new BugIndexingService(outboxRepository, bugRepository, bugDocumentRepository, meterRegistry, 100);
+
+        Project project = new Project();
+        project.setId("project123");
+        project.setName("Test Project");
+
+        bug = new Bug();
+        bug.setId("bug123");
+        bug.setTitle("Test Bug");
+        bug.setProject(project);
+    }
+
+    @Test
+    void drainOutbox_CoalescesRepeatedChangesIntoOneBulkRequest() {
+        List<BugIndexOutbox> entries = List.of(
+                new BugIndexOutbox("bug123"),
+                new BugIndexOutbox("bug123"),
+                new BugIndexOutbox("bug123"));
+        when(outboxRepository.lockNextBatch(100)).thenReturn(entries);
+        when(bugRepository.findAllForIndexing(anyCollection())).thenReturn(List.of(bug));
+
+        bugIndexingService.drainOutbox();
+
+        ArgumentCaptor<Collection<String>> idsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(bugRepository).findAllForIndexing(idsCaptor.capture());
+        Assertions.assertEquals(Set.of("bug123"), new HashSet<>(idsCaptor.getValue()));
+
+        ArgumentCaptor<Iterable<BugDocument>> docsCaptor = ArgumentCaptor.forClass(Iterable.class);
+        verify(bugDocumentRepository, times(1)).saveAll(docsCaptor.capture());
+        Assertions.assertEquals(1, docsCaptor.getValue().spliterator().getExactSizeIfKnown());
+        verify(bugDocumentRepository, never()).deleteAllById(any());
+        verify(outboxRepository).deleteAllInBatch(entries);
+        Assertions.assertEquals(1, meterRegistry.summary("bugwise.indexer.batch.size").count());
+    }
+
+    @Test
+    void drainOutbox_RemovesDocumentsOfDeletedBugs() {
+        List<BugIndexOutbox> entries = List.of(new BugIndexOutbox("bug123"), new BugIndexOutbox("gone456"));
+        when(outboxRepository.lockNextBatch(100)).thenReturn(entries);
+        when(bugRepository.findAllForIndexing(anyCollection())).thenReturn(List.of(bug));
+
+        bugIndexingService.drainOutbox();
+
+        verify(bugDocumentRepository).deleteAllById(Set.of("gone456"));
+        verify(outboxRepository).deleteAllInBatch(entries);
+    }
+
+    @Test
+    void drainOutbox_EmptyOutbox_DoesNothing() {
+        when(outboxRepository.lockNextBatch(100)).thenReturn(List.of());
+
+        bugIndexingService.drainOutbox();
+
+        verifyNoInteractions(bugRepository, bugDocumentRepository);
+        Assertions.assertEquals(0.0, meterRegistry.get("bugwise.indexer.lag").gauge().value());
+    }
+}
@@ -0,0 +1,113 @@
+package com.swayam.bugwise.service;
+
+import com.swayam.bugwise.enums.BugSeverity;
+import com.swayam.bugwise.enums.BugStatus;
+import com.swayam.bugwise.exception.ValidationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BugPatchServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private BugIndexingService bugIndexingService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private DuplicateBugDetector duplicateBugDetector;
+
+    @Mock
+    private BugCounterService bugCounterService;
+
+    @Mock
+    private DeveloperWorkloadService developerWorkloadService;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @InjectMocks
+    private BugPatchService bugPatchService;
+
+    @Test
+    void patchBug_UnknownField_ThrowsValidationException() {
+        ValidationException exception = Assertions.assertThrows(ValidationException.class,
+                () -> bugPatchService.patchBug("bug123", Map.of("status", "CLOSED"), "dev@example.com"));
+
+        Assertions.assertTrue(exception.getErrors().containsKey("status"));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void patchBug_RemovingRequiredField_ThrowsValidationException() {
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("actualTimeHours", 4);
+        patch.put("title", null);
+
+        Assertions.assertThrows(ValidationException.class,
+                () -> bugPatchService.patchBug("bug123", patch, "dev@example.com"));
+        verifyNoInteractions(jdbcTemplate, notificationService);
+    }
+
+    @Test
+    void patchBug_NotManagerAssigneeOrOrganizationAdmin_ThrowsValidationException() {
+        when(jdbcTemplate.queryForObject(contains("o.admin_id"), eq(Boolean.class), any(Object[].class))).thenReturn(false);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COUNT(*)"), eq(Integer.class), any(Object[].class))).thenReturn(1);
+
+        Assertions.assertThrows(ValidationException.class,
+                () -> bugPatchService.patchBug("bug123", Map.of("actualTimeHours", 4), "admin@example.com"));
+        verify(jdbcTemplate).queryForObject(contains("o.admin_id"), eq(Boolean.class),
+                eq("bug123"), eq("admin@example.com"), eq("admin@example.com"), eq("bug123"), eq("admin@example.com"));
+        verifyNoInteractions(notificationService, bugCounterService);
+    }
+
+    @Test
+    void patchBug_StoredSeverityIsNull_CountsOnlyTheNewSeverity() throws Exception {
+        when(cacheManager.getCache("bugs")).thenReturn(cache);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any(Object[].class))).thenReturn(true);
+        ResultSet severityRow = mock(ResultSet.class);
+        when(severityRow.next()).thenReturn(true);
+        when(severityRow.getInt(1)).thenReturn(0);
+        when(severityRow.wasNull()).thenReturn(true);
+        when(jdbcTemplate.query(startsWith("SELECT severity"), any(ResultSetExtractor.class), eq("bug123")))
+                .thenAnswer(invocation -> ((ResultSetExtractor<?>) invocation.getArgument(1)).extractData(severityRow));
+        ResultSet updatedRow = mock(ResultSet.class);
+        when(updatedRow.getString("project_id")).thenReturn("project1");
+        when(updatedRow.getInt("status")).thenReturn(BugStatus.OPEN.ordinal());
+        when(updatedRow.getString("title")).thenReturn("Crash on login");
+        when(jdbcTemplate.queryForObject(startsWith("UPDATE bugs"), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(invocation -> ((RowMapper<?>) invocation.getArgument(1)).mapRow(updatedRow, 0));
+
+        bugPatchService.patchBug("bug123", Map.of("severity", "HIGH"), "dev@example.com");
+
+        verify(bugCounterService).severityChanged("project1", BugStatus.OPEN, null, BugSeverity.HIGH);
+        verify(cache).evict("bug123");
+    }
+}
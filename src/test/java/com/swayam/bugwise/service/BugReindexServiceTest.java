@@ -0,0 +1,180 @@
+package com.swayam.bugwise.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import com.swayam.bugwise.entity.Bug;
+import com.swayam.bugwise.entity.Project;
+import com.swayam.bugwise.entity.ReindexJob;
+import com.swayam.bugwise.enums.ReindexJobStatus;
+import com.swayam.bugwise.exception.ValidationException;
+import com.swayam.bugwise.repository.jpa.BugRepository;
+import com.swayam.bugwise.repository.jpa.ReindexJobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.AliasData;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BugReindexServiceTest {
+    private static final String TARGET_INDEX = "bugs_v20260101000000";
+
+    @Mock
+    private BugRepository bugRepository;
+
+    @Mock
+    private ReindexJobRepository reindexJobRepository;
+
+    @Mock
+    private BugIndexingService bugIndexingService;
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ElasticsearchClient elasticsearchClient;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private IndexOperations targetOps;
+
+    @Mock
+    private IndexOperations aliasOps;
+
+    private BugReindexService bugReindexService;
+    private ReindexJob job;
+
+    @BeforeEach
+    void setUp() {
+        bugReindexService = new BugReindexService(bugRepository, reindexJobRepository, bugIndexingService,
+                elasticsearchOperations, elasticsearchClient, transactionManager, new SimpleMeterRegistry(), 1, 2, "1");
+
+        job = new ReindexJob();
+        job.setId("job1");
+        job.setTargetIndex(TARGET_INDEX);
+        job.setStatus(ReindexJobStatus.FAILED);
+        job.setStartedAt(LocalDateTime.now().minusMinutes(10));
+
+        when(reindexJobRepository.findById("job1")).thenReturn(Optional.of(job));
+        lenient().when(reindexJobRepository.save(any(ReindexJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(elasticsearchOperations.indexOps(any(IndexCoordinates.class))).thenAnswer(invocation ->
+                BugReindexService.BUGS_ALIAS.equals(invocation.<IndexCoordinates>getArgument(0).getIndexName())
+                        ? aliasOps : targetOps);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bugReindexService.shutdown();
+    }
+
+    @Test
+    void resumeReindex_ContinuesFromCheckpoint() {
+        job.setLastBugId("bug2");
+        job.setIndexedCount(2);
+        when(bugRepository.findIdsAfter("bug2", 2)).thenReturn(List.of("bug3", "bug4"));
+        when(bugRepository.findIdsAfter("bug4", 2)).thenReturn(List.of());
+        when(bugRepository.findAllForIndexing(List.of("bug3", "bug4"))).thenReturn(List.of(bug("bug3"), bug("bug4")));
+        when(targetOps.getAliases(BugReindexService.BUGS_ALIAS)).thenReturn(Map.of("bugs_v1", Set.of()));
+
+        bugReindexService.resumeReindex("job1");
+
+        awaitStatus(ReindexJobStatus.COMPLETED);
+        verify(bugRepository, never()).findIdsAfter(eq(""), anyInt());
+        verify(elasticsearchOperations).save(anyList(), any(IndexCoordinates.class));
+        Assertions.assertEquals("bug4", job.getLastBugId());
+        Assertions.assertEquals(4, job.getIndexedCount());
+    }
+
+    @Test
+    void resumeReindex_FirstRun_ReplacesConcreteIndexWithAlias() {
+        when(bugRepository.findIdsAfter("", 2)).thenReturn(List.of());
+        when(targetOps.getAliases(BugReindexService.BUGS_ALIAS)).thenThrow(new RuntimeException("no such alias"));
+        when(aliasOps.exists()).thenReturn(true);
+
+        bugReindexService.resumeReindex("job1");
+
+        awaitStatus(ReindexJobStatus.COMPLETED);
+        List<AliasAction> actions = capturedAliasActions();
+        Assertions.assertEquals(2, actions.size());
+        Assertions.assertInstanceOf(AliasAction.Add.class, actions.get(0));
+        Assertions.assertInstanceOf(AliasAction.RemoveIndex.class, actions.get(1));
+        Assertions.assertArrayEquals(new String[]{BugReindexService.BUGS_ALIAS}, actions.get(1).getParameters().getIndices());
+    }
+
+    @Test
+    void resumeReindex_LaterRun_MovesAliasOffPreviousIndex() {
+        when(bugRepository.findIdsAfter("", 2)).thenReturn(List.of());
+        Map<String, Set<AliasData>> current = Map.of("bugs_v1", Set.of());
+        when(targetOps.getAliases(BugReindexService.BUGS_ALIAS)).thenReturn(current);
+
+        bugReindexService.resumeReindex("job1");
+
+        awaitStatus(ReindexJobStatus.COMPLETED);
+        List<AliasAction> actions = capturedAliasActions();
+        Assertions.assertEquals(2, actions.size());
+        Assertions.assertInstanceOf(AliasAction.Add.class, actions.get(0));
+        Assertions.assertInstanceOf(AliasAction.Remove.class, actions.get(1));
+        Assertions.assertArrayEquals(new String[]{"bugs_v1"}, actions.get(1).getParameters().getIndices());
+        verify(aliasOps, never()).exists();
+    }
+
+    @Test
+    void resumeReindex_ReplaysBugsChangedWhileRunning() {
+        when(bugRepository.findIdsAfter("", 2)).thenReturn(List.of());
+        when(targetOps.getAliases(BugReindexService.BUGS_ALIAS)).thenReturn(Map.of("bugs_v1", Set.of()));
+        when(bugRepository.findIdsUpdatedSince(job.getStartedAt())).thenReturn(List.of("bug9"));
+
+        bugReindexService.resumeReindex("job1");
+
+        verify(bugIndexingService, timeout(5000)).enqueueAll(List.of("bug9"));
+        Assertions.assertEquals(ReindexJobStatus.COMPLETED, job.getStatus());
+    }
+
+    @Test
+    void resumeReindex_CompletedJob_ThrowsValidationException() {
+        job.setStatus(ReindexJobStatus.COMPLETED);
+
+        Assertions.assertThrows(ValidationException.class, () -> bugReindexService.resumeReindex("job1"));
+        verify(reindexJobRepository, never()).save(any());
+    }
+
+    private void awaitStatus(ReindexJobStatus status) {
+        verify(reindexJobRepository, timeout(5000).atLeastOnce())
+                .save(argThat(saved -> saved.getStatus() == status));
+    }
+
+    private List<AliasAction> capturedAliasActions() {
+        ArgumentCaptor<AliasActions> captor = ArgumentCaptor.forClass(AliasActions.class);
+        verify(targetOps).alias(captor.capture());
+        return captor.getValue().getActions();
+    }
+
+    private static Bug bug(String id) {
+        Project project = new Project();
+        project.setId("project1");
+        Bug bug = new Bug();
+        bug.setId(id);
+        bug.setTitle("Bug " + id);
+        bug.setProject(project);
+        return bug;
+    }
+}
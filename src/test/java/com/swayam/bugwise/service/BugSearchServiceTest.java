@@ -0,0 +1,108 @@
+package com.swayam.bugwise.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swayam.bugwise.dto.BugSearchPageDTO;
+import com.swayam.bugwise.entity.Bug;
+import com.swayam.bugwise.entity.Project;
+import com.swayam.bugwise.exception.ValidationException;
+import com.swayam.bugwise.repository.jpa.BugRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BugSearchServiceTest {
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private BugRepository bugRepository;
+
+    private BugSearchService bugSearchService;
+    private Bug bug;
+
+    @BeforeEach
+    void setUp() {
+        bugSearchService = new BugSearchService(elasticsearchOperations, bugRepository, new ObjectMapper());
+
+        Project project = new Project();
+        project.setId("project123");
+        project.setName("Test Project");
+
+        bug = new Bug();
+        bug.setId("bug123");
+        bug.setTitle("Login fails");
+        bug.setProject(project);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void search_UnindexedSortField_FallsBackToDatabase() {
+        when(bugRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(bug), PageRequest.of(0, 1), 2));
+
+        BugSearchPageDTO result = bugSearchService.search(
+                "project123", "login", null, null, "title", Sort.Direction.ASC, null, 1);
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(bugRepository).findAll(any(Specification.class), pageableCaptor.capture());
+        Assertions.assertEquals(Sort.Direction.ASC, pageableCaptor.getValue().getSort().getOrderFor("title").getDirection());
+        verifyNoInteractions(elasticsearchOperations);
+
+        Assertions.assertEquals("database", result.getServedBy());
+        Assertions.assertEquals(2, result.getTotalHits());
+        Assertions.assertTrue(result.isHasNext());
+        Assertions.assertEquals("bug123", result.getHits().get(0).getBug().getId());
+
+        bugSearchService.search("project123", "login", null, null, "title", Sort.Direction.ASC, result.getNextCursor(), 1);
+        verify(bugRepository, times(2)).findAll(any(Specification.class), pageableCaptor.capture());
+        Assertions.assertEquals(1, pageableCaptor.getValue().getPageNumber());
+    }
+
+    @Test
+    void search_UnknownSortField_ThrowsValidationException() {
+        Assertions.assertThrows(ValidationException.class, () -> bugSearchService.search(
+                "project123", "login", null, null, "reportedBy", Sort.Direction.DESC, null, 10));
+        verifyNoInteractions(elasticsearchOperations, bugRepository);
+    }
+
+    @Test
+    void search_MalformedCursor_ThrowsValidationException() {
+        Assertions.assertThrows(ValidationException.class, () -> bugSearchService.search(
+                "project123", "login", null, null, "createdAt", Sort.Direction.DESC, "not-a-cursor", 10));
+    }
+
+    @Test
+    void search_IndexCursorOnDatabaseSort_ThrowsValidationException() {
+        String indexCursor = Base64.getUrlEncoder().encodeToString(
+                "[1700000000000,\"bug123\"]".getBytes(StandardCharsets.UTF_8));
+
+        Assertions.assertThrows(ValidationException.class, () -> bugSearchService.search(
+                "project123", "login", null, null, "title", Sort.Direction.ASC, indexCursor, 10));
+        verifyNoInteractions(bugRepository);
+    }
+
+    @Test
+    void suggestTitles_BlankPrefix_SkipsIndex() {
+        Assertions.assertTrue(bugSearchService.suggestTitles("project123", "  ", 8).isEmpty());
+        verifyNoInteractions(elasticsearchOperations);
+    }
+}
@@ -3,8 +3,8 @@ package com.swayam.bugwise.service;
 import com.swayam.bugwise.dto.*;
 import com.swayam.bugwise.entity.*;
 import com.swayam.bugwise.enums.*;
+import com.swayam.bugwise.exception.ConflictException;
 import com.swayam.bugwise.exception.ValidationException;
-import com.swayam.bugwise.repository.elasticsearch.BugDocumentRepository;
 import com.swayam.bugwise.repository.jpa.BugRepository;
 import com.swayam.bugwise.repository.jpa.ProjectRepository;
 import com.swayam.bugwise.repository.jpa.UserRepository;
@@ -26,6 +26,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import java.util.*;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,7 +45,19 @@ public class BugServiceTest {
     private NotificationService notificationService;
 
     @Mock
-    BugDocumentRepository bugDocumentRepository;
+    private BugIndexingService bugIndexingService;
+
+    @Mock
+    private DuplicateBugDetector duplicateBugDetector;
+
+    @Mock
+    private BugCounterService bugCounterService;
+
+    @Mock
+    private DeveloperWorkloadService developerWorkloadService;
+
+    @Mock
+    private BugStatusHistoryService bugStatusHistoryService;
 
     @Mock
     private Pageable pageable;
@@ -140,16 +153,64 @@ public class BugServiceTest {
         Assertions.assertEquals("Test Bug", result.getTitle());
         Assertions.assertEquals(BugStatus.NEW, result.getStatus());
         verify(bugRepository, times(1)).save(any(Bug.class));
+        verify(bugIndexingService, times(1)).enqueue("bug123");
         verify(notificationService, times(1)).sendNotification(any());
     }
 
+    @Test
+    void createBug_BlockPolicy_DuplicateFound_ThrowsException() {
+        when(userRepository.findByEmail(any()))
+                .thenReturn(Optional.of(user));
+        when(projectRepository.findById(bugRequest.getProjectId()))
+                .thenReturn(Optional.of(project));
+        when(duplicateBugDetector.findDuplicates(eq("project123"), anyLong()))
+                .thenReturn(List.of(new DuplicateCandidateDTO("bug999", 1)));
+        bugRequest.setDuplicatePolicy(DuplicatePolicy.BLOCK);
+
+        ValidationException exception = Assertions.assertThrows(ValidationException.class,
+                () -> bugService.createBug(bugRequest, "test@gmail.com"));
+
+        Assertions.assertEquals("bug999", exception.getErrors().get("duplicates"));
+        verify(bugRepository, never()).save(any(Bug.class));
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void createBug_LinkPolicy_DuplicateFound_LinksWithoutNotifying() {
+        when(userRepository.findByEmail(any()))
+                .thenReturn(Optional.of(user));
+        when(projectRepository.findById(bugRequest.getProjectId()))
+                .thenReturn(Optional.of(project));
+        when(duplicateBugDetector.findDuplicates(eq("project123"), anyLong()))
+                .thenReturn(List.of(new DuplicateCandidateDTO("bug999", 1)));
+        when(bugRepository.save(any(Bug.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        bugRequest.setDuplicatePolicy(DuplicatePolicy.LINK);
+
+        Bug result = bugService.createBug(bugRequest, "test@gmail.com");
+
+        Assertions.assertEquals("bug999", result.getDuplicateOfId());
+        verifyNoInteractions(notificationService);
+    }
+
     @Test
     void getBug_Success() {
-        when(bugRepository.findById("bug123"))
-                .thenReturn(Optional.of(bug));
+        BugDetailsProjection row = new BugDetailsProjection(
+                "bug123", "Test Bug", "Test Description", BugStatus.NEW, BugType.BACKEND, BugSeverity.MEDIUM,
+                null, null, 3, 5,
+                "project123", "Test Project", "Test Description",
+                "org123", "Test Org",
+                "pm123", "pm@gmail.com",
+                "user123", UserRole.DEVELOPER, "test@gmail.com", "Test", "User",
+                "user123", UserRole.DEVELOPER, "test@gmail.com", "Test", "User");
+        when(bugRepository.findBugDetailsById(eq("bug123"), any(Pageable.class)))
+                .thenReturn(List.of(row));
 
         BugDTO result = bugService.getBug("bug123");
 
+        verify(bugRepository, times(1)).findBugDetailsById(eq("bug123"), any(Pageable.class));
+        verifyNoMoreInteractions(bugRepository);
+
         Assertions.assertNotNull(result);
         Assertions.assertEquals("bug123", result.getId());
         Assertions.assertEquals("Test Bug", result.getTitle());
@@ -159,6 +220,15 @@ public class BugServiceTest {
         Assertions.assertEquals(BugType.BACKEND, result.getBugType());
         Assertions.assertEquals(5, result.getExpectedTimeHours());
         Assertions.assertEquals(3, result.getActualTimeHours());
+        Assertions.assertEquals("test@gmail.com", result.getAssignedDeveloper().getEmail());
+    }
+
+    @Test
+    void getBug_NotFound() {
+        when(bugRepository.findBugDetailsById(eq("missing"), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        Assertions.assertThrows(NoSuchElementException.class, () -> bugService.getBug("missing"));
     }
 
     @Test
@@ -175,7 +245,6 @@ public class BugServiceTest {
                 .thenReturn(bug);
         when(userRepository.findByEmail(any()))
                 .thenReturn(Optional.of(projectManager));
-        when(bugDocumentRepository.save(any(BugDocument.class))).thenReturn(new BugDocument());
 
         bugRequest.setTitle("Updated Title");
         bugRequest.setDescription("Updated Description");
@@ -188,7 +257,7 @@ public class BugServiceTest {
         Assertions.assertEquals("Updated Description", result.getDescription());
         Assertions.assertEquals(BugSeverity.HIGH, result.getSeverity());
         verify(bugRepository, times(1)).save(any(Bug.class));
-        verify(bugDocumentRepository, times(1)).save(any(BugDocument.class));
+        verify(bugIndexingService, times(1)).enqueue("bug123");
         verify(notificationService, times(1)).sendNotification(any());
     }
 
@@ -196,17 +265,34 @@ public class BugServiceTest {
     void updateBugStatus_Success() {
         when(bugRepository.findById("bug123"))
                 .thenReturn(Optional.of(bug));
-        when(bugRepository.save(any(Bug.class)))
-                .thenReturn(bug);
+        when(bugRepository.compareAndSetStatus(eq("bug123"), eq(BugStatus.NEW), any(), eq(BugStatus.OPEN), any(), eq("test@gmail.com")))
+                .thenAnswer(invocation -> {
+                    bug.setStatus(BugStatus.OPEN);
+                    return 1;
+                });
 
         BugDTO result = bugService.updateBugStatus("bug123", BugStatus.OPEN, "test@gmail.com");
 
         Assertions.assertNotNull(result);
         Assertions.assertEquals(BugStatus.OPEN, result.getStatus());
-        verify(bugRepository, times(1)).save(any(Bug.class));
+        verify(bugRepository, never()).save(any(Bug.class));
         verify(notificationService, times(1)).sendNotification(any());
     }
 
+    @Test
+    void updateBugStatus_ConcurrentModification_RetriesThenThrowsConflict() {
+        when(bugRepository.findById("bug123"))
+                .thenReturn(Optional.of(bug));
+        when(bugRepository.compareAndSetStatus(any(), any(), any(), any(), any(), any()))
+                .thenReturn(0);
+
+        Assertions.assertThrows(ConflictException.class, () -> {
+            bugService.updateBugStatus("bug123", BugStatus.OPEN, "test@gmail.com");
+        });
+        verify(bugRepository, times(3)).compareAndSetStatus(any(), any(), any(), any(), any(), any());
+        verify(notificationService, never()).sendNotification(any());
+    }
+
     @Test
     void assignBugToDevelopers_Success() {
         User developer2 = new User();
@@ -232,7 +318,7 @@ public class BugServiceTest {
     @Test
     void getBugStatistics_Success() {
         BugStatisticsDTO stats = new BugStatisticsDTO(BugStatus.NEW, 5L);
-        when(bugRepository.getBugStatisticsByProject("project123")).thenReturn(List.of(stats));
+        when(bugCounterService.getStatistics("project123")).thenReturn(List.of(stats));
 
         List<BugStatisticsDTO> result = bugService.getBugStatistics("project123");
 
@@ -264,9 +350,10 @@ public class BugServiceTest {
         admin.setRole(UserRole.ADMIN);
         admin.setOrganizations(Set.of(organization));
 
-        Page<Bug> bugPage = new PageImpl<>(Collections.singletonList(bug));
+        Page<String> idPage = new PageImpl<>(Collections.singletonList("bug123"));
         when(userRepository.findByEmail("admin@gmail.com")).thenReturn(Optional.of(admin));
-        when(bugRepository.findByProjectOrganizationIdIn(anySet(), any(Pageable.class))).thenReturn(bugPage);
+        when(bugRepository.findIdsByProjectOrganizationIdIn(anySet(), any(Pageable.class))).thenReturn(idPage);
+        when(bugRepository.findAllWithProjectByIdIn(List.of("bug123"))).thenReturn(List.of(bug));
 
         Page<BugDTO> result = bugService.getBugsForUser("admin@gmail.com", pageable);
 
@@ -275,11 +362,41 @@ public class BugServiceTest {
         Assertions.assertEquals("Test Bug", result.getContent().get(0).getTitle());
     }
 
+    @Test
+    void getBugsInProject_ReturnsCursorForNextPage() {
+        Bug older = new Bug();
+        older.setId("bug456");
+        older.setTitle("Older Bug");
+        older.setProject(project);
+        bug.setCreatedAt(java.time.LocalDateTime.of(2024, 5, 1, 10, 0));
+
+        when(bugRepository.findIdPageByProjectIds(eq(Set.of("project123")), any(), eq(""), eq(2)))
+                .thenReturn(List.of("bug123", "bug456"));
+        when(bugRepository.findAllWithProjectByIdIn(List.of("bug123"))).thenReturn(List.of(bug));
+
+        CursorPageDTO<BugDTO> result = bugService.getBugsInProject("project123", null, 1);
+
+        Assertions.assertTrue(result.isHasNext());
+        Assertions.assertEquals(1, result.getContent().size());
+        Assertions.assertEquals("bug123", result.getContent().get(0).getId());
+        Assertions.assertNotNull(result.getNextCursor());
+
+        when(bugRepository.findIdPageByProjectIds(eq(Set.of("project123")), eq(bug.getCreatedAt()), eq("bug123"), eq(2)))
+                .thenReturn(List.of("bug456"));
+        when(bugRepository.findAllWithProjectByIdIn(List.of("bug456"))).thenReturn(List.of(older));
+
+        CursorPageDTO<BugDTO> next = bugService.getBugsInProject("project123", result.getNextCursor(), 1);
+
+        Assertions.assertFalse(next.isHasNext());
+        Assertions.assertNull(next.getNextCursor());
+        Assertions.assertEquals("bug456", next.getContent().get(0).getId());
+    }
+
     @Test
     void getBugStatisticsForUser_Developer_Success() {
         BugStatisticsDTO stats = new BugStatisticsDTO(BugStatus.NEW, 3L);
         when(userRepository.findByEmail("dev@gmail.com")).thenReturn(Optional.of(user));
-        when(bugRepository.findBugStatisticsByProjectIdIn(anySet())).thenReturn(List.of(stats));
+        when(bugCounterService.getStatistics(anySet())).thenReturn(List.of(stats));
 
         List<BugStatisticsDTO> result = bugService.getBugStatisticsForUser("dev@gmail.com");
 
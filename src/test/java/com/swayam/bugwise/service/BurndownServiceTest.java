@@ -0,0 +1,234 @@
+package com.swayam.bugwise.service;
+
+import com.swayam.bugwise.entity.ProjectBugCounter;
+import com.swayam.bugwise.entity.ProjectDailySnapshot;
+import com.swayam.bugwise.enums.BugSeverity;
+import com.swayam.bugwise.enums.BugStatus;
+import com.swayam.bugwise.exception.UnauthorizedAccessException;
+import com.swayam.bugwise.repository.jpa.ProjectBugCounterRepository;
+import com.swayam.bugwise.repository.jpa.ProjectDailySnapshotRepository;
+import com.swayam.bugwise.repository.jpa.ProjectRepository;
+import com.swayam.bugwise.repository.jpa.UserRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BurndownServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ProjectDailySnapshotRepository snapshotRepository;
+
+    @Mock
+    private ProjectBugCounterRepository counterRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Connection connection;
+
+    private BurndownService burndownService;
+
+    @BeforeEach
+    void setUp() {
+        burndownService = new BurndownService(jdbcTemplate, snapshotRepository, counterRepository,
+                userRepository, projectRepository, transactionManager);
+    }
+
+    @Test
+    void captureSnapshots_DerivesEachDayFromCountersMinusLaterTransitions() throws Exception {
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
+        LocalDate dayBefore = yesterday.minusDays(1);
+        stubLock(true);
+        when(snapshotRepository.findLastDay()).thenReturn(dayBefore.minusDays(1));
+        when(counterRepository.findAll()).thenReturn(List.of(
+                new ProjectBugCounter("project1", BugStatus.OPEN, BugSeverity.HIGH, 7),
+                new ProjectBugCounter("project1", BugStatus.NEW, BugSeverity.LOW, 1),
+                new ProjectBugCounter("project1", BugStatus.CLOSED, BugSeverity.HIGH, 4)
+        ));
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(transitionRow("project1", today, BugStatus.NEW, BugStatus.OPEN, BugSeverity.HIGH, 2));
+            handler.processRow(transitionRow("project1", yesterday, null, BugStatus.NEW, BugSeverity.LOW, 1));
+            handler.processRow(transitionRow("project1", yesterday, BugStatus.OPEN, BugStatus.CLOSED, BugSeverity.HIGH, 1));
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(Timestamp.valueOf(yesterday.atStartOfDay())));
+
+        burndownService.captureSnapshots();
+
+        verify(snapshotRepository).deleteByDay(yesterday);
+        verify(snapshotRepository).deleteByDay(dayBefore);
+        List<ProjectDailySnapshot> snapshots = savedSnapshots(2);
+
+        ProjectDailySnapshot last = snapshots.get(0);
+        Assertions.assertEquals(yesterday, last.getDay());
+        Assertions.assertEquals(3, last.getNewCount());
+        Assertions.assertEquals(5, last.getOpenCount());
+        Assertions.assertEquals(4, last.getClosedCount());
+        Assertions.assertEquals(7, last.getOpenHigh());
+        Assertions.assertEquals(1, last.getOpenLow());
+
+        // The severity mix of a caught-up day follows that day's transitions, not today's counters.
+        ProjectDailySnapshot first = snapshots.get(1);
+        Assertions.assertEquals(dayBefore, first.getDay());
+        Assertions.assertEquals(2, first.getNewCount());
+        Assertions.assertEquals(6, first.getOpenCount());
+        Assertions.assertEquals(3, first.getClosedCount());
+        Assertions.assertEquals(8, first.getOpenHigh());
+        Assertions.assertEquals(0, first.getOpenLow());
+        verify(connection).prepareStatement("SELECT pg_advisory_unlock(hashtext(?))");
+    }
+
+    @Test
+    void captureSnapshots_TransitionsOfBugsWithoutSeverity_AreNotUndone() throws Exception {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate dayBefore = yesterday.minusDays(1);
+        stubLock(true);
+        when(snapshotRepository.findLastDay()).thenReturn(dayBefore.minusDays(1));
+        when(counterRepository.findAll()).thenReturn(List.of(
+                new ProjectBugCounter("project1", BugStatus.OPEN, BugSeverity.HIGH, 2)
+        ));
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(transitionRow("project1", yesterday, BugStatus.OPEN, BugStatus.CLOSED, null, 3));
+            handler.processRow(transitionRow("project1", yesterday, null, BugStatus.NEW, null, 1));
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(Timestamp.valueOf(yesterday.atStartOfDay())));
+
+        burndownService.captureSnapshots();
+
+        for (ProjectDailySnapshot snapshot : savedSnapshots(2)) {
+            Assertions.assertEquals(2, snapshot.getOpenCount());
+            Assertions.assertEquals(0, snapshot.getClosedCount());
+            Assertions.assertEquals(0, snapshot.getNewCount());
+            Assertions.assertEquals(2, snapshot.getOpenHigh());
+        }
+    }
+
+    @Test
+    void captureSnapshots_LockHeldByAnotherNode_WritesNothing() throws Exception {
+        stubLock(false);
+
+        burndownService.captureSnapshots();
+
+        verifyNoInteractions(snapshotRepository, counterRepository);
+        verify(connection, never()).prepareStatement("SELECT pg_advisory_unlock(hashtext(?))");
+    }
+
+    @Test
+    void resnapshotFrom_RewritesExistingDaysFromTheEarliestAffectedOne() throws Exception {
+        LocalDate firstDay = LocalDate.now().minusDays(10);
+        LocalDate lastDay = LocalDate.now().minusDays(1);
+        stubLock(true);
+        when(snapshotRepository.findFirstDay()).thenReturn(firstDay);
+        when(snapshotRepository.findLastDay()).thenReturn(lastDay);
+
+        burndownService.resnapshotFrom(lastDay.minusDays(2));
+
+        verify(connection).prepareStatement("SELECT pg_advisory_lock(hashtext(?))");
+        verify(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class),
+                eq(Timestamp.valueOf(lastDay.minusDays(1).atStartOfDay())));
+        verify(snapshotRepository).deleteByDay(lastDay);
+        verify(snapshotRepository).deleteByDay(lastDay.minusDays(1));
+        verify(snapshotRepository).deleteByDay(lastDay.minusDays(2));
+        verify(snapshotRepository, times(3)).saveAll(anyList());
+    }
+
+    @Test
+    void resnapshotFrom_DayBeforeFirstSnapshot_StartsAtFirstSnapshot() throws Exception {
+        LocalDate day = LocalDate.now().minusDays(1);
+        stubLock(true);
+        when(snapshotRepository.findFirstDay()).thenReturn(day);
+        when(snapshotRepository.findLastDay()).thenReturn(day);
+
+        burndownService.resnapshotFrom(day.minusYears(3));
+
+        verify(snapshotRepository).deleteByDay(day);
+        verify(snapshotRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void getOrganizationBurndown_NotMember_ThrowsUnauthorized() {
+        LocalDate today = LocalDate.now();
+        when(userRepository.existsByEmailAndOrganizationsId("user@example.com", "org1")).thenReturn(false);
+
+        Assertions.assertThrows(UnauthorizedAccessException.class, () ->
+                burndownService.getOrganizationBurndown("org1", today.minusDays(30), today, "user@example.com"));
+        verifyNoInteractions(snapshotRepository);
+    }
+
+    @Test
+    void getProjectBurndown_NoProjectAccess_ThrowsUnauthorized() {
+        LocalDate today = LocalDate.now();
+        when(projectRepository.hasAccess("project1", "user@example.com")).thenReturn(false);
+
+        Assertions.assertThrows(UnauthorizedAccessException.class, () ->
+                burndownService.getProjectBurndown("project1", today.minusDays(30), today, "user@example.com"));
+        verifyNoInteractions(snapshotRepository);
+    }
+
+    private void stubLock(boolean acquired) throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet result = mock(ResultSet.class);
+        lenient().when(connection.prepareStatement(anyString())).thenReturn(statement);
+        lenient().when(statement.executeQuery()).thenReturn(result);
+        lenient().when(result.next()).thenReturn(true);
+        lenient().when(result.getBoolean(1)).thenReturn(acquired);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenAnswer(invocation -> ((ConnectionCallback<?>) invocation.getArgument(0)).doInConnection(connection));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ProjectDailySnapshot> savedSnapshots(int days) {
+        ArgumentCaptor<Iterable<ProjectDailySnapshot>> saved = ArgumentCaptor.forClass(Iterable.class);
+        verify(snapshotRepository, times(days)).saveAll(saved.capture());
+        List<ProjectDailySnapshot> snapshots = new ArrayList<>();
+        saved.getAllValues().forEach(batch -> batch.forEach(snapshots::add));
+        return snapshots;
+    }
+
+    private static ResultSet transitionRow(String projectId, LocalDate day, BugStatus from, BugStatus to,
+                                           BugSeverity severity, long transitions) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("project_id")).thenReturn(projectId);
+        when(rs.getDate("day")).thenReturn(Date.valueOf(day));
+        when(rs.getLong("transitions")).thenReturn(transitions);
+        when(rs.getInt("from_status")).thenReturn(from != null ? from.ordinal() : 0);
+        when(rs.getInt("severity")).thenReturn(severity != null ? severity.ordinal() : 0);
+        when(rs.wasNull()).thenReturn(from == null, severity == null);
+        when(rs.getInt("to_status")).thenReturn(to.ordinal());
+        return rs;
+    }
+}
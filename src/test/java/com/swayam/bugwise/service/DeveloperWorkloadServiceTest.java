@@ -0,0 +1,96 @@
+package com.swayam.bugwise.service;
+
+import com.swayam.bugwise.dto.DeveloperWorkloadDTO;
+import com.swayam.bugwise.entity.DeveloperWorkload;
+import com.swayam.bugwise.entity.User;
+import com.swayam.bugwise.enums.BugSeverity;
+import com.swayam.bugwise.enums.UserRole;
+import com.swayam.bugwise.exception.UnauthorizedAccessException;
+import com.swayam.bugwise.repository.jpa.DeveloperWorkloadRepository;
+import com.swayam.bugwise.repository.jpa.ProjectRepository;
+import com.swayam.bugwise.repository.jpa.UserRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DeveloperWorkloadServiceTest {
+
+    @Mock
+    private DeveloperWorkloadRepository workloadRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DeveloperWorkloadService developerWorkloadService;
+
+    @BeforeEach
+    void setUp() {
+        developerWorkloadService = new DeveloperWorkloadService(workloadRepository, userRepository, projectRepository, jdbcTemplate,
+                transactionManager);
+    }
+
+    @Test
+    void getTeamWorkload_ReadsAllDevelopersInOneQuery() {
+        when(projectRepository.hasAccess("project1", "pm@example.com")).thenReturn(true);
+        when(userRepository.findByAssignedProjectsIdAndRole("project1", UserRole.DEVELOPER))
+                .thenReturn(List.of(developer("dev1"), developer("dev2")));
+        when(workloadRepository.findByDeveloperIdIn(List.of("dev1", "dev2"))).thenReturn(List.of(
+                new DeveloperWorkload("dev2", BugSeverity.CRITICAL, 1),
+                new DeveloperWorkload("dev2", BugSeverity.LOW, 3),
+                new DeveloperWorkload("dev1", BugSeverity.HIGH, 2)
+        ));
+
+        List<DeveloperWorkloadDTO> workload = developerWorkloadService.getTeamWorkload("project1", "pm@example.com");
+
+        Assertions.assertEquals(List.of("dev2", "dev1"), workload.stream().map(DeveloperWorkloadDTO::getDeveloperId).toList());
+        Assertions.assertEquals(4, workload.get(0).getOpenBugs());
+        Assertions.assertEquals(Map.of(BugSeverity.CRITICAL, 1L, BugSeverity.LOW, 3L), workload.get(0).getOpenBugsBySeverity());
+        Assertions.assertEquals(2, workload.get(1).getOpenBugs());
+        verify(workloadRepository, times(1)).findByDeveloperIdIn(anyCollection());
+    }
+
+    @Test
+    void getTeamWorkload_NoProjectAccess_ThrowsUnauthorized() {
+        when(projectRepository.hasAccess("project1", "other@example.com")).thenReturn(false);
+
+        Assertions.assertThrows(UnauthorizedAccessException.class,
+                () -> developerWorkloadService.getTeamWorkload("project1", "other@example.com"));
+        verifyNoInteractions(userRepository, workloadRepository);
+    }
+
+    @Test
+    void refresh_RecountsOnlyGivenDevelopers() {
+        developerWorkloadService.refresh(List.of("dev2", "dev1"));
+
+        verify(workloadRepository).deleteByDeveloperIdIn(argThat(ids -> ids.size() == 2 && ids.contains("dev1")));
+        verify(workloadRepository).recount(argThat(ids -> ids.size() == 2 && ids.contains("dev2")));
+    }
+
+    private static User developer(String id) {
+        User user = new User();
+        user.setId(id);
+        user.setRole(UserRole.DEVELOPER);
+        return user;
+    }
+}
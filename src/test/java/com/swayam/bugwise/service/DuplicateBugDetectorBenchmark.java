@@ -0,0 +1,97 @@
+package com.swayam.bugwise.service;
+
+import com.swayam.bugwise.dto.DuplicateCandidateDTO;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Probe cost of the duplicate index over 100k and 1M synthetic bugs in one project, against a
+ * linear Hamming scan of the same fingerprints. Run with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.swayam.bugwise.service.DuplicateBugDetectorBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DuplicateBugDetectorBenchmark {
+    private static final String PROJECT = "project1";
+    private static final String[] WORDS = {
+            "login", "page", "crash", "submit", "button", "invoice", "total", "rounding", "report", "export",
+            "timeout", "dashboard", "filter", "search", "upload", "image", "profile", "settings", "email",
+            "notification", "payment", "checkout", "cart", "session", "token", "expired", "null", "pointer",
+            "exception", "layout", "mobile", "safari", "chrome", "slow", "query", "database", "index", "cache",
+            "permission", "denied", "role", "admin", "project", "manager", "developer", "assign", "status",
+            "closed", "reopened", "duplicate", "attachment", "comment", "markdown", "render", "font", "color"
+    };
+
+    @Param({"100000", "1000000"})
+    public int bugs;
+
+    private DuplicateBugDetector detector;
+    private long[] indexed;
+    private long[] probes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        detector = new DuplicateBugDetector(null, null, 3);
+        Random random = new Random(42);
+        indexed = new long[bugs];
+        for (int i = 0; i < bugs; i++) {
+            indexed[i] = detector.fingerprint(sentence(random, 6), sentence(random, 30));
+            detector.put(PROJECT, "bug" + i, indexed[i]);
+        }
+
+        probes = new long[1024];
+        for (int i = 0; i < probes.length; i++) {
+            // Half near-duplicates of indexed bugs, half unrelated text.
+            probes[i] = i % 2 == 0
+                    ? indexed[random.nextInt(bugs)] ^ (1L << random.nextInt(64))
+                    : detector.fingerprint(sentence(random, 6), sentence(random, 30));
+        }
+    }
+
+    @Benchmark
+    public List<DuplicateCandidateDTO> findDuplicates() {
+        return detector.findDuplicates(PROJECT, nextProbe());
+    }
+
+    @Benchmark
+    public int linearScan() {
+        long probe = nextProbe();
+        int matches = 0;
+        for (long fingerprint : indexed) {
+            if (Long.bitCount(probe ^ fingerprint) <= 3) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private long nextProbe() {
+        return probes[next++ & (probes.length - 1)];
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return text.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DuplicateBugDetectorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
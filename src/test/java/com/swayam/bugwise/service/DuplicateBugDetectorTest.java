@@ -0,0 +1,75 @@
+package com.swayam.bugwise.service;
+
+import com.swayam.bugwise.dto.DuplicateCandidateDTO;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class DuplicateBugDetectorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DuplicateBugDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        detector = new DuplicateBugDetector(jdbcTemplate, transactionManager, 3);
+    }
+
+    @Test
+    void findDuplicates_SameTextDifferentFormatting_ReturnsExistingBug() {
+        long existing = detector.fingerprint("Login page crashes on submit",
+                "Clicking the submit button on the login page throws a null pointer exception");
+        detector.put("project123", "bug123", existing);
+
+        long probe = detector.fingerprint("login page CRASHES on submit!",
+                "Clicking the submit button on the login page throws a null-pointer exception.");
+        List<DuplicateCandidateDTO> duplicates = detector.findDuplicates("project123", probe);
+
+        Assertions.assertEquals(1, duplicates.size());
+        Assertions.assertEquals("bug123", duplicates.get(0).getBugId());
+    }
+
+    @Test
+    void findDuplicates_UnrelatedTextOrOtherProject_ReturnsNothing() {
+        long existing = detector.fingerprint("Login page crashes on submit",
+                "Clicking the submit button on the login page throws a null pointer exception");
+        detector.put("project123", "bug123", existing);
+
+        long unrelated = detector.fingerprint("Invoice totals rounded incorrectly",
+                "Monthly invoices show totals off by one cent when tax is applied to discounted items");
+
+        Assertions.assertTrue(detector.findDuplicates("project123", unrelated).isEmpty());
+        Assertions.assertTrue(detector.findDuplicates("project456", existing).isEmpty());
+    }
+
+    @Test
+    void put_ReplacesPreviousFingerprint() {
+        long original = detector.fingerprint("Login page crashes on submit",
+                "Clicking the submit button on the login page throws a null pointer exception");
+        long edited = detector.fingerprint("Invoice totals rounded incorrectly",
+                "Monthly invoices show totals off by one cent when tax is applied to discounted items");
+        detector.put("project123", "bug123", original);
+        detector.put("project123", "bug123", edited);
+
+        Assertions.assertTrue(detector.findDuplicates("project123", original).isEmpty());
+        Assertions.assertEquals("bug123", detector.findDuplicates("project123", edited).get(0).getBugId());
+    }
+
+    @Test
+    void fingerprint_TooLittleText_IsNotIndexed() {
+        Assertions.assertEquals(0L, detector.fingerprint("Bug", null));
+    }
+}
@@ -16,6 +16,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.annotation.AnnotationCacheOperationSource;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.CacheInterceptor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.util.*;
 
@@ -117,6 +125,34 @@ public class OrganizationServiceTest {
                 () -> organizationService.getOrganization("org1", regularUser));
     }
 
+    @Test
+    void getOrganization_NonAdminAfterCacheHit_ShouldThrowUnauthorizedAccessException() {
+        when(organizationRepository.findById("org1")).thenReturn(Optional.of(organization));
+        User otherAdmin = new User();
+        otherAdmin.setId("user3");
+        otherAdmin.setRole(UserRole.ADMIN);
+        OrganizationService cachingService = withCaching(organizationService);
+
+        cachingService.getOrganization("org1", adminUser);
+        cachingService.getOrganization("org1", adminUser);
+
+        assertThrows(UnauthorizedAccessException.class,
+                () -> cachingService.getOrganization("org1", otherAdmin));
+        verify(organizationRepository, times(2)).findById("org1");
+    }
+
+    @Test
+    void deleteOrganization_EvictsCachedOrganization() {
+        when(organizationRepository.findById("org1")).thenReturn(Optional.of(organization));
+        OrganizationService cachingService = withCaching(organizationService);
+
+        cachingService.getOrganization("org1", adminUser);
+        cachingService.deleteOrganization("org1");
+        cachingService.getOrganization("org1", adminUser);
+
+        verify(organizationRepository, times(3)).findById("org1");
+    }
+
     @Test
     void getOrganization_WithNonExistentId_ShouldThrowNoSuchElementException() {
         when(organizationRepository.findById("invalid-id")).thenReturn(Optional.empty());
@@ -189,14 +225,18 @@ public class OrganizationServiceTest {
 
     @Test
     void getOrganizationStats_ShouldReturnCorrectStats() {
-        when(organizationRepository.findAll()).thenReturn(List.of(organization));
-
-        List<OrganizationStatsDTO> result = organizationService.getOrganizationStats();
-
-        assertEquals(1, result.size());
-        assertEquals(organizationStatsDTO.getOrganizationId(), result.get(0).getOrganizationId());
-        assertEquals(organizationStatsDTO.getMemberCount(), result.get(0).getMemberCount());
-        assertEquals(organizationStatsDTO.getProjectCount(), result.get(0).getProjectCount());
+        Pageable pageable = PageRequest.of(0, 50);
+        when(organizationRepository.findOrganizationStats(pageable))
+                .thenReturn(new PageImpl<>(List.of(organizationStatsDTO), pageable, 1));
+
+        Page<OrganizationStatsDTO> result = organizationService.getOrganizationStats(pageable, false);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(organizationStatsDTO.getOrganizationId(), result.getContent().get(0).getOrganizationId());
+        assertEquals(organizationStatsDTO.getMemberCount(), result.getContent().get(0).getMemberCount());
+        assertEquals(organizationStatsDTO.getProjectCount(), result.getContent().get(0).getProjectCount());
+        verify(organizationRepository, never()).findOrganizationStatsWithBugCounts(any());
+        verify(organizationRepository, never()).findAll();
     }
 
     @Test
@@ -241,4 +281,17 @@ public class OrganizationServiceTest {
 
         verify(organizationRepository).delete(organization);
     }
-}
\ No newline at end of file
+
+    private static OrganizationService withCaching(OrganizationService target) {
+        CacheInterceptor interceptor = new CacheInterceptor();
+        interceptor.setCacheOperationSource(new AnnotationCacheOperationSource());
+        interceptor.setCacheManager(new ConcurrentMapCacheManager());
+        interceptor.afterPropertiesSet();
+        interceptor.afterSingletonsInstantiated();
+
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(interceptor);
+        return (OrganizationService) proxyFactory.getProxy();
+    }
+}
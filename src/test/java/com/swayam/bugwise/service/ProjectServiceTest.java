@@ -1,7 +1,6 @@
 package com.swayam.bugwise.service;
 
 import com.swayam.bugwise.dto.*;
-import com.swayam.bugwise.entity.Bug;
 import com.swayam.bugwise.entity.Organization;
 import com.swayam.bugwise.entity.Project;
 import com.swayam.bugwise.entity.User;
@@ -44,6 +43,9 @@ public class ProjectServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private BugCounterService bugCounterService;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -230,14 +232,10 @@ public class ProjectServiceTest {
 
     @Test
     void getProjectStats_DeveloperRole_ReturnsAssignedBugStats() {
-        Bug openBug = new Bug();
-        openBug.setStatus(BugStatus.OPEN);
-        Bug fixedBug = new Bug();
-        fixedBug.setStatus(BugStatus.RESOLVED);
-        testProject.setBugs(Set.of(openBug, fixedBug));
-
         when(userRepository.findByEmail("dev@test.com")).thenReturn(Optional.of(developer));
         when(projectRepository.findByAssignedBugsDeveloperId("dev1")).thenReturn(List.of(testProject));
+        when(bugCounterService.getStatusCountsByProject(Set.of("proj1"))).thenReturn(Map.of(
+                "proj1", Map.of(BugStatus.OPEN, 1L, BugStatus.RESOLVED, 1L)));
 
         List<ProjectStatsDTO> result = projectService.getProjectStats("dev@test.com");
 
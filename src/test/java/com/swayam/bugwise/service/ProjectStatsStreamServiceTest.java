@@ -0,0 +1,113 @@
+package com.swayam.bugwise.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swayam.bugwise.dto.BugStatisticsDTO;
+import com.swayam.bugwise.dto.ProjectStatsUpdateDTO;
+import com.swayam.bugwise.enums.BugSeverity;
+import com.swayam.bugwise.enums.BugStatus;
+import com.swayam.bugwise.repository.jpa.ProjectBugCounterRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProjectStatsStreamServiceTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private ProjectBugCounterRepository counterRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ProjectStatsStreamService projectStatsStreamService;
+
+    @BeforeEach
+    void setUp() {
+        projectStatsStreamService = new ProjectStatsStreamService(messagingTemplate, counterRepository, redisTemplate,
+                objectMapper);
+    }
+
+    @Test
+    void flush_SendsCurrentCountsOncePerChangedProject() {
+        when(counterRepository.sumByStatusForProject("project1")).thenReturn(List.of(
+                new BugStatisticsDTO(BugStatus.OPEN, 5L),
+                new BugStatisticsDTO(BugStatus.RESOLVED, 3L)
+        ));
+        projectStatsStreamService.publishAfterCommit(Map.of(
+                new BugCounterService.CounterKey("project1", BugStatus.NEW, BugSeverity.HIGH), 1L));
+        projectStatsStreamService.publishAfterCommit(Map.of(
+                new BugCounterService.CounterKey("project1", BugStatus.NEW, BugSeverity.HIGH), -1L,
+                new BugCounterService.CounterKey("project1", BugStatus.OPEN, BugSeverity.HIGH), 1L));
+
+        projectStatsStreamService.flush();
+        projectStatsStreamService.flush();
+
+        ArgumentCaptor<ProjectStatsUpdateDTO> update = ArgumentCaptor.forClass(ProjectStatsUpdateDTO.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/project.project1.stats"), update.capture());
+        Assertions.assertEquals(5L, update.getValue().getCounts().get(BugStatus.OPEN));
+        Assertions.assertEquals(3L, update.getValue().getCounts().get(BugStatus.RESOLVED));
+        Assertions.assertEquals(0L, update.getValue().getCounts().get(BugStatus.NEW));
+        verify(redisTemplate, times(1)).convertAndSend(eq(ProjectStatsStreamService.STATS_CHANNEL), anyString());
+    }
+
+    @Test
+    void snapshot_ReturnsAbsoluteCountsForEveryStatus() {
+        when(counterRepository.sumByStatusForProject("project1")).thenReturn(List.of(
+                new BugStatisticsDTO(BugStatus.OPEN, 5L)
+        ));
+
+        ProjectStatsUpdateDTO snapshot = projectStatsStreamService.snapshot("project1");
+
+        Assertions.assertEquals(BugStatus.values().length, snapshot.getCounts().size());
+        Assertions.assertEquals(5L, snapshot.getCounts().get(BugStatus.OPEN));
+        Assertions.assertEquals(0L, snapshot.getCounts().get(BugStatus.CLOSED));
+        verifyNoInteractions(messagingTemplate, redisTemplate);
+    }
+
+    @Test
+    void onMessage_FromAnotherNode_ForwardsToLocalSubscribers() throws Exception {
+        ProjectStatsUpdateDTO update = new ProjectStatsUpdateDTO("project1", Map.of(BugStatus.OPEN, 2L));
+        String payload = objectMapper.writeValueAsString(new ProjectStatsStreamService.StatsMessage("other-node", update));
+
+        projectStatsStreamService.onMessage(new DefaultMessage(
+                ProjectStatsStreamService.STATS_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                payload.getBytes(StandardCharsets.UTF_8)), null);
+
+        verify(messagingTemplate).convertAndSend("/topic/project.project1.stats", update);
+    }
+
+    @Test
+    void onMessage_OwnBroadcast_IsIgnored() throws Exception {
+        when(counterRepository.sumByStatusForProject("project1")).thenReturn(List.of());
+        projectStatsStreamService.publishAfterCommit(Map.of(
+                new BugCounterService.CounterKey("project1", BugStatus.OPEN, BugSeverity.LOW), 1L));
+        projectStatsStreamService.flush();
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(ProjectStatsStreamService.STATS_CHANNEL), payload.capture());
+
+        projectStatsStreamService.onMessage(new DefaultMessage(
+                ProjectStatsStreamService.STATS_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                payload.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        verify(messagingTemplate, times(1)).convertAndSend(anyString(), any(Object.class));
+    }
+}
@@ -1,4 +1,79 @@
 package com.swayam.bugwise.service;
 
+import com.swayam.bugwise.dto.RoleCountDTO;
+import com.swayam.bugwise.entity.User;
+import com.swayam.bugwise.enums.UserRole;
+import com.swayam.bugwise.exception.UnauthorizedAccessException;
+import com.swayam.bugwise.repository.jpa.UserRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
 public class UserServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @InjectMocks
+    private UserService userService;
+
+    @Test
+    void getDescendantUserCount_Admin_UsesOneGroupedQuery() {
+        User admin = user("admin1", UserRole.ADMIN);
+        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(admin));
+        when(userRepository.countActiveUsersByRoleInAdministeredOrganizations(eq("admin1"), anyCollection()))
+                .thenReturn(List.of(
+                        new RoleCountDTO(UserRole.PROJECT_MANAGER, 3L),
+                        new RoleCountDTO(UserRole.DEVELOPER, 12L)
+                ));
+
+        Map<UserRole, Long> counts = userService.getDescendantUserCount("admin@example.com");
+
+        Assertions.assertEquals(3L, counts.get(UserRole.PROJECT_MANAGER));
+        Assertions.assertEquals(12L, counts.get(UserRole.DEVELOPER));
+        Assertions.assertEquals(0L, counts.get(UserRole.TESTER));
+        verify(userRepository, never()).countActiveAssigneesByRoleInManagedProjects(anyString(), anyCollection());
+    }
+
+    @Test
+    void getDescendantUserCount_ProjectManager_CountsBugAssignees() {
+        User manager = user("pm1", UserRole.PROJECT_MANAGER);
+        when(userRepository.findByEmail("pm@example.com")).thenReturn(Optional.of(manager));
+        when(userRepository.countActiveAssigneesByRoleInManagedProjects(eq("pm1"), anyCollection()))
+                .thenReturn(List.of(new RoleCountDTO(UserRole.TESTER, 2L)));
+
+        Map<UserRole, Long> counts = userService.getDescendantUserCount("pm@example.com");
+
+        Assertions.assertEquals(Map.of(UserRole.DEVELOPER, 0L, UserRole.TESTER, 2L), counts);
+    }
+
+    @Test
+    void getDescendantUserCount_Developer_ThrowsUnauthorized() {
+        when(userRepository.findByEmail("dev@example.com")).thenReturn(Optional.of(user("dev1", UserRole.DEVELOPER)));
+
+        Assertions.assertThrows(UnauthorizedAccessException.class,
+                () -> userService.getDescendantUserCount("dev@example.com"));
+    }
+
+    private static User user(String id, UserRole role) {
+        User user = new User();
+        user.setId(id);
+        user.setRole(role);
+        return user;
+    }
 }
@@ -0,0 +1,47 @@
+package com.swayam.bugwise.utils;
+
+import com.swayam.bugwise.enums.BugStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+/**
+ * Drift detection compares sums of {@link BugDocumentMapper#fingerprint} from Elasticsearch with
+ * sums of {@link BugDocumentMapper#FINGERPRINT_SQL} from Postgres, so both must agree bit for bit.
+ * The expected values follow the SQL definition: the first 32 bits of the md5 of
+ * {@code id|status|updated_at} (seconds precision), masked to 30 bits. They can be re-checked with
+ * {@code SELECT FINGERPRINT_SQL FROM (VALUES (...)) AS b(id, status, updated_at)}.
+ */
+public class BugDocumentMapperTest {
+    private static final String BUG_ID = "3f2b8c1e-4a5d-4e6f-9a7b-1c2d3e4f5a6b";
+
+    @Test
+    void fingerprint_MatchesSqlExpression() {
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 15, 10, 30, 45, 123_456_000);
+
+        Assertions.assertEquals(698638149, BugDocumentMapper.fingerprint(BUG_ID, BugStatus.IN_PROGRESS, updatedAt));
+        Assertions.assertEquals(102331574, BugDocumentMapper.fingerprint(BUG_ID, BugStatus.CLOSED, updatedAt));
+        Assertions.assertEquals(900454206, BugDocumentMapper.fingerprint(BUG_ID, null, null));
+        // Leading digest bit set: the SQL cast to bigint and the Java int must mask to the same value.
+        Assertions.assertEquals(542804489, BugDocumentMapper.fingerprint("bug-1", BugStatus.NEW,
+                LocalDateTime.of(1999, 12, 31, 23, 59, 59)));
+    }
+
+    @Test
+    void fingerprint_IgnoresSubSecondPrecision() {
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 15, 10, 30, 45);
+
+        Assertions.assertEquals(BugDocumentMapper.fingerprint(BUG_ID, BugStatus.OPEN, updatedAt),
+                BugDocumentMapper.fingerprint(BUG_ID, BugStatus.OPEN, updatedAt.withNano(999_999_000)));
+    }
+
+    @Test
+    void fingerprintSql_IsTheExpressionThePinnedValuesWereCheckedAgainst() {
+        // Changing either side of the contract must come with new values from Postgres.
+        Assertions.assertEquals(
+                "(CAST(CAST('x' || substr(md5(b.id || '|' || COALESCE(CAST(b.status AS VARCHAR), '') || '|' || " +
+                "COALESCE(to_char(b.updated_at, 'YYYY-MM-DD\"T\"HH24:MI:SS'), '')), 1, 8) AS bit(32)) AS bigint) & 1073741823)",
+                BugDocumentMapper.FINGERPRINT_SQL);
+    }
+}
@@ -0,0 +1,58 @@
+package com.swayam.bugwise.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+public class CsvRecordReaderTest {
+
+    @Test
+    void readRecord_PlainFields_SplitOnCommas() throws Exception {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,b,,d\ne,f,g,h\n"));
+
+        Assertions.assertEquals(List.of("a", "b", "", "d"), reader.readRecord());
+        Assertions.assertEquals(List.of("e", "f", "g", "h"), reader.readRecord());
+        Assertions.assertNull(reader.readRecord());
+    }
+
+    @Test
+    void readRecord_QuotedFields_KeepCommasAndUnescapeDoubledQuotes() throws Exception {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("\"Crash, on login\",\"He said \"\"no\"\"\",\"\"\n"));
+
+        Assertions.assertEquals(List.of("Crash, on login", "He said \"no\"", ""), reader.readRecord());
+        Assertions.assertNull(reader.readRecord());
+    }
+
+    @Test
+    void readRecord_QuotedLineBreaks_StayInsideTheField() throws Exception {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("id,\"line one\nline two\",x\r\nnext,y,z"));
+
+        Assertions.assertEquals(List.of("id", "line one\nline two", "x"), reader.readRecord());
+        Assertions.assertEquals(List.of("next", "y", "z"), reader.readRecord());
+        Assertions.assertNull(reader.readRecord());
+    }
+
+    @Test
+    void readRecord_CrLfOutsideQuotes_IsStripped() throws Exception {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,b\r\nc,d\r\n"));
+
+        Assertions.assertEquals(List.of("a", "b"), reader.readRecord());
+        Assertions.assertEquals(List.of("c", "d"), reader.readRecord());
+        Assertions.assertNull(reader.readRecord());
+    }
+
+    @Test
+    void readRecord_QuoteClosedAtEndOfInput_ReturnsLastField() throws Exception {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,\"b\""));
+
+        Assertions.assertEquals(List.of("a", "b"), reader.readRecord());
+        Assertions.assertNull(reader.readRecord());
+    }
+
+    @Test
+    void readRecord_EmptyInput_ReturnsNull() throws Exception {
+        Assertions.assertNull(new CsvRecordReader(new StringReader("")).readRecord());
+    }
+}
@@ -0,0 +1,40 @@
+package com.swayam.bugwise.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TransactionCallbacksTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void afterCommit_NoTransaction_RunsImmediately() {
+        AtomicInteger runs = new AtomicInteger();
+
+        TransactionCallbacks.afterCommit(runs::incrementAndGet);
+
+        Assertions.assertEquals(1, runs.get());
+    }
+
+    @Test
+    void afterCommit_ActiveTransaction_RunsOnlyOnCommit() {
+        AtomicInteger runs = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        TransactionCallbacks.afterCommit(runs::incrementAndGet);
+        Assertions.assertEquals(0, runs.get());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        Assertions.assertEquals(1, runs.get());
+    }
+}